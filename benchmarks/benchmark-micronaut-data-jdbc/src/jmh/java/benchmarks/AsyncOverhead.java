@@ -0,0 +1,59 @@
+package benchmarks;
+
+import example.AsyncBookRepository;
+import example.Book;
+import example.BookRepository;
+import example.ReactiveBookRepository;
+import io.micronaut.context.ApplicationContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+
+/**
+ * Measures the overhead of the asynchronous and reactive repositories over the same query executed synchronously.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 4)
+@Fork(1)
+public class AsyncOverhead {
+
+    ApplicationContext applicationContext;
+    BookRepository bookRepository;
+    AsyncBookRepository asyncBookRepository;
+    ReactiveBookRepository reactiveBookRepository;
+    Long id;
+
+    @Setup
+    public void prepare() {
+        this.applicationContext = ApplicationContext.build().packages("example").start();
+        this.bookRepository = applicationContext.getBean(BookRepository.class);
+        this.asyncBookRepository = applicationContext.getBean(AsyncBookRepository.class);
+        this.reactiveBookRepository = applicationContext.getBean(ReactiveBookRepository.class);
+        this.bookRepository.saveAll(Arrays.asList(
+                new Book("The Stand", 1000),
+                new Book("The Shining", 600)
+        ));
+        this.id = bookRepository.findByTitle("The Shining").getId();
+    }
+
+    @TearDown
+    public void cleanup() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public Book sync() {
+        return bookRepository.findById(id).orElse(null);
+    }
+
+    @Benchmark
+    public Book async() {
+        return asyncBookRepository.findById(id).join();
+    }
+
+    @Benchmark
+    public Book reactive() {
+        return reactiveBookRepository.findById(id).blockingGet();
+    }
+}
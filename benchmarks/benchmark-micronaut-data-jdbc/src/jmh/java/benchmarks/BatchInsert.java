@@ -0,0 +1,52 @@
+package benchmarks;
+
+import example.Book;
+import example.BookRepository;
+import io.micronaut.context.ApplicationContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures saving many entities at once, which sends the inserts to the database in JDBC batches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BatchInsert {
+
+    @Param({"1000", "100000"})
+    int rows;
+
+    ApplicationContext applicationContext;
+    BookRepository bookRepository;
+    List<Book> books;
+
+    @Setup
+    public void prepare() {
+        this.applicationContext = ApplicationContext.build().packages("example").start();
+        this.bookRepository = applicationContext.getBean(BookRepository.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void newBooks() {
+        bookRepository.deleteAll();
+        books = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            books.add(new Book("Book " + i, i));
+        }
+    }
+
+    @TearDown
+    public void cleanup() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public Iterable<Book> saveAll() {
+        return bookRepository.saveAll(books);
+    }
+}
@@ -0,0 +1,112 @@
+package benchmarks;
+
+import example.Article;
+import example.ArticleRepository;
+import example.Author;
+import example.AuthorRepository;
+import example.Book;
+import example.BookDTO;
+import example.BookRepository;
+import example.Measurement;
+import example.MeasurementRepository;
+import io.micronaut.context.ApplicationContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures the cost of mapping result sets to wide entities, join fetched one-to-many graphs and DTO projections.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+// the example.Measurement entity hides the JMH annotation
+@org.openjdk.jmh.annotations.Measurement(iterations = 4)
+@Fork(1)
+public class EntityMapping {
+
+    private static final int ROWS = 1000;
+
+    ApplicationContext applicationContext;
+    MeasurementRepository measurementRepository;
+    AuthorRepository authorRepository;
+    ArticleRepository articleRepository;
+    BookRepository bookRepository;
+
+    @Setup
+    public void prepare() {
+        this.applicationContext = ApplicationContext.build().packages("example").start();
+        this.measurementRepository = applicationContext.getBean(MeasurementRepository.class);
+        this.authorRepository = applicationContext.getBean(AuthorRepository.class);
+        this.articleRepository = applicationContext.getBean(ArticleRepository.class);
+        this.bookRepository = applicationContext.getBean(BookRepository.class);
+
+        List<Measurement> measurements = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            measurements.add(newMeasurement(i));
+        }
+        measurementRepository.saveAll(measurements);
+
+        // 100 authors with 10 articles each
+        List<Article> articles = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS / 10; i++) {
+            Author author = authorRepository.save(new Author("Author " + i));
+            for (int j = 0; j < 10; j++) {
+                articles.add(new Article("Article " + i + "-" + j, 100 + j, author));
+            }
+        }
+        articleRepository.saveAll(articles);
+
+        List<Book> books = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            books.add(new Book("Book " + i, 100 + i % 10));
+        }
+        bookRepository.saveAll(books);
+    }
+
+    @TearDown
+    public void cleanup() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public List<Measurement> wideEntities() {
+        return measurementRepository.findBySensor(1);
+    }
+
+    @Benchmark
+    public List<Author> joinFetchedOneToMany() {
+        return authorRepository.listAll();
+    }
+
+    @Benchmark
+    public List<BookDTO> dtoProjection() {
+        return bookRepository.findByPagesGreaterThan(0);
+    }
+
+    private static Measurement newMeasurement(int i) {
+        Measurement measurement = new Measurement();
+        measurement.setName("Measurement " + i);
+        measurement.setCode("M" + i);
+        measurement.setDescription("A measurement taken by a sensor");
+        measurement.setUnit("kPa");
+        measurement.setSource("station-" + (i % 7));
+        measurement.setCategory("pressure");
+        measurement.setSensor(1);
+        measurement.setChannel(i % 4);
+        measurement.setQuality(i % 100);
+        measurement.setRevision(1);
+        measurement.setSequence(i);
+        measurement.setBatch(i / 100);
+        measurement.setChecksum(i * 31L);
+        measurement.setValue(i * 1.5);
+        measurement.setMinimum(0);
+        measurement.setMaximum(i * 2.0);
+        measurement.setDeviation(0.25);
+        measurement.setCalibrated(i % 2 == 0);
+        measurement.setArchived(false);
+        measurement.setRecorded(LocalDateTime.of(2020, 1, 1, 0, 0).plusMinutes(i));
+        return measurement;
+    }
+}
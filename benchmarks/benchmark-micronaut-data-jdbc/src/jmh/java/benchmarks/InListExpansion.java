@@ -0,0 +1,50 @@
+package benchmarks;
+
+import example.Book;
+import example.BookRepository;
+import io.micronaut.context.ApplicationContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures queries with an IN clause, whose parameter placeholders are expanded for each list of values.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 4)
+@Fork(1)
+public class InListExpansion {
+
+    @Param({"1", "10", "100", "1000"})
+    int size;
+
+    ApplicationContext applicationContext;
+    BookRepository bookRepository;
+    List<Long> ids;
+
+    @Setup
+    public void prepare() {
+        this.applicationContext = ApplicationContext.build().packages("example").start();
+        this.bookRepository = applicationContext.getBean(BookRepository.class);
+        List<Book> books = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            books.add(new Book("Book " + i, i));
+        }
+        ids = new ArrayList<>(size);
+        for (Book book : bookRepository.saveAll(books)) {
+            ids.add(book.getId());
+        }
+    }
+
+    @TearDown
+    public void cleanup() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public List<Book> findByIdIn() {
+        return bookRepository.findByIdIn(ids);
+    }
+}
@@ -0,0 +1,51 @@
+package benchmarks;
+
+import example.Book;
+import example.BookRepository;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures reading pages at increasing offsets, including the count query of each page.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 4)
+@Fork(1)
+public class Pagination {
+
+    private static final int ROWS = 20000;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"0", "100", "999"})
+    int page;
+
+    ApplicationContext applicationContext;
+    BookRepository bookRepository;
+
+    @Setup
+    public void prepare() {
+        this.applicationContext = ApplicationContext.build().packages("example").start();
+        this.bookRepository = applicationContext.getBean(BookRepository.class);
+        List<Book> books = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            books.add(new Book("Book " + i, i));
+        }
+        bookRepository.saveAll(books);
+    }
+
+    @TearDown
+    public void cleanup() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public Page<Book> findPage() {
+        return bookRepository.findAll(Pageable.from(page, PAGE_SIZE));
+    }
+}
@@ -4,6 +4,7 @@ import example.Book;
 import example.BookRepository;
 import io.micronaut.context.ApplicationContext;
 import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
@@ -46,6 +47,7 @@ public class SimpleQuery {
     public static void main(String[] args) throws RunnerException {
         Options opt = new OptionsBuilder()
                 .include(".*" + SimpleQuery.class.getSimpleName() + ".*")
+                .addProfiler(GCProfiler.class)
                 .warmupIterations(3)
                 .measurementIterations(4)
                 .forks(1)
@@ -0,0 +1,52 @@
+package benchmarks;
+
+import example.Book;
+import example.BookRepository;
+import example.BookService;
+import io.micronaut.context.ApplicationContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+
+/**
+ * Measures the cost of entering a method annotated with {@code @Transactional}, with and without a query.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 4)
+@Fork(1)
+public class TransactionalEntry {
+
+    ApplicationContext applicationContext;
+    BookService bookService;
+
+    @Setup
+    public void prepare() {
+        this.applicationContext = ApplicationContext.build().packages("example").start();
+        this.bookService = applicationContext.getBean(BookService.class);
+        applicationContext.getBean(BookRepository.class).saveAll(Arrays.asList(
+                new Book("The Stand", 1000),
+                new Book("The Border", 700)
+        ));
+    }
+
+    @TearDown
+    public void cleanup() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public int emptyTransaction() {
+        return bookService.noop();
+    }
+
+    @Benchmark
+    public Book queryInTransaction() {
+        return bookService.findByTitle("The Border");
+    }
+
+    @Benchmark
+    public Book queryWithoutTransaction() {
+        return bookService.findByTitleWithoutTransaction("The Border");
+    }
+}
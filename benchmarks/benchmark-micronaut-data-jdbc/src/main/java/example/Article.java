@@ -0,0 +1,56 @@
+package example;
+
+import javax.persistence.*;
+
+@Entity
+public class Article {
+    @Id
+    @GeneratedValue
+    private Long id;
+    private String title;
+    private int words;
+
+    @ManyToOne
+    private Author author;
+
+    public Article(String title, int words, Author author) {
+        this.title = title;
+        this.words = words;
+        this.author = author;
+    }
+
+    public Article() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public int getWords() {
+        return words;
+    }
+
+    public void setWords(int words) {
+        this.words = words;
+    }
+
+    public Author getAuthor() {
+        return author;
+    }
+
+    public void setAuthor(Author author) {
+        this.author = author;
+    }
+}
@@ -0,0 +1,14 @@
+package example;
+
+import io.micronaut.data.annotation.Join;
+import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.repository.CrudRepository;
+
+import java.util.List;
+
+@JdbcRepository(dialect = Dialect.H2)
+public interface AuthorRepository extends CrudRepository<Author, Long> {
+    @Join("articles")
+    List<Author> listAll();
+}
@@ -0,0 +1,25 @@
+package example;
+
+import io.micronaut.core.annotation.Introspected;
+
+@Introspected
+public class BookDTO {
+    private String title;
+    private int pages;
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public int getPages() {
+        return pages;
+    }
+
+    public void setPages(int pages) {
+        this.pages = pages;
+    }
+}
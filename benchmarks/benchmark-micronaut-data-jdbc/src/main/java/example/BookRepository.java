@@ -2,9 +2,15 @@ package example;
 
 import io.micronaut.data.jdbc.annotation.JdbcRepository;
 import io.micronaut.data.model.query.builder.sql.Dialect;
-import io.micronaut.data.repository.CrudRepository;
+import io.micronaut.data.repository.PageableRepository;
+
+import java.util.List;
 
 @JdbcRepository(dialect = Dialect.H2)
-public interface BookRepository extends CrudRepository<Book, Long> {
+public interface BookRepository extends PageableRepository<Book, Long> {
     Book findByTitle(String title);
+
+    List<BookDTO> findByPagesGreaterThan(int pages);
+
+    List<Book> findByIdIn(List<Long> ids);
 }
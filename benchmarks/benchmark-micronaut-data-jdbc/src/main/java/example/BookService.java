@@ -0,0 +1,31 @@
+package example;
+
+import javax.inject.Singleton;
+import javax.transaction.Transactional;
+
+/**
+ * Service used to measure the cost of entering a transactional method.
+ */
+@Singleton
+public class BookService {
+
+    private final BookRepository bookRepository;
+
+    public BookService(BookRepository bookRepository) {
+        this.bookRepository = bookRepository;
+    }
+
+    @Transactional
+    public int noop() {
+        return 0;
+    }
+
+    @Transactional
+    public Book findByTitle(String title) {
+        return bookRepository.findByTitle(title);
+    }
+
+    public Book findByTitleWithoutTransaction(String title) {
+        return bookRepository.findByTitle(title);
+    }
+}
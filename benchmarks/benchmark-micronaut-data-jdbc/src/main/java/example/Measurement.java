@@ -0,0 +1,202 @@
+package example;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * An entity with many columns of different types, used to measure the cost of mapping wide rows.
+ */
+@Entity
+public class Measurement {
+    @Id
+    @GeneratedValue
+    private Long id;
+    private String name;
+    private String code;
+    private String description;
+    private String unit;
+    private String source;
+    private String category;
+    private int sensor;
+    private int channel;
+    private int quality;
+    private int revision;
+    private long sequence;
+    private long batch;
+    private long checksum;
+    private double value;
+    private double minimum;
+    private double maximum;
+    private double deviation;
+    private boolean calibrated;
+    private boolean archived;
+    private LocalDateTime recorded;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+
+    public void setUnit(String unit) {
+        this.unit = unit;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public int getSensor() {
+        return sensor;
+    }
+
+    public void setSensor(int sensor) {
+        this.sensor = sensor;
+    }
+
+    public int getChannel() {
+        return channel;
+    }
+
+    public void setChannel(int channel) {
+        this.channel = channel;
+    }
+
+    public int getQuality() {
+        return quality;
+    }
+
+    public void setQuality(int quality) {
+        this.quality = quality;
+    }
+
+    public int getRevision() {
+        return revision;
+    }
+
+    public void setRevision(int revision) {
+        this.revision = revision;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    public long getBatch() {
+        return batch;
+    }
+
+    public void setBatch(long batch) {
+        this.batch = batch;
+    }
+
+    public long getChecksum() {
+        return checksum;
+    }
+
+    public void setChecksum(long checksum) {
+        this.checksum = checksum;
+    }
+
+    public double getValue() {
+        return value;
+    }
+
+    public void setValue(double value) {
+        this.value = value;
+    }
+
+    public double getMinimum() {
+        return minimum;
+    }
+
+    public void setMinimum(double minimum) {
+        this.minimum = minimum;
+    }
+
+    public double getMaximum() {
+        return maximum;
+    }
+
+    public void setMaximum(double maximum) {
+        this.maximum = maximum;
+    }
+
+    public double getDeviation() {
+        return deviation;
+    }
+
+    public void setDeviation(double deviation) {
+        this.deviation = deviation;
+    }
+
+    public boolean isCalibrated() {
+        return calibrated;
+    }
+
+    public void setCalibrated(boolean calibrated) {
+        this.calibrated = calibrated;
+    }
+
+    public boolean isArchived() {
+        return archived;
+    }
+
+    public void setArchived(boolean archived) {
+        this.archived = archived;
+    }
+
+    public LocalDateTime getRecorded() {
+        return recorded;
+    }
+
+    public void setRecorded(LocalDateTime recorded) {
+        this.recorded = recorded;
+    }
+}
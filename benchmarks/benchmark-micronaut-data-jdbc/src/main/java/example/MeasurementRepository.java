@@ -0,0 +1,12 @@
+package example;
+
+import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.repository.CrudRepository;
+
+import java.util.List;
+
+@JdbcRepository(dialect = Dialect.H2)
+public interface MeasurementRepository extends CrudRepository<Measurement, Long> {
+    List<Measurement> findBySensor(int sensor);
+}
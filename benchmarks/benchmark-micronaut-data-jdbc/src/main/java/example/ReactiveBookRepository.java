@@ -0,0 +1,9 @@
+package example;
+
+import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.repository.reactive.RxJavaCrudRepository;
+
+@JdbcRepository(dialect = Dialect.H2)
+public interface ReactiveBookRepository extends RxJavaCrudRepository<Book, Long> {
+}
@@ -29,8 +29,11 @@ import io.micronaut.core.util.ArgumentUtils;
 import io.micronaut.core.util.ArrayUtils;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.data.annotation.QueryHint;
+import io.micronaut.data.exceptions.DataAccessException;
+import io.micronaut.data.intercept.annotation.DataMethod;
 import io.micronaut.data.jpa.annotation.EntityGraph;
 import io.micronaut.data.jpa.operations.JpaRepositoryOperations;
+import io.micronaut.data.model.CursoredPageable;
 import io.micronaut.data.model.Page;
 import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.Sort;
@@ -39,16 +42,25 @@ import io.micronaut.data.model.runtime.*;
 import io.micronaut.data.operations.async.AsyncCapableRepository;
 import io.micronaut.data.operations.reactive.ReactiveCapableRepository;
 import io.micronaut.data.operations.reactive.ReactiveRepositoryOperations;
+import io.micronaut.data.runtime.config.DataConfiguration;
 import io.micronaut.data.runtime.mapper.BeanIntrospectionMapper;
 import io.micronaut.data.runtime.operations.ExecutorAsyncOperations;
+import io.micronaut.data.runtime.operations.ParallelCount;
 import io.micronaut.data.runtime.operations.ExecutorReactiveOperations;
 import io.micronaut.jdbc.spring.HibernatePresenceCondition;
 import io.micronaut.transaction.TransactionOperations;
+import org.hibernate.FlushMode;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.CascadeStyle;
+import org.hibernate.engine.spi.CascadingActions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.graph.RootGraph;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.Query;
 
+import javax.inject.Inject;
 import javax.inject.Named;
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
@@ -58,7 +70,9 @@ import javax.persistence.criteria.*;
 import java.io.Serializable;
 import java.sql.Connection;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -77,6 +91,21 @@ import java.util.stream.Stream;
 @TypeHint(HibernatePresenceCondition.class)
 public class HibernateJpaOperations implements JpaRepositoryOperations, AsyncCapableRepository, ReactiveCapableRepository {
 
+    /**
+     * The session factory property that enables the bulk mode of {@link #persistAll(BatchOperation)} and
+     * {@link #deleteAll(BatchOperation)}, set to the number of entities to process per chunk.
+     * @since 1.0.1
+     */
+    public static final String BULK_SIZE = "micronaut.data.bulk_size";
+
+    /**
+     * The query hint that makes {@link #findStream(PreparedQuery)} read the results through a {@link StatelessSession},
+     * so that streamed entities are not retained by the persistence context. For example
+     * {@code @QueryHint(name = HibernateJpaOperations.HINT_STATELESS, value = "true")}.
+     * @since 1.0.1
+     */
+    public static final String HINT_STATELESS = "micronaut.data.stateless";
+
     private static final String ENTITY_GRAPH_FETCH = "javax.persistence.fetchgraph";
     private static final String ENTITY_GRAPH_LOAD = "javax.persistence.loadgraph";
     private static final JpaQueryBuilder QUERY_BUILDER = new JpaQueryBuilder();
@@ -84,6 +113,8 @@ public class HibernateJpaOperations implements JpaRepositoryOperations, AsyncCap
     private final TransactionOperations<Connection> transactionOperations;
     private ExecutorAsyncOperations asyncOperations;
     private ExecutorService executorService;
+    private final boolean parallelCount;
+    private final int bulkSize;
 
     /**
      * Default constructor.
@@ -96,10 +127,31 @@ public class HibernateJpaOperations implements JpaRepositoryOperations, AsyncCap
             @NonNull SessionFactory sessionFactory,
             @NonNull @Parameter TransactionOperations<Connection> transactionOperations,
             @Named("io") @Nullable ExecutorService executorService) {
+        this(sessionFactory, transactionOperations, executorService, null);
+    }
+
+    /**
+     * Default constructor.
+     *
+     * @param sessionFactory        The session factory
+     * @param transactionOperations The transaction operations
+     * @param executorService       The executor service for I/O tasks to use
+     * @param pageableConfiguration The pageable configuration
+     * @since 1.0.1
+     */
+    @Inject
+    protected HibernateJpaOperations(
+            @NonNull SessionFactory sessionFactory,
+            @NonNull @Parameter TransactionOperations<Connection> transactionOperations,
+            @Named("io") @Nullable ExecutorService executorService,
+            @Nullable DataConfiguration.PageableConfiguration pageableConfiguration) {
         ArgumentUtils.requireNonNull("sessionFactory", sessionFactory);
         this.sessionFactory = sessionFactory;
         this.transactionOperations = transactionOperations;
         this.executorService = executorService;
+        this.parallelCount = pageableConfiguration != null && pageableConfiguration.isParallelCount();
+        Object bulkSize = sessionFactory.getProperties().get(BULK_SIZE);
+        this.bulkSize = bulkSize != null ? ConversionService.SHARED.convert(bulkSize, Integer.class).orElse(0) : 0;
     }
 
     @NonNull
@@ -259,6 +311,14 @@ public class HibernateJpaOperations implements JpaRepositoryOperations, AsyncCap
             Pageable pageable = preparedQuery.getPageable();
             if (pageable != Pageable.UNPAGED) {
                 Sort sort = pageable.getSort();
+                if (isKeyset(pageable)) {
+                    AnnotationMetadata annotationMetadata = preparedQuery.getAnnotationMetadata();
+                    if (preparedQuery.isNative() || annotationMetadata.isTrue(io.micronaut.data.annotation.Query.class, DataMethod.META_MEMBER_RAW_QUERY)) {
+                        throw new DataAccessException("Keyset pagination is not supported for queries defined with @Query");
+                    }
+                    boolean hasWhereClause = annotationMetadata.isTrue(io.micronaut.data.annotation.Query.class, DataMethod.META_MEMBER_HAS_WHERE_CLAUSE);
+                    queryStr = QUERY_BUILDER.buildKeysetQuery(queryStr, hasWhereClause, getEntity(preparedQuery.getRootEntity()), sort).getQuery();
+                }
                 if (sort.isSorted()) {
                     queryStr += QUERY_BUILDER.buildOrderBy(getEntity(preparedQuery.getRootEntity()), sort).getQuery();
                 }
@@ -298,10 +358,42 @@ public class HibernateJpaOperations implements JpaRepositoryOperations, AsyncCap
 
     private <T, R> void bindPreparedQuery(Query<?> q, @NonNull PreparedQuery<T, R> preparedQuery, Session currentSession, String query) {
         bindParameters(q, preparedQuery, query);
-        bindPageable(q, preparedQuery.getPageable());
+        Pageable pageable = preparedQuery.getPageable();
+        if (isKeyset(pageable)) {
+            List<Object> cursor = resolveCursor(preparedQuery.getRootEntity(), (CursoredPageable) pageable);
+            for (int i = 0; i < cursor.size(); i++) {
+                q.setParameter(JpaQueryBuilder.CURSOR_PARAMETER_PREFIX + i, cursor.get(i));
+            }
+        }
+        bindPageable(q, pageable);
         bindQueryHints(q, preparedQuery, currentSession);
     }
 
+    private static boolean isKeyset(Pageable pageable) {
+        return pageable instanceof CursoredPageable && ((CursoredPageable) pageable).hasCursor();
+    }
+
+    private List<Object> resolveCursor(Class<?> rootEntity, CursoredPageable pageable) {
+        RuntimePersistentEntity<?> entity = getEntity(rootEntity);
+        List<Sort.Order> orders = pageable.getSort().getOrderBy();
+        List<Object> cursor = pageable.getCursor();
+        List<Object> values = new ArrayList<>(cursor.size());
+        for (int i = 0; i < cursor.size(); i++) {
+            String property = orders.get(i).getProperty();
+            RuntimePersistentProperty<?> persistentProperty = (RuntimePersistentProperty<?>) entity.getPropertyByPath(property)
+                    .orElseThrow(() -> new DataAccessException("Cannot sort on non-existent property path: " + property));
+            Class<?> type = persistentProperty.getType();
+            Object value = cursor.get(i);
+            if (value != null && !type.isInstance(value)) {
+                value = ConversionService.SHARED.convert(value, type).orElseThrow(() ->
+                        new DataAccessException("Cannot convert cursor value for property [" + property + "] to type: " + type)
+                );
+            }
+            values.add(value);
+        }
+        return values;
+    }
+
     private <T> void bindQueryHints(Query<?> q, @NonNull PagedQuery<T> preparedQuery, @NonNull Session session) {
         Map<String, Object> queryHints = preparedQuery.getQueryHints();
         if (CollectionUtils.isNotEmpty(queryHints)) {
@@ -363,6 +455,11 @@ public class HibernateJpaOperations implements JpaRepositoryOperations, AsyncCap
         return transactionOperations.executeWrite(status -> {
             if (operation != null) {
                 EntityManager entityManager = sessionFactory.getCurrentSession();
+                if (bulkSize > 0) {
+                    // only the persisted entities are detached, since the session may be shared with the caller
+                    persistInChunks(getCurrentSession(), operation);
+                    return operation;
+                }
                 for (T entity : operation) {
                     entityManager.persist(entity);
                 }
@@ -376,6 +473,100 @@ public class HibernateJpaOperations implements JpaRepositoryOperations, AsyncCap
         });
     }
 
+    /**
+     * Persists the entities in chunks of the bulk size. Each chunk is flushed as JDBC batches of the same size and its
+     * entities are detached afterwards, so that the persistence context doesn't grow with the number of entities while
+     * other entities of the session stay managed.
+     *
+     * @param session The session
+     * @param entities The entities
+     * @param <T> The entity type
+     */
+    private <T> void persistInChunks(Session session, Iterable<T> entities) {
+        Integer jdbcBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(bulkSize);
+        try {
+            List<T> chunk = new ArrayList<>(bulkSize);
+            for (T entity : entities) {
+                session.persist(entity);
+                chunk.add(entity);
+                if (chunk.size() == bulkSize) {
+                    flushAndDetach(session, chunk);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                flushAndDetach(session, chunk);
+            }
+        } finally {
+            session.setJdbcBatchSize(jdbcBatchSize);
+        }
+    }
+
+    /**
+     * Flushes the session and detaches the entities of the given chunk.
+     *
+     * @param session The session
+     * @param chunk The entities persisted since the last flush, emptied afterwards
+     * @param <T> The entity type
+     */
+    private <T> void flushAndDetach(Session session, List<T> chunk) {
+        session.flush();
+        for (T entity : chunk) {
+            session.detach(entity);
+        }
+        chunk.clear();
+    }
+
+    /**
+     * Deletes the entities with a single statement per chunk of the bulk size, restricting the identifiers.
+     * Returns {@code null} if the entities of the given type cannot be deleted in bulk, which is the case if deleting
+     * cascades to associations, the entity has collections or is versioned, or the identifier is composite.
+     *
+     * @param session The session
+     * @param entityType The entity type
+     * @param entities The entities
+     * @param <T> The entity type
+     * @return The number of deleted entities or {@code null} if the entities cannot be deleted in bulk
+     */
+    @Nullable
+    private <T> Integer deleteInChunks(Session session, Class<T> entityType, Iterable<T> entities) {
+        EntityPersister persister = sessionFactory.unwrap(SessionFactoryImplementor.class)
+                .getMetamodel()
+                .entityPersister(entityType);
+        String identifierName = persister.getIdentifierPropertyName();
+        if (identifierName == null || persister.getIdentifierType().isComponentType() ||
+                persister.isVersioned() || persister.hasCollections()) {
+            return null;
+        }
+        for (CascadeStyle cascadeStyle : persister.getPropertyCascadeStyles()) {
+            if (cascadeStyle.doCascade(CascadingActions.DELETE)) {
+                return null;
+            }
+        }
+        CriteriaBuilder criteriaBuilder = session.getCriteriaBuilder();
+        int deleted = 0;
+        Iterator<T> i = entities.iterator();
+        List<Object> ids = new ArrayList<>(bulkSize);
+        while (i.hasNext()) {
+            T entity = i.next();
+            Object id = sessionFactory.getPersistenceUnitUtil().getIdentifier(entity);
+            if (id != null) {
+                if (session.contains(entity)) {
+                    session.detach(entity);
+                }
+                ids.add(id);
+            }
+            if (!ids.isEmpty() && (ids.size() == bulkSize || !i.hasNext())) {
+                CriteriaDelete<T> criteriaDelete = criteriaBuilder.createCriteriaDelete(entityType);
+                Root<T> root = criteriaDelete.from(entityType);
+                criteriaDelete.where(root.get(identifierName).in(ids));
+                deleted += session.createQuery(criteriaDelete).executeUpdate();
+                ids.clear();
+            }
+        }
+        return deleted;
+    }
+
     private void flushIfNecessary(
             EntityManager entityManager,
             AnnotationMetadata annotationMetadata) {
@@ -416,6 +607,12 @@ public class HibernateJpaOperations implements JpaRepositoryOperations, AsyncCap
             Integer result = transactionOperations.executeWrite(status -> {
                 int i = 0;
                 Session session = getCurrentSession();
+                if (bulkSize > 0) {
+                    Integer deleted = deleteInChunks(session, operation.getRootEntity(), operation);
+                    if (deleted != null) {
+                        return deleted;
+                    }
+                }
                 for (T entity : operation) {
                     session.remove(entity);
                     i++;
@@ -432,9 +629,11 @@ public class HibernateJpaOperations implements JpaRepositoryOperations, AsyncCap
         //noinspection ConstantConditions
         return transactionOperations.executeRead(status -> {
             String query = preparedQuery.getQuery();
-            Map<String, Object> parameterValues = preparedQuery.getParameterValues();
             Pageable pageable = preparedQuery.getPageable();
             Session currentSession = getCurrentSession();
+            if (isStateless(preparedQuery)) {
+                return findStatelessStream(currentSession, preparedQuery);
+            }
             if (preparedQuery.isDtoProjection()) {
                 Query<Tuple> q;
 
@@ -467,6 +666,72 @@ public class HibernateJpaOperations implements JpaRepositoryOperations, AsyncCap
         });
     }
 
+    private boolean isStateless(@NonNull PagedQuery<?> pagedQuery) {
+        Object stateless = pagedQuery.getQueryHints().get(HINT_STATELESS);
+        return stateless != null && ConversionService.SHARED.convert(stateless, Boolean.class).orElse(false);
+    }
+
+    /**
+     * Streams the results of the query through a {@link StatelessSession} that shares the connection of the current
+     * session. Entities read this way are never added to a persistence context, hence lazy associations cannot be
+     * initialized after the entity was read. The stateless session is closed when the stream is closed.
+     *
+     * @param currentSession The current session
+     * @param preparedQuery The prepared query
+     * @param <T> The entity type
+     * @param <R> The result type
+     * @return The stream
+     */
+    private <T, R> Stream<R> findStatelessStream(Session currentSession, @NonNull PreparedQuery<T, R> preparedQuery) {
+        String query = preparedQuery.getQuery();
+        if (currentSession.getHibernateFlushMode() != FlushMode.MANUAL) {
+            // the stateless session doesn't see pending changes of the current session
+            currentSession.flush();
+        }
+        StatelessSession statelessSession = currentSession.doReturningWork(sessionFactory::openStatelessSession);
+        try {
+            Stream<R> stream;
+            if (preparedQuery.isDtoProjection()) {
+                Query<Tuple> q;
+                if (preparedQuery.isNative()) {
+                    q = statelessSession.createNativeQuery(query, Tuple.class);
+                } else {
+                    q = statelessSession.createQuery(query, Tuple.class);
+                }
+                bindStatelessQuery(q, preparedQuery, query);
+                stream = q.stream()
+                        .map(tuple -> ((BeanIntrospectionMapper<Tuple, R>) Tuple::get).map(tuple, preparedQuery.getResultType()));
+            } else {
+                Query<R> q;
+                @SuppressWarnings("unchecked")
+                Class<R> wrapperType = ReflectionUtils.getWrapperType(preparedQuery.getResultType());
+                if (preparedQuery.isNative()) {
+                    q = statelessSession.createNativeQuery(query, wrapperType);
+                } else {
+                    q = statelessSession.createQuery(query, wrapperType);
+                }
+                bindStatelessQuery(q, preparedQuery, query);
+                stream = q.stream();
+            }
+            return stream.onClose(statelessSession::close);
+        } catch (RuntimeException e) {
+            statelessSession.close();
+            throw e;
+        }
+    }
+
+    private <T, R> void bindStatelessQuery(Query<?> q, @NonNull PreparedQuery<T, R> preparedQuery, String query) {
+        bindParameters(q, preparedQuery, query);
+        bindPageable(q, preparedQuery.getPageable());
+        for (Map.Entry<String, Object> entry : preparedQuery.getQueryHints().entrySet()) {
+            String hintName = entry.getKey();
+            // entity graphs require a persistence context
+            if (!HINT_STATELESS.equals(hintName) && !ENTITY_GRAPH_FETCH.equals(hintName) && !ENTITY_GRAPH_LOAD.equals(hintName)) {
+                q.setHint(hintName, entry.getValue());
+            }
+        }
+    }
+
     @NonNull
     @Override
     public <T> Stream<T> findStream(@NonNull PagedQuery<T> pagedQuery) {
@@ -484,21 +749,66 @@ public class HibernateJpaOperations implements JpaRepositoryOperations, AsyncCap
 
     @Override
     public <R> Page<R> findPage(@NonNull PagedQuery<R> query) {
+        Class<R> entity = query.getRootEntity();
+        Pageable pageable = query.getPageable();
+        if (parallelCount && !isTransactionActive()) {
+            // no session to share so count in a separate session while the page is read
+            return ParallelCount.findPage(
+                    pageable,
+                    () -> transactionOperations.executeRead(status -> {
+                        Session session = getCurrentSession();
+                        return buildCriteriaQuery(session, entity, session.getCriteriaBuilder(), pageable).list();
+                    }),
+                    () -> count(entity),
+                    async().getExecutor()
+            );
+        }
         //noinspection ConstantConditions
         return transactionOperations.executeRead(status -> {
             Session session = getCurrentSession();
             CriteriaBuilder criteriaBuilder = session.getCriteriaBuilder();
-            Class<R> entity = query.getRootEntity();
-            Pageable pageable = query.getPageable();
             Query<R> q = buildCriteriaQuery(session, entity, criteriaBuilder, pageable);
             List<R> resultList = q.list();
+            long total = pageable.resolveTotalSize(resultList.size());
+            if (total < 0) {
+                total = count(entity);
+            }
+            return Page.of(resultList, pageable, total);
+        });
+    }
+
+    @NonNull
+    @Override
+    public <R> Page<R> findPage(
+            @NonNull PreparedQuery<?, R> preparedQuery,
+            @NonNull PreparedQuery<?, Number> countQuery,
+            @NonNull Pageable pageable) {
+        if (!parallelCount || isTransactionActive()) {
+            return JpaRepositoryOperations.super.findPage(preparedQuery, countQuery, pageable);
+        }
+        // no session to share so count in a separate session while the page is read
+        return ParallelCount.findPage(
+                pageable,
+                () -> CollectionUtils.iterableToList(findAll(preparedQuery)),
+                () -> findOne(countQuery),
+                async().getExecutor()
+        );
+    }
+
+    private long count(Class<?> entity) {
+        //noinspection ConstantConditions
+        return transactionOperations.executeRead(status -> {
+            CriteriaBuilder criteriaBuilder = getCurrentSession().getCriteriaBuilder();
             CriteriaQuery<Long> countQuery = criteriaBuilder.createQuery(Long.class);
             countQuery.select(criteriaBuilder.count(countQuery.from(entity)));
-            Long total = session.createQuery(countQuery).getSingleResult();
-            return Page.of(resultList, pageable, total);
+            return getCurrentSession().createQuery(countQuery).getSingleResult();
         });
     }
 
+    private boolean isTransactionActive() {
+        return ParallelCount.isTransactionActive(transactionOperations, sessionFactory);
+    }
+
     private Session getCurrentSession() {
         return sessionFactory.getCurrentSession();
     }
@@ -515,6 +825,9 @@ public class HibernateJpaOperations implements JpaRepositoryOperations, AsyncCap
     private <T> Query<T> buildCriteriaQuery(Session session, @NonNull Class<T> rootEntity, CriteriaBuilder criteriaBuilder, @NonNull Pageable pageable) {
         CriteriaQuery<T> query = criteriaBuilder.createQuery(rootEntity);
         Root<T> root = query.from(rootEntity);
+        if (isKeyset(pageable)) {
+            query.where(buildCriteriaKeyset(root, criteriaBuilder, pageable.getSort(), resolveCursor(rootEntity, (CursoredPageable) pageable)));
+        }
         bindCriteriaSort(query, root, criteriaBuilder, pageable);
         Query<T> q = session.createQuery(
                 query
@@ -523,6 +836,25 @@ public class HibernateJpaOperations implements JpaRepositoryOperations, AsyncCap
         return q;
     }
 
+    @SuppressWarnings("unchecked")
+    private Predicate buildCriteriaKeyset(Root<?> root, CriteriaBuilder builder, Sort sort, List<Object> cursor) {
+        // (c0 > v0) OR (c0 = v0 AND c1 > v1) ...
+        List<Sort.Order> orders = sort.getOrderBy();
+        Predicate[] alternatives = new Predicate[orders.size()];
+        for (int i = 0; i < orders.size(); i++) {
+            Predicate[] conditions = new Predicate[i + 1];
+            for (int j = 0; j < i; j++) {
+                conditions[j] = builder.equal(getPath(root, orders.get(j).getProperty()), cursor.get(j));
+            }
+            Sort.Order order = orders.get(i);
+            Expression<Comparable> path = getPath(root, order.getProperty());
+            Comparable value = (Comparable) cursor.get(i);
+            conditions[i] = order.getDirection() == Sort.Order.Direction.ASC ? builder.greaterThan(path, value) : builder.lessThan(path, value);
+            alternatives[i] = builder.and(conditions);
+        }
+        return builder.or(alternatives);
+    }
+
     private <T> void bindPageable(Query<T> q, @NonNull Pageable pageable) {
         if (pageable == Pageable.UNPAGED) {
             // no pagination
@@ -539,9 +871,30 @@ public class HibernateJpaOperations implements JpaRepositoryOperations, AsyncCap
         }
     }
 
+    /**
+     * Resolves a property path such as {@code author.name} one segment at a time, since {@link Root#get(String)} only
+     * accepts the name of a single attribute.
+     *
+     * @param root The root
+     * @param propertyPath The property path
+     * @param <X> The type of the property
+     * @return The path
+     */
+    @SuppressWarnings("unchecked")
+    private static <X> Path<X> getPath(Root<?> root, String propertyPath) {
+        Path<?> path = root;
+        int start = 0;
+        int i;
+        while ((i = propertyPath.indexOf('.', start)) > -1) {
+            path = path.get(propertyPath.substring(start, i));
+            start = i + 1;
+        }
+        return (Path<X>) path.get(propertyPath.substring(start));
+    }
+
     private <T> void bindCriteriaSort(CriteriaQuery<T> criteriaQuery, Root<?> root, CriteriaBuilder builder, @NonNull Sort sort) {
         for (Sort.Order order : sort.getOrderBy()) {
-            Path<String> path = root.get(order.getProperty());
+            Path<String> path = getPath(root, order.getProperty());
             Expression expression = order.isIgnoreCase() ? builder.lower(path) : path;
             switch (order.getDirection()) {
 
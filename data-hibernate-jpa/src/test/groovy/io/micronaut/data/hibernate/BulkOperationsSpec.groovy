@@ -0,0 +1,103 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.hibernate
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.data.hibernate.operations.HibernateJpaOperations
+import io.micronaut.data.tck.entities.Person
+import io.micronaut.test.annotation.MicronautTest
+import io.micronaut.transaction.SynchronousTransactionManager
+import spock.lang.Shared
+import spock.lang.Specification
+
+import javax.inject.Inject
+import java.sql.Connection
+
+@MicronautTest(transactional = false, packages = "io.micronaut.data.tck.entities")
+@Property(name = "datasources.default.name", value = "mydb")
+@Property(name = 'jpa.default.properties.hibernate.hbm2ddl.auto', value = 'create-drop')
+@Property(name = 'jpa.default.properties.micronaut.data.bulk_size', value = '2')
+class BulkOperationsSpec extends Specification {
+
+    @Inject
+    @Shared
+    PersonCrudRepository crudRepository
+
+    @Inject
+    @Shared
+    HibernateJpaOperations operations
+
+    @Inject
+    @Shared
+    SynchronousTransactionManager<Connection> transactionManager
+
+    void "test save all persists the entities in chunks"() {
+        given:
+        List<Person> people = (1..5).collect { new Person(name: "Person $it") }
+
+        when:"more entities than the bulk size are saved"
+        crudRepository.saveAll(people)
+
+        then:"all are saved"
+        people.every { it.id != null }
+        crudRepository.count() == 5
+
+        cleanup:
+        crudRepository.deleteAll()
+    }
+
+    void "test save all within a transaction detaches the saved entities only"() {
+        given:
+        Person loaded = crudRepository.save(new Person(name: "Loaded"))
+        List<Person> people = (1..5).collect { new Person(name: "Person $it") }
+
+        when:"more entities than the bulk size are saved within a transaction"
+        Map<String, Object> state = transactionManager.executeWrite {
+            Person existing = operations.currentEntityManager.find(Person, loaded.id)
+            crudRepository.saveAll(people)
+            [
+                    saved: people.collect { operations.currentEntityManager.contains(it) },
+                    existing: operations.currentEntityManager.contains(existing)
+            ]
+        }
+
+        then:"all are saved and detached from the session of the transaction"
+        people.every { it.id != null }
+        crudRepository.count() == 6
+        state.saved.every { !it }
+
+        and:"entities loaded by the caller stay managed"
+        state.existing
+
+        cleanup:
+        crudRepository.deleteAll()
+    }
+
+    void "test delete all deletes by identifier in chunks"() {
+        given:
+        List<Person> people = crudRepository.saveAll((1..5).collect { new Person(name: "Person $it") }).toList()
+
+        when:"several entities are deleted"
+        crudRepository.deleteAll(people.take(3))
+
+        then:"only those are deleted"
+        crudRepository.count() == 2
+        crudRepository.findAll()*.id.sort() == people.drop(3)*.id.sort()
+
+        cleanup:
+        crudRepository.deleteAll()
+    }
+}
@@ -16,6 +16,9 @@
 package io.micronaut.data.hibernate
 
 import io.micronaut.context.annotation.Property
+import io.micronaut.data.model.CursoredPageable
+import io.micronaut.data.model.Page
+import io.micronaut.data.model.Sort
 import io.micronaut.data.tck.entities.Book
 import io.micronaut.data.tck.tests.AbstractQuerySpec
 import io.micronaut.test.annotation.MicronautTest
@@ -54,6 +57,21 @@ class HibernateQuerySpec extends AbstractQuerySpec {
         author.books.size() == 2
     }
 
+    void "test keyset pagination on the property of an association"() {
+        given:
+        def sort = Sort.of([Sort.Order.asc("author.name"), Sort.Order.asc("id")])
+
+        when:"the books are paged with a cursor on the name of their author"
+        Page<Book> page = br.findAll(CursoredPageable.from(3, sort))
+        Page<Book> nextPage = br.findAll(page.nextPageable())
+
+        then:"the next page follows the first"
+        page.content.size() == 3
+        nextPage.content.size() == 3
+        nextPage.content[0].author.name >= page.content[2].author.name
+        !nextPage.content*.id.any { it in page.content*.id }
+    }
+
     @Override
     BookRepository getBookRepository() {
         return br
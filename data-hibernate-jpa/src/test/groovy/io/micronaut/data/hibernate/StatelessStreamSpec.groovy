@@ -0,0 +1,91 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.hibernate
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.data.hibernate.operations.HibernateJpaOperations
+import io.micronaut.data.tck.entities.Person
+import io.micronaut.test.annotation.MicronautTest
+import io.micronaut.transaction.SynchronousTransactionManager
+import spock.lang.Shared
+import spock.lang.Specification
+
+import javax.inject.Inject
+import java.sql.Connection
+import java.util.stream.Collectors
+
+@MicronautTest(transactional = false, packages = "io.micronaut.data.tck.entities")
+@Property(name = "datasources.default.name", value = "mydb")
+@Property(name = 'jpa.default.properties.hibernate.hbm2ddl.auto', value = 'create-drop')
+class StatelessStreamSpec extends Specification {
+
+    @Inject
+    @Shared
+    PersonCrudRepository crudRepository
+
+    @Inject
+    @Shared
+    HibernateJpaOperations operations
+
+    @Inject
+    @Shared
+    SynchronousTransactionManager<Connection> transactionManager
+
+    void setupSpec() {
+        crudRepository.saveAll((1..5).collect { new Person(name: "Person $it") })
+    }
+
+    void "test stream retains entities in the persistence context"() {
+        when:
+        List<Boolean> managed = transactionManager.executeRead {
+            crudRepository.searchByNameLike("Person%")
+                    .map({ operations.currentEntityManager.contains(it) })
+                    .collect(Collectors.toList())
+        }
+
+        then:
+        managed.size() == 5
+        managed.every { it }
+    }
+
+    void "test stateless stream doesn't retain entities in the persistence context"() {
+        when:
+        List<Person> people = []
+        List<Boolean> managed = transactionManager.executeRead {
+            crudRepository.readByNameLike("Person%").withCloseable { stream ->
+                stream.peek({ people.add(it) })
+                        .map({ operations.currentEntityManager.contains(it) })
+                        .collect(Collectors.toList())
+            }
+        }
+
+        then:
+        people*.name.sort() == (1..5).collect { "Person $it".toString() }
+        managed.size() == 5
+        managed.every { !it }
+    }
+
+    void "test stateless stream sees pending changes of the current session"() {
+        when:
+        long count = transactionManager.executeWrite {
+            operations.currentEntityManager.persist(new Person(name: "Person 6"))
+            crudRepository.readByNameLike("Person%").withCloseable { it.count() }
+        }
+
+        then:
+        count == 6
+    }
+}
@@ -16,6 +16,8 @@
 package io.micronaut.data.hibernate;
 
 import io.micronaut.data.annotation.Query;
+import io.micronaut.data.annotation.QueryHint;
+import io.micronaut.data.hibernate.operations.HibernateJpaOperations;
 import io.micronaut.data.annotation.Repository;
 import io.micronaut.data.jpa.repository.JpaRepository;
 import io.micronaut.data.model.Page;
@@ -26,6 +28,7 @@ import io.reactivex.Single;
 
 import javax.transaction.Transactional;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 @Transactional
@@ -45,4 +48,9 @@ public interface PersonCrudRepository extends JpaRepository<Person, Long>, Perso
             countQuery = "SELECT COUNT(u) FROM Person u WHERE u.age > :age"
     )
     Single<Page<Person>> find(int age, Pageable pageable);
+
+    Stream<Person> searchByNameLike(String name);
+
+    @QueryHint(name = HibernateJpaOperations.HINT_STATELESS, value = "true")
+    Stream<Person> readByNameLike(String name);
 }
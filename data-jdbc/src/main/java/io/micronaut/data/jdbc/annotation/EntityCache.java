@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Marks a mapped entity whose instances are cached by ID when retrieved with a {@code findById} query.
+ *
+ * <p>Cached instances are shared between callers and should therefore not be modified. The cache is invalidated by any
+ * update or delete of the entity made through the repository operations, but not by SQL executed directly.</p>
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+@Documented
+@Target(TYPE)
+@Retention(RUNTIME)
+public @interface EntityCache {
+
+    /**
+     * @return The name of the cache region, defaults to the entity name
+     */
+    String region() default "";
+
+    /**
+     * @return The maximum number of entities kept in the region
+     */
+    int maxSize() default 1000;
+
+    /**
+     * @return The duration after which a cached entity expires, for example {@code 10m}. Defaults to never.
+     */
+    String expireAfterWrite() default "";
+}
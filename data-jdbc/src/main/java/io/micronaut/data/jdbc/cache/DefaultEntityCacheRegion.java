@@ -0,0 +1,171 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.cache;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.micronaut.core.util.ArgumentUtils;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The default {@link EntityCacheRegion} that evicts the least recently used entities once the maximum size is reached
+ * and expires entities a fixed duration after they were cached.
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+public class DefaultEntityCacheRegion implements EntityCacheRegion {
+
+    private final String name;
+    private final int maxSize;
+    private final long expireAfterWriteNanos;
+    private final LinkedHashMap<Object, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Default constructor.
+     *
+     * @param name The name of the region
+     * @param maxSize The maximum number of entities in the region
+     * @param expireAfterWrite The duration after which an entity expires, or {@code null} if it never expires
+     */
+    public DefaultEntityCacheRegion(@NonNull String name, int maxSize, @Nullable Duration expireAfterWrite) {
+        ArgumentUtils.requireNonNull("name", name);
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Maximum size of entity cache region [" + name + "] must be greater than 0");
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.expireAfterWriteNanos = expireAfterWrite != null && !expireAfterWrite.isNegative() && !expireAfterWrite.isZero() ?
+                expireAfterWrite.toNanos() : -1;
+        this.entries = new LinkedHashMap<Object, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+                if (size() > DefaultEntityCacheRegion.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @NonNull
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The maximum number of entities in the region
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return The number of cached entities, including expired entities that were not yet removed
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * @return The number of times a cached entity was returned.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of times an entity was not cached.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The number of entities removed to make room for others.
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    @Nullable
+    @Override
+    public Object get(@NonNull Object id) {
+        synchronized (entries) {
+            Entry entry = entries.get(id);
+            if (entry != null) {
+                if (entry.isExpired()) {
+                    entries.remove(id);
+                } else {
+                    hits.increment();
+                    return entry.entity;
+                }
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    @Override
+    public void put(@NonNull Object id, @NonNull Object entity) {
+        long expiresAt = expireAfterWriteNanos > 0 ? System.nanoTime() + expireAfterWriteNanos : 0;
+        synchronized (entries) {
+            entries.put(id, new Entry(entity, expiresAt));
+        }
+    }
+
+    @Override
+    public void invalidate(@NonNull Object id) {
+        synchronized (entries) {
+            entries.remove(id);
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * A cached entity.
+     */
+    private static final class Entry {
+        final Object entity;
+        final long expiresAt;
+
+        Entry(Object entity, long expiresAt) {
+            this.entity = entity;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired() {
+            return expiresAt != 0 && System.nanoTime() - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.cache;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * A region of the entity cache holding the instances of one entity type by ID. Implementations decide which
+ * entities to evict and must be thread safe.
+ *
+ * @author agent
+ * @since 1.0.1
+ * @see io.micronaut.data.jdbc.annotation.EntityCache
+ */
+public interface EntityCacheRegion {
+
+    /**
+     * @return The name of the region
+     */
+    @NonNull
+    String getName();
+
+    /**
+     * Looks up a cached entity.
+     *
+     * @param id The ID
+     * @return The entity or {@code null} if it is not cached
+     */
+    @Nullable
+    Object get(@NonNull Object id);
+
+    /**
+     * Caches an entity.
+     *
+     * @param id The ID
+     * @param entity The entity
+     */
+    void put(@NonNull Object id, @NonNull Object entity);
+
+    /**
+     * Removes an entity from the region.
+     *
+     * @param id The ID
+     */
+    void invalidate(@NonNull Object id);
+
+    /**
+     * Removes all entities from the region.
+     */
+    void invalidateAll();
+}
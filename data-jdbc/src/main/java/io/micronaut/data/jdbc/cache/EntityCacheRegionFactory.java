@@ -0,0 +1,43 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.cache;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+import java.time.Duration;
+
+/**
+ * Creates the regions of the entity cache. Register a bean of this type to replace the default eviction policy,
+ * for example with a region backed by a dedicated caching library.
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+@FunctionalInterface
+public interface EntityCacheRegionFactory {
+
+    /**
+     * Creates a region.
+     *
+     * @param name The name of the region
+     * @param maxSize The maximum number of entities in the region
+     * @param expireAfterWrite The duration after which an entity expires, or {@code null} if it never expires
+     * @return The region
+     */
+    @NonNull
+    EntityCacheRegion createRegion(@NonNull String name, int maxSize, @Nullable Duration expireAfterWrite);
+}
@@ -15,13 +15,16 @@
  */
 package io.micronaut.data.jdbc.config;
 
+import edu.umd.cs.findbugs.annotations.Nullable;
 import io.micronaut.context.annotation.EachProperty;
 import io.micronaut.context.annotation.Parameter;
 import io.micronaut.core.naming.Named;
 import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.runtime.config.ExecutorStrategy;
 import io.micronaut.data.runtime.config.SchemaGenerate;
 
 import javax.annotation.Nonnull;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -38,10 +41,36 @@ public class DataJdbcConfiguration implements Named {
      */
     public static final String PREFIX = "datasources";
 
+    /**
+     * The default maximum number of statements sent to the database in a single JDBC batch.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    /**
+     * The default fraction of queries timed to detect slow queries.
+     */
+    public static final double DEFAULT_SLOW_QUERY_SAMPLE_RATE = 0.1;
+
+    /**
+     * The default maximum number of slow queries kept.
+     */
+    public static final int DEFAULT_SLOW_QUERY_LOG_SIZE = 100;
+
     private SchemaGenerate schemaGenerate = SchemaGenerate.NONE;
     private boolean batchGenerate = false;
     private Dialect dialect = Dialect.ANSI;
     private List<String> packages = new ArrayList<>(3);
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private int statementCacheSize;
+    private int fetchSize;
+    private int maxRows;
+    private int queryTimeout;
+    private ExecutorStrategy asyncExecutor = ExecutorStrategy.IO;
+    private int asyncMaxConcurrency;
+    private Duration slowQueryThreshold;
+    private double slowQuerySampleRate = DEFAULT_SLOW_QUERY_SAMPLE_RATE;
+    private int slowQueryLogSize = DEFAULT_SLOW_QUERY_LOG_SIZE;
+    private boolean nonTransactionalReads = false;
     private final String name;
 
     /**
@@ -115,6 +144,193 @@ public class DataJdbcConfiguration implements Named {
         this.dialect = dialect;
     }
 
+    /**
+     * @return The maximum number of statements sent to the database in a single JDBC batch.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the maximum number of statements sent to the database in a single JDBC batch. Default value ({@value #DEFAULT_BATCH_SIZE}).
+     * @param batchSize The batch size
+     */
+    public void setBatchSize(int batchSize) {
+        if (batchSize > 0) {
+            this.batchSize = batchSize;
+        }
+    }
+
+    /**
+     * @return The maximum number of prepared statements cached per connection, or 0 if caching is disabled.
+     * @since 1.0.1
+     */
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
+    /**
+     * Sets the maximum number of prepared statements cached per connection. Default value (0, disabled).
+     * Only enable this if the connection pool does not already cache statements.
+     * @param statementCacheSize The statement cache size
+     */
+    public void setStatementCacheSize(int statementCacheSize) {
+        this.statementCacheSize = Math.max(0, statementCacheSize);
+    }
+
+    /**
+     * @return The number of rows fetched from the database at a time when reading multiple results, or 0 to use the driver default.
+     * @since 1.0.1
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * Sets the number of rows fetched from the database at a time when reading multiple results. Default value (0, driver default).
+     * @param fetchSize The fetch size
+     */
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = Math.max(0, fetchSize);
+    }
+
+    /**
+     * @return The maximum number of rows read by queries returning multiple results, or 0 if unlimited.
+     * @since 1.0.1
+     */
+    public int getMaxRows() {
+        return maxRows;
+    }
+
+    /**
+     * Sets the maximum number of rows read by queries returning multiple results. Default value (0, unlimited).
+     * @param maxRows The maximum number of rows
+     */
+    public void setMaxRows(int maxRows) {
+        this.maxRows = Math.max(0, maxRows);
+    }
+
+    /**
+     * @return The number of seconds a statement may execute before it is cancelled, or 0 if unlimited.
+     * @since 1.0.1
+     */
+    public int getQueryTimeout() {
+        return queryTimeout;
+    }
+
+    /**
+     * Sets the number of seconds a statement may execute before it is cancelled. Default value (0, unlimited).
+     * @param queryTimeout The query timeout in seconds
+     */
+    public void setQueryTimeout(int queryTimeout) {
+        this.queryTimeout = Math.max(0, queryTimeout);
+    }
+
+    /**
+     * @return The strategy for executing the operations of asynchronous and reactive repositories.
+     * @since 1.0.1
+     */
+    public ExecutorStrategy getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    /**
+     * Sets the strategy for executing the operations of asynchronous and reactive repositories. Default value (IO).
+     * @param asyncExecutor The executor strategy
+     */
+    public void setAsyncExecutor(ExecutorStrategy asyncExecutor) {
+        if (asyncExecutor != null) {
+            this.asyncExecutor = asyncExecutor;
+        }
+    }
+
+    /**
+     * @return The maximum number of asynchronous and reactive operations executed at the same time, or 0 if unlimited.
+     * @since 1.0.1
+     */
+    public int getAsyncMaxConcurrency() {
+        return asyncMaxConcurrency;
+    }
+
+    /**
+     * Sets the maximum number of asynchronous and reactive operations executed at the same time. Further operations
+     * wait without blocking a thread. Typically set to the maximum size of the connection pool. Default value (0, unlimited).
+     * With the BOUNDED executor strategy this is also the number of threads.
+     * @param asyncMaxConcurrency The maximum concurrency
+     */
+    public void setAsyncMaxConcurrency(int asyncMaxConcurrency) {
+        this.asyncMaxConcurrency = Math.max(0, asyncMaxConcurrency);
+    }
+
+    /**
+     * @return The time after which a query is considered slow, or {@code null} if slow queries are not recorded.
+     * @since 1.0.1
+     */
+    public @Nullable Duration getSlowQueryThreshold() {
+        return slowQueryThreshold;
+    }
+
+    /**
+     * Sets the time after which a query is recorded in the {@link io.micronaut.data.jdbc.diagnostics.SlowQueryLog}
+     * of the data source. The time includes preparing the statement, executing it and reading its results.
+     * Default value (null, slow queries are not recorded).
+     * @param slowQueryThreshold The slow query threshold
+     */
+    public void setSlowQueryThreshold(@Nullable Duration slowQueryThreshold) {
+        this.slowQueryThreshold = slowQueryThreshold;
+    }
+
+    /**
+     * @return The fraction of queries that are timed to detect slow queries.
+     * @since 1.0.1
+     */
+    public double getSlowQuerySampleRate() {
+        return slowQuerySampleRate;
+    }
+
+    /**
+     * Sets the fraction of queries, between 0 and 1, that are timed to detect slow queries. Queries that are not
+     * sampled are not timed at all. Default value ({@value #DEFAULT_SLOW_QUERY_SAMPLE_RATE}).
+     * @param slowQuerySampleRate The sample rate
+     */
+    public void setSlowQuerySampleRate(double slowQuerySampleRate) {
+        this.slowQuerySampleRate = Math.min(1, Math.max(0, slowQuerySampleRate));
+    }
+
+    /**
+     * @return The maximum number of slow queries kept.
+     * @since 1.0.1
+     */
+    public int getSlowQueryLogSize() {
+        return slowQueryLogSize;
+    }
+
+    /**
+     * Sets the maximum number of slow queries kept. Once full, the oldest slow query is replaced.
+     * Default value ({@value #DEFAULT_SLOW_QUERY_LOG_SIZE}).
+     * @param slowQueryLogSize The size of the slow query log
+     */
+    public void setSlowQueryLogSize(int slowQueryLogSize) {
+        this.slowQueryLogSize = Math.max(1, slowQueryLogSize);
+    }
+
+    /**
+     * @return Whether reads outside of a transaction are executed without starting one.
+     * @since 1.0.1
+     */
+    public boolean isNonTransactionalReads() {
+        return nonTransactionalReads;
+    }
+
+    /**
+     * Sets whether reads outside of a transaction are executed on a connection in auto-commit mode instead of starting
+     * a read-only transaction for each query. Default value (false).
+     * @param nonTransactionalReads Whether to execute reads without a transaction
+     */
+    public void setNonTransactionalReads(boolean nonTransactionalReads) {
+        this.nonTransactionalReads = nonTransactionalReads;
+    }
+
     @Nonnull
     @Override
     public String getName() {
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.diagnostics;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.micronaut.data.model.DataType;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A query recorded by a {@link SlowQueryLog}. Only the types of the parameters are kept, never their values.
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+public final class SlowQuery {
+
+    private final Class<?> repositoryType;
+    private final String method;
+    private final String sql;
+    private final List<DataType> parameterTypes;
+    private final long rows;
+    private final Duration elapsed;
+    private final Instant timestamp;
+
+    /**
+     * Default constructor.
+     *
+     * @param repositoryType The repository type
+     * @param method The name of the repository method
+     * @param sql The executed SQL
+     * @param parameterTypes The types of the bound parameters
+     * @param rows The number of rows read or updated
+     * @param elapsed The time taken
+     * @param timestamp The time the query completed
+     */
+    public SlowQuery(
+            @NonNull Class<?> repositoryType,
+            @NonNull String method,
+            @NonNull String sql,
+            @NonNull List<DataType> parameterTypes,
+            long rows,
+            @NonNull Duration elapsed,
+            @NonNull Instant timestamp) {
+        this.repositoryType = repositoryType;
+        this.method = method;
+        this.sql = sql;
+        this.parameterTypes = parameterTypes;
+        this.rows = rows;
+        this.elapsed = elapsed;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * @return The repository type
+     */
+    public @NonNull Class<?> getRepositoryType() {
+        return repositoryType;
+    }
+
+    /**
+     * @return The name of the repository method
+     */
+    public @NonNull String getMethod() {
+        return method;
+    }
+
+    /**
+     * @return The executed SQL
+     */
+    public @NonNull String getSql() {
+        return sql;
+    }
+
+    /**
+     * @return The types of the bound parameters
+     */
+    public @NonNull List<DataType> getParameterTypes() {
+        return parameterTypes;
+    }
+
+    /**
+     * @return The number of rows read or updated
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * @return The time taken to prepare and execute the statement and to read its results
+     */
+    public @NonNull Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * @return The time the query completed
+     */
+    public @NonNull Instant getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return method + " took " + elapsed.toMillis() + "ms for " + rows + " rows: " + sql;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.diagnostics;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.micronaut.context.annotation.EachBean;
+import io.micronaut.data.jdbc.config.DataJdbcConfiguration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Keeps the most recent slow queries of a data source in a bounded ring buffer. Enabled by setting the
+ * {@link DataJdbcConfiguration#getSlowQueryThreshold() slow query threshold} of the data source.
+ *
+ * <p>Only a {@link DataJdbcConfiguration#getSlowQuerySampleRate() sample} of the queries is timed, so that the log can
+ * stay enabled in production. Queries that are not sampled are not timed at all.</p>
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+@EachBean(DataJdbcConfiguration.class)
+public class SlowQueryLog {
+
+    private final long thresholdNanos;
+    private final double sampleRate;
+    private final AtomicReferenceArray<SlowQuery> entries;
+    private final AtomicLong recorded = new AtomicLong();
+
+    /**
+     * Default constructor.
+     *
+     * @param configuration The data source configuration
+     */
+    public SlowQueryLog(@NonNull DataJdbcConfiguration configuration) {
+        this(configuration.getSlowQueryThreshold(), configuration.getSlowQuerySampleRate(), configuration.getSlowQueryLogSize());
+    }
+
+    /**
+     * Creates a slow query log.
+     *
+     * @param threshold The time after which a query is considered slow, or {@code null} to disable the log
+     * @param sampleRate The fraction of queries to time, between 0 and 1
+     * @param size The maximum number of slow queries kept
+     */
+    public SlowQueryLog(@Nullable Duration threshold, double sampleRate, int size) {
+        this.thresholdNanos = threshold != null ? threshold.toNanos() : -1;
+        this.sampleRate = threshold != null ? sampleRate : 0;
+        this.entries = new AtomicReferenceArray<>(Math.max(1, size));
+    }
+
+    /**
+     * @return Whether slow queries are recorded
+     */
+    public boolean isEnabled() {
+        return thresholdNanos >= 0 && sampleRate > 0;
+    }
+
+    /**
+     * @return The time after which a query is considered slow, or {@code null} if the log is disabled
+     */
+    public @Nullable Duration getThreshold() {
+        return thresholdNanos >= 0 ? Duration.ofNanos(thresholdNanos) : null;
+    }
+
+    /**
+     * Decides whether the next query should be timed.
+     *
+     * @return True if the query should be timed
+     */
+    public boolean sample() {
+        return sampleRate >= 1 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    /**
+     * Returns whether a query that took the given time is slow.
+     *
+     * @param nanos The elapsed time in nanoseconds
+     * @return True if the query is slow
+     */
+    public boolean isSlow(long nanos) {
+        return thresholdNanos >= 0 && nanos >= thresholdNanos;
+    }
+
+    /**
+     * Records a slow query, replacing the oldest entry once the log is full.
+     *
+     * @param query The query
+     */
+    public void record(@NonNull SlowQuery query) {
+        long index = recorded.getAndIncrement();
+        entries.set((int) (index % entries.length()), query);
+    }
+
+    /**
+     * @return The slow queries kept, most recent first
+     */
+    public @NonNull List<SlowQuery> getQueries() {
+        int length = entries.length();
+        long last = recorded.get();
+        List<SlowQuery> queries = new ArrayList<>((int) Math.min(length, last));
+        for (long i = last - 1; i >= 0 && i >= last - length; i--) {
+            SlowQuery query = entries.get((int) (i % length));
+            if (query != null) {
+                queries.add(query);
+            }
+        }
+        return Collections.unmodifiableList(queries);
+    }
+
+    /**
+     * @return The number of slow queries recorded since the log was created, including those no longer kept
+     */
+    public long getRecordedCount() {
+        return recorded.get();
+    }
+
+    /**
+     * Removes all slow queries kept.
+     */
+    public void clear() {
+        for (int i = 0; i < entries.length(); i++) {
+            entries.set(i, null);
+        }
+    }
+}
@@ -24,7 +24,13 @@ import io.micronaut.data.runtime.mapper.ResultReader;
 
 import java.math.BigDecimal;
 import java.sql.*;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
 import java.util.Date;
+import java.util.UUID;
 
 /**
  * A reader that uses the column index.
@@ -55,6 +61,64 @@ public final class ColumnIndexResultSetReader implements ResultReader<ResultSet,
         }
     }
 
+    @Nullable
+    @Override
+    public LocalDate readLocalDate(ResultSet resultSet, Integer index) {
+        try {
+            return resultSet.getObject(index, LocalDate.class);
+        } catch (SQLException e) {
+            throw exceptionForColumn(index, e);
+        }
+    }
+
+    @Nullable
+    @Override
+    public LocalDateTime readLocalDateTime(ResultSet resultSet, Integer index) {
+        try {
+            return resultSet.getObject(index, LocalDateTime.class);
+        } catch (SQLException e) {
+            throw exceptionForColumn(index, e);
+        }
+    }
+
+    @Nullable
+    @Override
+    public Instant readInstant(ResultSet resultSet, Integer index) {
+        try {
+            // JDBC 4.2 does not define a mapping for Instant
+            Timestamp timestamp = resultSet.getTimestamp(index);
+            return timestamp != null ? timestamp.toInstant() : null;
+        } catch (SQLException e) {
+            throw exceptionForColumn(index, e);
+        }
+    }
+
+    @Nullable
+    @Override
+    public OffsetDateTime readOffsetDateTime(ResultSet resultSet, Integer index) {
+        try {
+            // columns are created without a time zone, which JDBC 4.2 requires to read an OffsetDateTime
+            Timestamp timestamp = resultSet.getTimestamp(index);
+            return timestamp != null ? OffsetDateTime.ofInstant(timestamp.toInstant(), ZoneId.systemDefault()) : null;
+        } catch (SQLException e) {
+            throw exceptionForColumn(index, e);
+        }
+    }
+
+    @Nullable
+    @Override
+    public UUID readUUID(ResultSet resultSet, Integer index) {
+        try {
+            Object o = resultSet.getObject(index);
+            if (o == null || o instanceof UUID) {
+                return (UUID) o;
+            }
+            return UUID.fromString(o.toString());
+        } catch (SQLException | IllegalArgumentException e) {
+            throw exceptionForColumn(index, e);
+        }
+    }
+
     @Override
     public long readLong(ResultSet resultSet, Integer index) {
         try {
@@ -26,7 +26,13 @@ import io.micronaut.data.runtime.mapper.ResultReader;
 
 import java.math.BigDecimal;
 import java.sql.*;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
 import java.util.Date;
+import java.util.UUID;
 
 /**
  * A {@link ResultReader} for JDBC that uses the column name.
@@ -81,6 +87,64 @@ public final class ColumnNameResultSetReader implements ResultReader<ResultSet,
         }
     }
 
+    @Nullable
+    @Override
+    public LocalDate readLocalDate(ResultSet resultSet, String name) {
+        try {
+            return resultSet.getObject(name, LocalDate.class);
+        } catch (SQLException e) {
+            throw exceptionForColumn(name, e);
+        }
+    }
+
+    @Nullable
+    @Override
+    public LocalDateTime readLocalDateTime(ResultSet resultSet, String name) {
+        try {
+            return resultSet.getObject(name, LocalDateTime.class);
+        } catch (SQLException e) {
+            throw exceptionForColumn(name, e);
+        }
+    }
+
+    @Nullable
+    @Override
+    public Instant readInstant(ResultSet resultSet, String name) {
+        try {
+            // JDBC 4.2 does not define a mapping for Instant
+            Timestamp timestamp = resultSet.getTimestamp(name);
+            return timestamp != null ? timestamp.toInstant() : null;
+        } catch (SQLException e) {
+            throw exceptionForColumn(name, e);
+        }
+    }
+
+    @Nullable
+    @Override
+    public OffsetDateTime readOffsetDateTime(ResultSet resultSet, String name) {
+        try {
+            // columns are created without a time zone, which JDBC 4.2 requires to read an OffsetDateTime
+            Timestamp timestamp = resultSet.getTimestamp(name);
+            return timestamp != null ? OffsetDateTime.ofInstant(timestamp.toInstant(), ZoneId.systemDefault()) : null;
+        } catch (SQLException e) {
+            throw exceptionForColumn(name, e);
+        }
+    }
+
+    @Nullable
+    @Override
+    public UUID readUUID(ResultSet resultSet, String name) {
+        try {
+            Object o = resultSet.getObject(name);
+            if (o == null || o instanceof UUID) {
+                return (UUID) o;
+            }
+            return UUID.fromString(o.toString());
+        } catch (SQLException | IllegalArgumentException e) {
+            throw exceptionForColumn(name, e);
+        }
+    }
+
     @Override
     public long readLong(ResultSet resultSet, String name) {
         try {
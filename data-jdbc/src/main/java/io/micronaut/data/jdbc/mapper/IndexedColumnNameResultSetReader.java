@@ -0,0 +1,219 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.mapper;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.data.exceptions.DataAccessException;
+import io.micronaut.data.model.DataType;
+import io.micronaut.data.runtime.mapper.IndexedResultReader;
+import io.micronaut.data.runtime.mapper.ResultReader;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A {@link ResultReader} for JDBC that accepts column names but resolves each name to its column index only once per
+ * {@link ResultSet} and reads all values through the indexed JDBC getters thereafter.
+ *
+ * <p>Mappers that resolve their columns up front use {@link #indexOf(ResultSet, String)} and read through
+ * {@link #getIndexedReader()} directly, the methods accepting a name look the index up per call.</p>
+ *
+ * <p>Instances are stateful and should be created per result set being read.</p>
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+@Internal
+public final class IndexedColumnNameResultSetReader implements IndexedResultReader<ResultSet> {
+    private final ResultReader<ResultSet, String> columnNameResultSetReader;
+    private final ResultReader<ResultSet, Integer> columnIndexResultSetReader;
+    private final Map<String, Integer> columnIndexes = new HashMap<>(20);
+    private ResultSet resultSet;
+
+    /**
+     * Default constructor.
+     * @param columnNameResultSetReader The column name reader
+     * @param columnIndexResultSetReader The column index reader
+     */
+    public IndexedColumnNameResultSetReader(
+            @NonNull ResultReader<ResultSet, String> columnNameResultSetReader,
+            @NonNull ResultReader<ResultSet, Integer> columnIndexResultSetReader) {
+        this.columnNameResultSetReader = columnNameResultSetReader;
+        this.columnIndexResultSetReader = columnIndexResultSetReader;
+    }
+
+    @Override
+    public int indexOf(@NonNull ResultSet resultSet, @NonNull String name) {
+        try {
+            return resultSet.findColumn(name);
+        } catch (SQLException e) {
+            throw new DataAccessException("Error reading object for name [" + name + "] from result set: " + e.getMessage(), e);
+        }
+    }
+
+    @NonNull
+    @Override
+    public ResultReader<ResultSet, Integer> getIndexedReader() {
+        return columnIndexResultSetReader;
+    }
+
+    /**
+     * Resolves the index of the given column name, caching it for the current result set.
+     * @param resultSet The result set
+     * @param name The column name
+     * @return The column index
+     */
+    private Integer cachedIndexOf(ResultSet resultSet, String name) {
+        if (resultSet != this.resultSet) {
+            columnIndexes.clear();
+            this.resultSet = resultSet;
+        }
+        Integer index = columnIndexes.get(name);
+        if (index == null) {
+            index = indexOf(resultSet, name);
+            columnIndexes.put(name, index);
+        }
+        return index;
+    }
+
+    @Nullable
+    @Override
+    public Object readDynamic(@NonNull ResultSet resultSet, @NonNull String index, @NonNull DataType dataType) {
+        return columnIndexResultSetReader.readDynamic(resultSet, cachedIndexOf(resultSet, index), dataType);
+    }
+
+    @Override
+    public boolean next(ResultSet resultSet) {
+        return columnNameResultSetReader.next(resultSet);
+    }
+
+    @Override
+    public <T> T convertRequired(Object value, Class<T> type) {
+        return columnNameResultSetReader.convertRequired(value, type);
+    }
+
+    @Override
+    public Date readTimestamp(ResultSet resultSet, String index) {
+        return columnIndexResultSetReader.readTimestamp(resultSet, cachedIndexOf(resultSet, index));
+    }
+
+    @Override
+    public long readLong(ResultSet resultSet, String name) {
+        return columnIndexResultSetReader.readLong(resultSet, cachedIndexOf(resultSet, name));
+    }
+
+    @Override
+    public char readChar(ResultSet resultSet, String name) {
+        return columnIndexResultSetReader.readChar(resultSet, cachedIndexOf(resultSet, name));
+    }
+
+    @Override
+    public Date readDate(ResultSet resultSet, String name) {
+        return columnIndexResultSetReader.readDate(resultSet, cachedIndexOf(resultSet, name));
+    }
+
+    @Nullable
+    @Override
+    public String readString(ResultSet resultSet, String name) {
+        return columnIndexResultSetReader.readString(resultSet, cachedIndexOf(resultSet, name));
+    }
+
+    @Override
+    public int readInt(ResultSet resultSet, String name) {
+        return columnIndexResultSetReader.readInt(resultSet, cachedIndexOf(resultSet, name));
+    }
+
+    @Override
+    public boolean readBoolean(ResultSet resultSet, String name) {
+        return columnIndexResultSetReader.readBoolean(resultSet, cachedIndexOf(resultSet, name));
+    }
+
+    @Override
+    public float readFloat(ResultSet resultSet, String name) {
+        return columnIndexResultSetReader.readFloat(resultSet, cachedIndexOf(resultSet, name));
+    }
+
+    @Override
+    public byte readByte(ResultSet resultSet, String name) {
+        return columnIndexResultSetReader.readByte(resultSet, cachedIndexOf(resultSet, name));
+    }
+
+    @Override
+    public short readShort(ResultSet resultSet, String name) {
+        return columnIndexResultSetReader.readShort(resultSet, cachedIndexOf(resultSet, name));
+    }
+
+    @Override
+    public double readDouble(ResultSet resultSet, String name) {
+        return columnIndexResultSetReader.readDouble(resultSet, cachedIndexOf(resultSet, name));
+    }
+
+    @Override
+    public BigDecimal readBigDecimal(ResultSet resultSet, String name) {
+        return columnIndexResultSetReader.readBigDecimal(resultSet, cachedIndexOf(resultSet, name));
+    }
+
+    @Override
+    public byte[] readBytes(ResultSet resultSet, String name) {
+        return columnIndexResultSetReader.readBytes(resultSet, cachedIndexOf(resultSet, name));
+    }
+
+    @Nullable
+    @Override
+    public LocalDate readLocalDate(ResultSet resultSet, String name) {
+        return columnIndexResultSetReader.readLocalDate(resultSet, cachedIndexOf(resultSet, name));
+    }
+
+    @Nullable
+    @Override
+    public LocalDateTime readLocalDateTime(ResultSet resultSet, String name) {
+        return columnIndexResultSetReader.readLocalDateTime(resultSet, cachedIndexOf(resultSet, name));
+    }
+
+    @Nullable
+    @Override
+    public Instant readInstant(ResultSet resultSet, String name) {
+        return columnIndexResultSetReader.readInstant(resultSet, cachedIndexOf(resultSet, name));
+    }
+
+    @Nullable
+    @Override
+    public OffsetDateTime readOffsetDateTime(ResultSet resultSet, String name) {
+        return columnIndexResultSetReader.readOffsetDateTime(resultSet, cachedIndexOf(resultSet, name));
+    }
+
+    @Nullable
+    @Override
+    public UUID readUUID(ResultSet resultSet, String name) {
+        return columnIndexResultSetReader.readUUID(resultSet, cachedIndexOf(resultSet, name));
+    }
+
+    @Override
+    public <T> T getRequiredValue(ResultSet resultSet, String name, Class<T> type) throws DataAccessException {
+        return columnIndexResultSetReader.getRequiredValue(resultSet, cachedIndexOf(resultSet, name), type);
+    }
+}
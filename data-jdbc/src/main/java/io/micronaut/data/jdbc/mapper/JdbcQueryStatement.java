@@ -22,6 +22,10 @@ import io.micronaut.data.model.DataType;
 
 import java.math.BigDecimal;
 import java.sql.*;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.Date;
 
 /**
@@ -43,9 +47,11 @@ public class JdbcQueryStatement implements QueryStatement<PreparedStatement, Int
                         return this;
                     case STRING:
                     case JSON:
+                    case UUID:
                         statement.setNull(index, Types.VARCHAR);
                         return this;
                     case DATE:
+                    case LOCAL_DATE:
                         statement.setNull(index, Types.DATE);
                         return this;
                     case BOOLEAN:
@@ -55,6 +61,9 @@ public class JdbcQueryStatement implements QueryStatement<PreparedStatement, Int
                         statement.setNull(index, Types.INTEGER);
                         return this;
                     case TIMESTAMP:
+                    case LOCAL_DATE_TIME:
+                    case INSTANT:
+                    case OFFSET_DATE_TIME:
                         statement.setNull(index, Types.TIMESTAMP);
                         return this;
                     case OBJECT:
@@ -110,6 +119,68 @@ public class JdbcQueryStatement implements QueryStatement<PreparedStatement, Int
         return this;
     }
 
+    @NonNull
+    @Override
+    public QueryStatement<PreparedStatement, Integer> setLocalDate(PreparedStatement statement, Integer name, LocalDate date) {
+        try {
+            if (date == null) {
+                statement.setNull(name, Types.DATE);
+            } else {
+                statement.setObject(name, date);
+            }
+        } catch (SQLException e) {
+            throw newDataAccessException(e);
+        }
+        return this;
+    }
+
+    @NonNull
+    @Override
+    public QueryStatement<PreparedStatement, Integer> setLocalDateTime(PreparedStatement statement, Integer name, LocalDateTime dateTime) {
+        try {
+            if (dateTime == null) {
+                statement.setNull(name, Types.TIMESTAMP);
+            } else {
+                statement.setObject(name, dateTime);
+            }
+        } catch (SQLException e) {
+            throw newDataAccessException(e);
+        }
+        return this;
+    }
+
+    @NonNull
+    @Override
+    public QueryStatement<PreparedStatement, Integer> setInstant(PreparedStatement statement, Integer name, Instant instant) {
+        try {
+            if (instant == null) {
+                statement.setNull(name, Types.TIMESTAMP);
+            } else {
+                // JDBC 4.2 does not define a mapping for Instant
+                statement.setTimestamp(name, Timestamp.from(instant));
+            }
+        } catch (SQLException e) {
+            throw newDataAccessException(e);
+        }
+        return this;
+    }
+
+    @NonNull
+    @Override
+    public QueryStatement<PreparedStatement, Integer> setOffsetDateTime(PreparedStatement statement, Integer name, OffsetDateTime dateTime) {
+        try {
+            if (dateTime == null) {
+                statement.setNull(name, Types.TIMESTAMP);
+            } else {
+                // columns are created without a time zone, which JDBC 4.2 requires to write an OffsetDateTime
+                statement.setTimestamp(name, Timestamp.from(dateTime.toInstant()));
+            }
+        } catch (SQLException e) {
+            throw newDataAccessException(e);
+        }
+        return this;
+    }
+
     @Override
     public QueryStatement<PreparedStatement, Integer> setValue(PreparedStatement statement, Integer index, Object value) throws DataAccessException {
         try {
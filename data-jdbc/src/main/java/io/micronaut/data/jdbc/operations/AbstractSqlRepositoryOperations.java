@@ -20,9 +20,11 @@ import edu.umd.cs.findbugs.annotations.Nullable;
 import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.core.annotation.AnnotationValue;
 import io.micronaut.core.beans.BeanProperty;
+import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.util.ArgumentUtils;
 import io.micronaut.core.util.ArrayUtils;
 import io.micronaut.core.util.CollectionUtils;
+import io.micronaut.core.util.clhm.ConcurrentLinkedHashMap;
 import io.micronaut.data.annotation.*;
 import io.micronaut.data.exceptions.DataAccessException;
 import io.micronaut.data.intercept.annotation.DataMethod;
@@ -30,10 +32,12 @@ import io.micronaut.data.model.*;
 import io.micronaut.data.model.query.QueryModel;
 import io.micronaut.data.model.query.QueryParameter;
 import io.micronaut.data.model.query.builder.AbstractSqlLikeQueryBuilder;
+import io.micronaut.data.model.query.builder.QueryBuilder;
 import io.micronaut.data.model.query.builder.QueryResult;
 import io.micronaut.data.model.query.builder.sql.Dialect;
 import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder;
 import io.micronaut.data.model.runtime.EntityOperation;
+import io.micronaut.data.model.runtime.PreparedQuery;
 import io.micronaut.data.model.runtime.RuntimeAssociation;
 import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 import io.micronaut.data.model.runtime.RuntimePersistentProperty;
@@ -50,6 +54,7 @@ import java.lang.reflect.Array;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -66,6 +71,12 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS> implements Reposit
     protected static final SqlQueryBuilder DEFAULT_SQL_BUILDER = new SqlQueryBuilder();
     protected static final Pattern IN_EXPRESSION_PATTERN = Pattern.compile("\\s\\?\\$IN\\((\\d+)\\)");
     protected static final String NOT_TRUE_EXPRESSION = "1 = 2";
+    protected static final Object IGNORED_PARAMETER = new Object();
+    private static final int MAX_QUERY_PLANS = 1000;
+    private static final int MAX_MULTI_ROW_INSERT_ROWS = 1000;
+    private static final int MAX_MULTI_ROW_INSERT_PLANS = 8;
+    // MSSQL allows at most 2100 parameters per statement
+    private static final int MAX_SQL_SERVER_PARAMETERS = 2000;
     @SuppressWarnings("WeakerAccess")
     protected final ResultReader<RS, String> columnNameResultSetReader;
     @SuppressWarnings("WeakerAccess")
@@ -80,9 +91,16 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS> implements Reposit
     private final Map<Class, StoredInsert> storedInserts = new ConcurrentHashMap<>(10);
     private final Map<QueryKey, StoredInsert> entityInserts = new ConcurrentHashMap<>(10);
     private final Map<QueryKey, StoredInsert> entityUpdates = new ConcurrentHashMap<>(10);
+    private final Map<QueryKey, StoredInsert> entityDeletes = new ConcurrentHashMap<>(10);
     private final Map<Association, String> associationInserts = new ConcurrentHashMap<>(10);
     private final Map<Class, RuntimePersistentEntity> entities = new ConcurrentHashMap<>(10);
     private final Map<Class, RuntimePersistentProperty> idReaders = new ConcurrentHashMap<>(10);
+    private final Map<String, int[]> inExpressionIndexes = new ConcurrentLinkedHashMap.Builder<String, int[]>()
+            .maximumWeightedCapacity(MAX_QUERY_PLANS)
+            .build();
+    private final Map<QueryPlanKey, String> queryPlans = new ConcurrentLinkedHashMap.Builder<QueryPlanKey, String>()
+            .maximumWeightedCapacity(MAX_QUERY_PLANS)
+            .build();
 
     /**
      * Default constructor.
@@ -136,127 +154,61 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS> implements Reposit
      * @param <T>    The entity type
      */
     protected final <T> void setInsertParameters(@NonNull StoredInsert<T> insert, @NonNull T entity, @NonNull PS stmt) {
-        Object now = null;
-        RuntimePersistentEntity<T> persistentEntity = insert.getPersistentEntity();
-        final String[] parameterBinding = insert.getParameterBinding();
-        for (int i = 0; i < parameterBinding.length; i++) {
-            String path = parameterBinding[i];
-            RuntimePersistentProperty<T> prop = persistentEntity.getPropertyByName(path);
-            if (prop == null) {
-                int j = path.indexOf('.');
-                if (j > -1) {
-                    RuntimePersistentProperty embeddedProp = (RuntimePersistentProperty)
-                            persistentEntity.getPropertyByPath(path).orElse(null);
-                    if (embeddedProp != null) {
-
-                        // embedded case
-                        prop = persistentEntity.getPropertyByName(path.substring(0, j));
-                        if (prop instanceof Association) {
-                            Association assoc = (Association) prop;
-                            if (assoc.getKind() == Relation.Kind.EMBEDDED) {
-
-                                Object value = prop.getProperty().get(entity);
-                                Object embeddedValue = value != null ? embeddedProp.getProperty().get(value) : null;
-                                int index = i + 1;
-                                preparedStatementWriter.setDynamic(
-                                        stmt,
-                                        index,
-                                        embeddedProp.getDataType(),
-                                        embeddedValue
-                                );
-                            }
-                        }
-                    }
-                }
-            } else {
-                DataType type = prop.getDataType();
-                BeanProperty<T, Object> beanProperty = (BeanProperty<T, Object>) prop.getProperty();
-                Object value = beanProperty.get(entity);
-                int index = i + 1;
-                if (prop instanceof Association) {
-                    Association association = (Association) prop;
-                    if (!association.isForeignKey()) {
-                        @SuppressWarnings("unchecked")
-                        RuntimePersistentEntity<Object> associatedEntity = (RuntimePersistentEntity<Object>) association.getAssociatedEntity();
-                        RuntimePersistentProperty<Object> identity = associatedEntity.getIdentity();
-                        if (identity == null) {
-                            throw new IllegalArgumentException("Associated entity has not ID: " + associatedEntity.getName());
-                        } else {
-                            type = identity.getDataType();
-                        }
-                        BeanProperty<Object, ?> identityProperty = identity.getProperty();
-                        if (value != null) {
-                            value = identityProperty.get(value);
-                        }
-                        if (DataSettings.QUERY_LOG.isTraceEnabled()) {
-                            DataSettings.QUERY_LOG.trace("Binding value {} to parameter at position: {}", value, index);
-                        }
-
-                        preparedStatementWriter.setDynamic(
-                                stmt,
-                                index,
-                                type,
-                                value
-                        );
-                    }
+        setInsertParameters(insert, entity, stmt, 0);
+    }
 
-                } else if (!prop.isGenerated()) {
-                    if (beanProperty.hasStereotype(AutoPopulated.class)) {
-                        if (beanProperty.hasAnnotation(DateCreated.class)) {
-                            now = now != null ? now : dateTimeProvider.getNow();
-                            if (DataSettings.QUERY_LOG.isTraceEnabled()) {
-                                DataSettings.QUERY_LOG.trace("Binding value {} to parameter at position: {}", now, index);
-                            }
-                            preparedStatementWriter.setDynamic(
-                                    stmt,
-                                    index,
-                                    type,
-                                    now
-                            );
-                            beanProperty.convertAndSet(entity, now);
-                        } else if (beanProperty.hasAnnotation(DateUpdated.class)) {
-                            now = now != null ? now : dateTimeProvider.getNow();
-                            if (DataSettings.QUERY_LOG.isTraceEnabled()) {
-                                DataSettings.QUERY_LOG.trace("Binding value {} to parameter at position: {}", now, index);
-                            }
-                            preparedStatementWriter.setDynamic(
-                                    stmt,
-                                    index,
-                                    type,
-                                    now
-                            );
-                            beanProperty.convertAndSet(entity, now);
-                        } else if (UUID.class.isAssignableFrom(beanProperty.getType())) {
-                            UUID uuid = UUID.randomUUID();
-                            if (DataSettings.QUERY_LOG.isTraceEnabled()) {
-                                DataSettings.QUERY_LOG.trace("Binding value {} to parameter at position: {}", uuid, index);
-                            }
-                            preparedStatementWriter.setDynamic(
-                                    stmt,
-                                    index,
-                                    type,
-                                    uuid
-                            );
-                            beanProperty.set(entity, uuid);
-                        } else {
-                            throw new DataAccessException("Unsupported auto-populated annotation type: " + beanProperty.getAnnotationTypeByStereotype(AutoPopulated.class).orElse(null));
-                        }
-                    } else {
-                        if (DataSettings.QUERY_LOG.isTraceEnabled()) {
-                            DataSettings.QUERY_LOG.trace("Binding value {} to parameter at position: {}", value, index);
-                        }
-                        if (type == DataType.JSON && jsonCodec != null) {
-                            value = new String(jsonCodec.encode(value), StandardCharsets.UTF_8);
-                        }
-                        preparedStatementWriter.setDynamic(
-                                stmt,
-                                index,
-                                type,
-                                value
-                        );
+    /**
+     * Sets the insert parameters for the given insert, entity and statement starting after the given parameter offset.
+     * Used to bind the rows of a multi-row insert.
+     *
+     * @param insert The insert
+     * @param entity The entity
+     * @param stmt   The statement
+     * @param parameterOffset The number of parameters already bound to the statement
+     * @param <T>    The entity type
+     */
+    protected final <T> void setInsertParameters(@NonNull StoredInsert<T> insert, @NonNull T entity, @NonNull PS stmt, int parameterOffset) {
+        Object now = null;
+        final InsertParameter[] parameters = insert.parameters;
+        for (int i = 0; i < parameters.length; i++) {
+            InsertParameter parameter = parameters[i];
+            Object value;
+            switch (parameter.kind) {
+                case VALUE:
+                    value = parameter.property.get(entity);
+                    if (parameter.dataType == DataType.JSON && jsonCodec != null) {
+                        value = new String(jsonCodec.encode(value), StandardCharsets.UTF_8);
                     }
-                }
+                    break;
+                case NESTED_VALUE:
+                    Object owner = parameter.property.get(entity);
+                    value = owner != null ? parameter.nestedProperty.get(owner) : null;
+                    break;
+                case NOW:
+                    now = now != null ? now : dateTimeProvider.getNow();
+                    value = now;
+                    parameter.property.convertAndSet(entity, now);
+                    break;
+                case RANDOM_UUID:
+                    value = UUID.randomUUID();
+                    parameter.property.set(entity, value);
+                    break;
+                case UNSUPPORTED:
+                    throw new DataAccessException("Unsupported auto-populated annotation type: " + parameter.property.getAnnotationTypeByStereotype(AutoPopulated.class).orElse(null));
+                default:
+                    // not bound by the insert
+                    continue;
+            }
+            int index = parameterOffset + i + 1;
+            if (DataSettings.QUERY_LOG.isTraceEnabled()) {
+                DataSettings.QUERY_LOG.trace("Binding value {} to parameter at position: {}", value, index);
             }
+            preparedStatementWriter.setDynamic(
+                    stmt,
+                    index,
+                    parameter.dataType,
+                    value
+            );
         }
     }
 
@@ -282,7 +234,21 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS> implements Reposit
             final Dialect dialect = annotationMetadata.enumValue(Repository.class, "dialect", Dialect.class)
                     .orElse(Dialect.ANSI);
             boolean supportsBatch = dialect != Dialect.SQL_SERVER;
-            return new StoredInsert<>(insertStatement, persistentEntity, parameterBinding, supportsBatch, dialect);
+            // multi-row inserts are only used where JDBC batching is unavailable or sends a statement per row, and
+            // MSSQL only returns the last generated key of a multi-row insert
+            final SqlQueryBuilder queryBuilder = queryBuilders.getOrDefault(dialect, new SqlQueryBuilder(dialect));
+            final RuntimePersistentProperty<T> identity = persistentEntity.getIdentity();
+            final boolean generateId = identity != null && identity.isGenerated();
+            boolean supportsMultiRowInsert = queryBuilder.supportsMultiRowInsert() &&
+                    (dialect == Dialect.MYSQL || (dialect == Dialect.SQL_SERVER && !generateId));
+            return new StoredInsert<>(
+                    insertStatement,
+                    persistentEntity,
+                    parameterBinding,
+                    supportsBatch,
+                    dialect,
+                    supportsMultiRowInsert ? queryBuilder : null
+            );
         });
     }
 
@@ -355,6 +321,167 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS> implements Reposit
         return dialect == Dialect.SQL_SERVER && !query.contains(AbstractSqlLikeQueryBuilder.ORDER_BY_CLAUSE);
     }
 
+    /**
+     * Resolves the final SQL to execute for the given prepared query. The SQL for a given combination of
+     * stored query, IN expression sizes and sort is computed once and cached thereafter, while the limit and
+     * offset of the pageable are appended for each execution.
+     *
+     * <p>Parameters bound to a {@code null} or empty IN expression are replaced with {@link #IGNORED_PARAMETER}
+     * in the given parameter array.</p>
+     *
+     * @param preparedQuery The prepared query
+     * @param queryParameters The query parameters
+     * @param isUpdate Whether the query is an update
+     * @param isSingleResult Whether the query returns a single result
+     * @param <T> The entity type
+     * @param <R> The result type
+     * @return The SQL to execute
+     */
+    @NonNull
+    protected final <T, R> String resolveQuery(
+            @NonNull PreparedQuery<T, R> preparedQuery,
+            @NonNull Object[] queryParameters,
+            boolean isUpdate,
+            boolean isSingleResult) {
+        String query = preparedQuery.getQuery();
+        int[] inSizes = null;
+        if (preparedQuery.hasInExpression()) {
+            int[] parameterBinding = preparedQuery.getIndexedParameterBinding();
+            int[] inIndexes = inExpressionIndexes.computeIfAbsent(query, AbstractSqlRepositoryOperations::findInExpressionIndexes);
+            inSizes = new int[inIndexes.length];
+            for (int i = 0; i < inIndexes.length; i++) {
+                int queryParameterIndex = parameterBinding[inIndexes[i] - 1];
+                Object value = queryParameters[queryParameterIndex];
+                int size = value != null ? sizeOf(value) : 0;
+                if (size == 0) {
+                    queryParameters[queryParameterIndex] = IGNORED_PARAMETER;
+                }
+                inSizes[i] = size;
+            }
+        }
+
+        Pageable pageable = isUpdate ? Pageable.UNPAGED : preparedQuery.getPageable();
+        if (inSizes == null && pageable == Pageable.UNPAGED) {
+            return query;
+        }
+
+        QueryPlanKey key = new QueryPlanKey(preparedQuery.getRepositoryType(), preparedQuery.getRootEntity(), query, inSizes, pageable);
+        String sql = queryPlans.get(key);
+        if (sql == null) {
+            AnnotationMetadata annotationMetadata = preparedQuery.getAnnotationMetadata();
+            if (key.keyset && annotationMetadata.isTrue(Query.class, DataMethod.META_MEMBER_RAW_QUERY)) {
+                throw new DataAccessException("Keyset pagination is not supported for queries defined with @Query");
+            }
+            sql = buildQuery(key, pageable, annotationMetadata.isTrue(Query.class, DataMethod.META_MEMBER_HAS_WHERE_CLAUSE));
+            queryPlans.put(key, sql);
+        }
+        if (pageable != Pageable.UNPAGED) {
+            // the limit and offset are literals, hence they are appended to the cached SQL
+            if (isSingleResult && pageable.getOffset() > 0) {
+                pageable = Pageable.from(pageable.getNumber(), 1, pageable.getSort());
+            }
+            Dialect dialect = dialects.getOrDefault(key.repositoryType, Dialect.ANSI);
+            QueryBuilder queryBuilder = queryBuilders.getOrDefault(dialect, DEFAULT_SQL_BUILDER);
+            sql += queryBuilder.buildPagination(pageable).getQuery();
+        }
+        return sql;
+    }
+
+    private String buildQuery(QueryPlanKey key, Pageable pageable, boolean hasWhereClause) {
+        String query = key.query;
+        if (key.inSizes != null) {
+            Matcher matcher = IN_EXPRESSION_PATTERN.matcher(query);
+            StringBuffer buffer = new StringBuffer(query.length() + 16);
+            int i = 0;
+            while (matcher.find()) {
+                int size = key.inSizes[i++];
+                if (size == 0) {
+                    matcher.appendReplacement(buffer, NOT_TRUE_EXPRESSION);
+                } else {
+                    matcher.appendReplacement(buffer, " IN(" + String.join(",", Collections.nCopies(size, "?")) + ")");
+                }
+            }
+            matcher.appendTail(buffer);
+            query = buffer.toString();
+        }
+
+        if (pageable != Pageable.UNPAGED) {
+            Class<?> rootEntity = key.entityType;
+            Sort sort = pageable.getSort();
+            Dialect dialect = dialects.getOrDefault(key.repositoryType, Dialect.ANSI);
+            QueryBuilder queryBuilder = queryBuilders.getOrDefault(dialect, DEFAULT_SQL_BUILDER);
+            if (key.keyset) {
+                query = queryBuilder.buildKeysetQuery(query, hasWhereClause, getEntity(rootEntity), sort).getQuery();
+            }
+            if (sort.isSorted()) {
+                query += queryBuilder.buildOrderBy(getEntity(rootEntity), sort).getQuery();
+            } else if (isSqlServerWithoutOrderBy(query, dialect)) {
+                // SQL server requires order by
+                RuntimePersistentEntity<?> persistentEntity = getEntity(rootEntity);
+                sort = sortById(persistentEntity);
+                query += queryBuilder.buildOrderBy(persistentEntity, sort).getQuery();
+            }
+        }
+        return query;
+    }
+
+    private static int[] findInExpressionIndexes(String query) {
+        Matcher matcher = IN_EXPRESSION_PATTERN.matcher(query);
+        List<Integer> indexes = new ArrayList<>(3);
+        while (matcher.find()) {
+            indexes.add(Integer.valueOf(matcher.group(1)));
+        }
+        int[] result = new int[indexes.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = indexes.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Whether the given pageable restricts the results to those after a cursor.
+     * @param pageable The pageable
+     * @return True if it does
+     */
+    protected static boolean isKeyset(@NonNull Pageable pageable) {
+        return pageable instanceof CursoredPageable && ((CursoredPageable) pageable).hasCursor();
+    }
+
+    /**
+     * Binds the cursor values of a keyset query, in the order described by {@link QueryBuilder#buildKeysetQuery(String, boolean, PersistentEntity, Sort)}.
+     * @param preparedStatement The prepared statement
+     * @param index The index of the first cursor parameter
+     * @param entity The root entity
+     * @param pageable The pageable
+     * @return The index of the next parameter
+     */
+    protected final int setCursorParameters(PS preparedStatement, int index, RuntimePersistentEntity<?> entity, CursoredPageable pageable) {
+        List<Sort.Order> orders = pageable.getSort().getOrderBy();
+        List<Object> cursor = pageable.getCursor();
+        DataType[] dataTypes = new DataType[orders.size()];
+        Object[] values = new Object[orders.size()];
+        for (int i = 0; i < orders.size(); i++) {
+            String property = orders.get(i).getProperty();
+            RuntimePersistentProperty<?> persistentProperty = (RuntimePersistentProperty<?>) entity.getPropertyByPath(property)
+                    .orElseThrow(() -> new DataAccessException("Cannot sort on non-existent property path: " + property));
+            Object value = cursor.get(i);
+            Class<?> type = persistentProperty.getType();
+            if (value != null && !type.isInstance(value)) {
+                value = ConversionService.SHARED.convert(value, type).orElseThrow(() ->
+                        new DataAccessException("Cannot convert cursor value for property [" + property + "] to type: " + type)
+                );
+            }
+            dataTypes[i] = persistentProperty.getDataType();
+            values[i] = value;
+        }
+        for (int i = 0; i < orders.size(); i++) {
+            for (int j = 0; j <= i; j++) {
+                setStatementParameter(preparedStatement, index++, dataTypes[j], values[j]);
+            }
+        }
+        return index;
+    }
+
     /**
      * Compute the size of the given object.
      * @param value The value
@@ -502,6 +629,47 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS> implements Reposit
         });
     }
 
+    /**
+     * Resolves a stored delete by ID for the given entity.
+     * @param annotationMetadata  The repository annotation metadata
+     * @param repositoryType  The repository type
+     * @param rootEntity The root entity
+     * @param persistentEntity The persistent entity
+     * @param <T> The generic type
+     * @return The delete
+     */
+    protected @NonNull <T> StoredInsert<T> resolveEntityDelete(
+            AnnotationMetadata annotationMetadata,
+            Class<?> repositoryType,
+            @NonNull Class<?> rootEntity,
+            @NonNull RuntimePersistentEntity<?> persistentEntity) {
+
+        final QueryKey key = new QueryKey(repositoryType, rootEntity);
+        //noinspection unchecked
+        return entityDeletes.computeIfAbsent(key, (queryKey) -> {
+            final Dialect dialect = dialects.getOrDefault(queryKey.repositoryType, Dialect.ANSI);
+            final SqlQueryBuilder queryBuilder = queryBuilders.getOrDefault(dialect, DEFAULT_SQL_BUILDER);
+
+            final PersistentProperty identity = persistentEntity.getIdentity();
+            if (identity == null) {
+                throw new DataAccessException("Cannot delete entity [" + persistentEntity.getName() + "] by ID since it has no identity");
+            }
+            final QueryModel queryModel = QueryModel.from(persistentEntity)
+                    .idEq(new QueryParameter(identity.getName()));
+            final QueryResult queryResult = queryBuilder.buildDelete(annotationMetadata, queryModel);
+
+            final String sql = queryResult.getQuery();
+            final Map<String, String> parameters = queryResult.getParameters();
+            return new StoredInsert<>(
+                    sql,
+                    persistentEntity,
+                    parameters.values().toArray(new String[0]),
+                    dialect != Dialect.SQL_SERVER,
+                    dialect
+            );
+        });
+    }
+
     /**
      * Builds a join table insert.
      * @param repositoryType The repository type
@@ -552,6 +720,59 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS> implements Reposit
         }
     }
 
+    /**
+     * Used to cache the final SQL of a query for a given IN expression and pagination shape.
+     */
+    private static final class QueryPlanKey {
+        final Class repositoryType;
+        final Class entityType;
+        final String query;
+        final int[] inSizes;
+        final boolean paged;
+        final List<Sort.Order> orders;
+        final boolean keyset;
+        final int hashCode;
+
+        QueryPlanKey(Class repositoryType, Class entityType, String query, int[] inSizes, Pageable pageable) {
+            this.repositoryType = repositoryType;
+            this.entityType = entityType;
+            this.query = query;
+            this.inSizes = inSizes;
+            this.paged = pageable != Pageable.UNPAGED;
+            if (paged) {
+                this.orders = pageable.getSort().getOrderBy();
+                this.keyset = isKeyset(pageable);
+            } else {
+                this.orders = Collections.emptyList();
+                this.keyset = false;
+            }
+            this.hashCode = 31 * Objects.hash(repositoryType, entityType, query, paged, orders, keyset) + Arrays.hashCode(inSizes);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            QueryPlanKey that = (QueryPlanKey) o;
+            return paged == that.paged &&
+                    keyset == that.keyset &&
+                    Objects.equals(repositoryType, that.repositoryType) &&
+                    entityType.equals(that.entityType) &&
+                    query.equals(that.query) &&
+                    Arrays.equals(inSizes, that.inSizes) &&
+                    orders.equals(that.orders);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
     /**
      * A stored insert statement.
      *
@@ -565,6 +786,9 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS> implements Reposit
         private final boolean supportsBatch;
         private final RuntimePersistentEntity<T> persistentEntity;
         private final Dialect dialect;
+        private final SqlQueryBuilder multiRowInsertBuilder;
+        private final Map<Integer, String> multiRowInserts;
+        private final InsertParameter[] parameters;
 
         /**
          * Default constructor.
@@ -580,6 +804,25 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS> implements Reposit
                 String[] parameterBinding,
                 boolean supportsBatch,
                 Dialect dialect) {
+            this(sql, persistentEntity, parameterBinding, supportsBatch, dialect, null);
+        }
+
+        /**
+         * Constructor for inserts that can insert several rows with a single statement.
+         *  @param sql              The SQL INSERT
+         * @param persistentEntity The entity
+         * @param parameterBinding The parameter binding
+         * @param supportsBatch    Whether batch insert is supported
+         * @param dialect The dialect
+         * @param multiRowInsertBuilder The builder used for multi-row inserts, or null if not supported
+         */
+        StoredInsert(
+                String sql,
+                RuntimePersistentEntity<T> persistentEntity,
+                String[] parameterBinding,
+                boolean supportsBatch,
+                Dialect dialect,
+                @Nullable SqlQueryBuilder multiRowInsertBuilder) {
             this.sql = sql;
             this.persistentEntity = persistentEntity;
             this.parameterBinding = parameterBinding;
@@ -587,6 +830,14 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS> implements Reposit
             this.generateId = identity != null && identity.isGenerated();
             this.supportsBatch = supportsBatch;
             this.dialect = dialect;
+            this.multiRowInsertBuilder = multiRowInsertBuilder;
+            this.multiRowInserts = multiRowInsertBuilder != null ? new ConcurrentLinkedHashMap.Builder<Integer, String>()
+                    .maximumWeightedCapacity(MAX_MULTI_ROW_INSERT_PLANS)
+                    .build() : Collections.emptyMap();
+            this.parameters = new InsertParameter[parameterBinding.length];
+            for (int i = 0; i < parameterBinding.length; i++) {
+                parameters[i] = InsertParameter.resolve(persistentEntity, parameterBinding[i]);
+            }
         }
 
         /**
@@ -618,6 +869,38 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS> implements Reposit
             return sql;
         }
 
+        /**
+         * @return Whether several rows can be inserted with a single statement.
+         */
+        public boolean doesSupportMultiRowInsert() {
+            return multiRowInsertBuilder != null;
+        }
+
+        /**
+         * The maximum number of rows to insert with a single statement.
+         * @param limit The upper limit
+         * @return The number of rows
+         */
+        public int getMaxRowsPerInsert(int limit) {
+            int rows = Math.min(limit, MAX_MULTI_ROW_INSERT_ROWS);
+            if (dialect == Dialect.SQL_SERVER && parameterBinding.length > 0) {
+                rows = Math.min(rows, MAX_SQL_SERVER_PARAMETERS / parameterBinding.length);
+            }
+            return Math.max(1, rows);
+        }
+
+        /**
+         * @param rows The number of rows
+         * @return The SQL inserting the given number of rows
+         */
+        public @NonNull
+        String getSql(int rows) {
+            if (rows == 1 || multiRowInsertBuilder == null) {
+                return sql;
+            }
+            return multiRowInserts.computeIfAbsent(rows, n -> multiRowInsertBuilder.buildMultiRowInsert(sql, n));
+        }
+
         /**
          * @return The parameter binding
          */
@@ -651,4 +934,119 @@ public abstract class AbstractSqlRepositoryOperations<RS, PS> implements Reposit
             return generateId;
         }
     }
+
+    /**
+     * The kind of an {@link InsertParameter}.
+     */
+    private enum InsertParameterKind {
+        /**
+         * The value of a property.
+         */
+        VALUE,
+        /**
+         * The value of a property of an embedded or associated entity, such as the ID of an associated entity.
+         */
+        NESTED_VALUE,
+        /**
+         * The current date, which is also set on the entity.
+         */
+        NOW,
+        /**
+         * A random UUID, which is also set on the entity.
+         */
+        RANDOM_UUID,
+        /**
+         * An auto-populated property that cannot be populated.
+         */
+        UNSUPPORTED,
+        /**
+         * A property that is not bound, such as a generated property.
+         */
+        IGNORED
+    }
+
+    /**
+     * A parameter of an INSERT, resolved once per {@link StoredInsert} so that binding an entity doesn't need to look up
+     * properties or their annotations.
+     */
+    private static final class InsertParameter {
+        private static final InsertParameter IGNORED = new InsertParameter(InsertParameterKind.IGNORED, null, null, DataType.OBJECT);
+
+        final InsertParameterKind kind;
+        final BeanProperty<Object, Object> property;
+        final BeanProperty<Object, Object> nestedProperty;
+        final DataType dataType;
+
+        private InsertParameter(
+                InsertParameterKind kind,
+                @Nullable BeanProperty<Object, Object> property,
+                @Nullable BeanProperty<Object, Object> nestedProperty,
+                DataType dataType) {
+            this.kind = kind;
+            this.property = property;
+            this.nestedProperty = nestedProperty;
+            this.dataType = dataType;
+        }
+
+        /**
+         * Resolves the parameter for the given binding path.
+         *
+         * @param persistentEntity The entity
+         * @param path             The path of the bound property
+         * @return The parameter
+         */
+        @SuppressWarnings("unchecked")
+        static InsertParameter resolve(RuntimePersistentEntity<?> persistentEntity, String path) {
+            RuntimePersistentProperty<?> prop = persistentEntity.getPropertyByName(path);
+            if (prop == null) {
+                int j = path.indexOf('.');
+                if (j > -1) {
+                    RuntimePersistentProperty<?> embeddedProp = (RuntimePersistentProperty<?>)
+                            persistentEntity.getPropertyByPath(path).orElse(null);
+                    prop = persistentEntity.getPropertyByName(path.substring(0, j));
+                    if (embeddedProp != null && prop instanceof Association && ((Association) prop).getKind() == Relation.Kind.EMBEDDED) {
+                        return new InsertParameter(
+                                InsertParameterKind.NESTED_VALUE,
+                                (BeanProperty<Object, Object>) prop.getProperty(),
+                                (BeanProperty<Object, Object>) embeddedProp.getProperty(),
+                                embeddedProp.getDataType()
+                        );
+                    }
+                }
+                return IGNORED;
+            }
+            BeanProperty<Object, Object> beanProperty = (BeanProperty<Object, Object>) prop.getProperty();
+            if (prop instanceof Association) {
+                Association association = (Association) prop;
+                if (association.isForeignKey()) {
+                    return IGNORED;
+                }
+                RuntimePersistentEntity<?> associatedEntity = (RuntimePersistentEntity<?>) association.getAssociatedEntity();
+                RuntimePersistentProperty<?> identity = associatedEntity.getIdentity();
+                if (identity == null) {
+                    throw new IllegalArgumentException("Associated entity has not ID: " + associatedEntity.getName());
+                }
+                return new InsertParameter(
+                        InsertParameterKind.NESTED_VALUE,
+                        beanProperty,
+                        (BeanProperty<Object, Object>) identity.getProperty(),
+                        identity.getDataType()
+                );
+            }
+            if (prop.isGenerated()) {
+                return IGNORED;
+            }
+            InsertParameterKind kind = InsertParameterKind.VALUE;
+            if (beanProperty.hasStereotype(AutoPopulated.class)) {
+                if (beanProperty.hasAnnotation(DateCreated.class) || beanProperty.hasAnnotation(DateUpdated.class)) {
+                    kind = InsertParameterKind.NOW;
+                } else if (UUID.class.isAssignableFrom(beanProperty.getType())) {
+                    kind = InsertParameterKind.RANDOM_UUID;
+                } else {
+                    kind = InsertParameterKind.UNSUPPORTED;
+                }
+            }
+            return new InsertParameter(kind, beanProperty, null, prop.getDataType());
+        }
+    }
 }
@@ -27,6 +27,7 @@ import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.ArgumentUtils;
 import io.micronaut.core.util.ArrayUtils;
+import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.data.annotation.DateUpdated;
 import io.micronaut.data.annotation.Query;
@@ -35,13 +36,20 @@ import io.micronaut.data.annotation.Repository;
 import io.micronaut.data.exceptions.DataAccessException;
 import io.micronaut.data.intercept.annotation.DataMethod;
 import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.jdbc.cache.DefaultEntityCacheRegion;
+import io.micronaut.data.jdbc.cache.EntityCacheRegionFactory;
+import io.micronaut.data.jdbc.config.DataJdbcConfiguration;
+import io.micronaut.data.jdbc.diagnostics.SlowQuery;
+import io.micronaut.data.jdbc.diagnostics.SlowQueryLog;
 import io.micronaut.data.jdbc.mapper.ColumnIndexResultSetReader;
 import io.micronaut.data.jdbc.mapper.ColumnNameResultSetReader;
+import io.micronaut.data.jdbc.mapper.IndexedColumnNameResultSetReader;
 import io.micronaut.data.jdbc.mapper.JdbcQueryStatement;
 import io.micronaut.data.jdbc.mapper.SqlResultConsumer;
 import io.micronaut.data.jdbc.runtime.ConnectionCallback;
 import io.micronaut.data.jdbc.runtime.PreparedStatementCallback;
 import io.micronaut.data.model.*;
+import io.micronaut.data.model.query.QueryModel;
 import io.micronaut.data.model.query.builder.QueryBuilder;
 import io.micronaut.data.model.query.builder.sql.Dialect;
 import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder;
@@ -50,6 +58,10 @@ import io.micronaut.data.operations.async.AsyncCapableRepository;
 import io.micronaut.data.operations.reactive.ReactiveCapableRepository;
 import io.micronaut.data.operations.reactive.ReactiveRepositoryOperations;
 import io.micronaut.data.repository.GenericRepository;
+import io.micronaut.data.runtime.cache.QueryResultCache;
+import io.micronaut.data.runtime.cache.QueryResultCacheCapable;
+import io.micronaut.data.runtime.config.DataConfiguration;
+import io.micronaut.data.runtime.config.ExecutorStrategy;
 import io.micronaut.data.runtime.date.DateTimeProvider;
 import io.micronaut.data.runtime.mapper.DTOMapper;
 import io.micronaut.data.runtime.mapper.ResultConsumer;
@@ -58,12 +70,25 @@ import io.micronaut.data.runtime.mapper.TypeMapper;
 import io.micronaut.data.runtime.mapper.sql.SqlDTOMapper;
 import io.micronaut.data.runtime.mapper.sql.SqlResultEntityTypeMapper;
 import io.micronaut.data.runtime.mapper.sql.SqlTypeMapper;
+import io.micronaut.data.runtime.metrics.RepositoryInstrumentation;
+import io.micronaut.data.runtime.operations.ConcurrencyLimitedExecutor;
 import io.micronaut.data.runtime.operations.ExecutorAsyncOperations;
-import io.micronaut.data.runtime.operations.ExecutorReactiveOperations;
+import io.micronaut.data.runtime.operations.ParallelCount;
 import io.micronaut.http.codec.MediaTypeCodec;
 import io.micronaut.inject.BeanDefinition;
 import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.transaction.SynchronousTransactionManager;
 import io.micronaut.transaction.TransactionOperations;
+import io.micronaut.transaction.jdbc.DataSourceUtils;
+import io.micronaut.transaction.jdbc.ReadReplicaRoutingDataSource;
+import io.micronaut.transaction.jdbc.exceptions.CannotGetJdbcConnectionException;
+import io.micronaut.transaction.support.AbstractSynchronousTransactionManager;
+import io.micronaut.transaction.support.TransactionInstrumentation;
+import io.micronaut.transaction.support.TransactionPropagatingExecutor;
+import io.micronaut.transaction.support.TransactionSynchronizationAdapter;
+import io.micronaut.transaction.support.TransactionSynchronizationManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.annotation.PreDestroy;
 import javax.inject.Named;
@@ -71,12 +96,16 @@ import javax.sql.DataSource;
 import java.io.Serializable;
 import java.lang.reflect.Array;
 import java.sql.*;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
-import java.util.regex.Matcher;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -92,13 +121,28 @@ public class DefaultJdbcRepositoryOperations extends AbstractSqlRepositoryOperat
         JdbcRepositoryOperations,
         AsyncCapableRepository,
         ReactiveCapableRepository,
+        QueryResultCacheCapable,
         AutoCloseable {
 
-    private static final Object IGNORED_PARAMETER = new Object();
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultJdbcRepositoryOperations.class);
     private final TransactionOperations<Connection> transactionOperations;
     private final DataSource dataSource;
+    private final int batchSize;
+    private final int fetchSize;
+    private final int maxRows;
+    private final int queryTimeout;
+    private final @Nullable PreparedStatementCache statementCache;
+    private final @Nullable TransactionalEntityCache entityCache;
+    private final @Nullable QueryResultCache queryResultCache;
+    private final @Nullable RepositoryInstrumentation instrumentation;
+    private final @Nullable SlowQueryLog slowQueryLog;
+    private final boolean parallelCount;
+    private final boolean nonTransactionalReads;
+    private final ExecutorStrategy executorStrategy;
+    private final int asyncMaxConcurrency;
     private ExecutorAsyncOperations asyncOperations;
     private ExecutorService executorService;
+    private ExecutorService localExecutorService;
 
     /**
      * Default constructor.
@@ -124,6 +168,34 @@ public class DefaultJdbcRepositoryOperations extends AbstractSqlRepositoryOperat
         this.dataSource = dataSource;
         this.transactionOperations = transactionOperations;
         this.executorService = executorService;
+        DataJdbcConfiguration jdbcConfiguration = beanContext.findBean(DataJdbcConfiguration.class, Qualifiers.byName(dataSourceName))
+                .orElseGet(() -> new DataJdbcConfiguration(dataSourceName));
+        this.batchSize = jdbcConfiguration.getBatchSize();
+        this.fetchSize = jdbcConfiguration.getFetchSize();
+        this.maxRows = jdbcConfiguration.getMaxRows();
+        this.queryTimeout = jdbcConfiguration.getQueryTimeout();
+        this.executorStrategy = jdbcConfiguration.getAsyncExecutor();
+        this.asyncMaxConcurrency = jdbcConfiguration.getAsyncMaxConcurrency();
+        this.nonTransactionalReads = jdbcConfiguration.isNonTransactionalReads();
+        int statementCacheSize = jdbcConfiguration.getStatementCacheSize();
+        this.statementCache = statementCacheSize > 0 ? new PreparedStatementCache(statementCacheSize) : null;
+        if (transactionOperations instanceof SynchronousTransactionManager) {
+            EntityCacheRegionFactory regionFactory = beanContext.findBean(EntityCacheRegionFactory.class)
+                    .orElse(DefaultEntityCacheRegion::new);
+            this.entityCache = new TransactionalEntityCache(regionFactory, this::getEntity);
+            this.queryResultCache = new QueryResultCache();
+        } else {
+            // the transaction boundaries are unknown, so the caches cannot be kept consistent
+            this.entityCache = null;
+            this.queryResultCache = null;
+        }
+        this.instrumentation = beanContext.findBean(RepositoryInstrumentation.class).orElse(null);
+        this.slowQueryLog = beanContext.findBean(SlowQueryLog.class, Qualifiers.byName(dataSourceName))
+                .filter(SlowQueryLog::isEnabled)
+                .orElse(null);
+        this.parallelCount = beanContext.findBean(DataConfiguration.PageableConfiguration.class)
+                .map(DataConfiguration.PageableConfiguration::isParallelCount)
+                .orElse(false);
         Collection<BeanDefinition<GenericRepository>> beanDefinitions = beanContext.getBeanDefinitions(GenericRepository.class, Qualifiers.byStereotype(Repository.class));
         for (BeanDefinition<GenericRepository> beanDefinition : beanDefinitions) {
             String targetDs = beanDefinition.stringValue(Repository.class).orElse("default");
@@ -141,9 +213,55 @@ public class DefaultJdbcRepositoryOperations extends AbstractSqlRepositoryOperat
     @NonNull
     private ExecutorService newLocalThreadPool() {
         this.executorService = Executors.newCachedThreadPool();
+        this.localExecutorService = executorService;
         return executorService;
     }
 
+    @NonNull
+    private Executor newAsyncExecutor() {
+        Executor executor = newExecutor();
+        if (transactionOperations instanceof SynchronousTransactionManager) {
+            // operations submitted within a transaction that is completed asynchronously take part in it
+            return new TransactionPropagatingExecutor(executor);
+        }
+        return executor;
+    }
+
+    @NonNull
+    private Executor newExecutor() {
+        Executor executor = null;
+        switch (executorStrategy) {
+            case BOUNDED:
+                int threads = asyncMaxConcurrency > 0 ? asyncMaxConcurrency : Runtime.getRuntime().availableProcessors();
+                localExecutorService = Executors.newFixedThreadPool(threads);
+                // the pool already limits the concurrency
+                return localExecutorService;
+            case VIRTUAL:
+                localExecutorService = newVirtualThreadPerTaskExecutor();
+                executor = localExecutorService;
+                break;
+            default:
+                // use the I/O executor
+        }
+        if (executor == null) {
+            executor = executorService != null ? executorService : newLocalThreadPool();
+        }
+        return asyncMaxConcurrency > 0 ? new ConcurrencyLimitedExecutor(executor, asyncMaxConcurrency) : executor;
+    }
+
+    @Nullable
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            // looked up reflectively since virtual threads require JDK 21 or above
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("Virtual threads are not supported by the current JVM. Falling back to the I/O executor for asynchronous operations");
+            }
+            return null;
+        }
+    }
+
     @NonNull
     @Override
     public ExecutorAsyncOperations async() {
@@ -154,7 +272,7 @@ public class DefaultJdbcRepositoryOperations extends AbstractSqlRepositoryOperat
                 if (asyncOperations == null) {
                     asyncOperations = new ExecutorAsyncOperations(
                             this,
-                            executorService != null ? executorService : newLocalThreadPool()
+                            newAsyncExecutor()
                     );
                     this.asyncOperations = asyncOperations;
                 }
@@ -166,61 +284,100 @@ public class DefaultJdbcRepositoryOperations extends AbstractSqlRepositoryOperat
     @NonNull
     @Override
     public ReactiveRepositoryOperations reactive() {
-        return new ExecutorReactiveOperations(async());
+        return new JdbcReactiveOperations(this, async());
     }
 
     @Nullable
     @Override
     public <T, R> R findOne(@NonNull PreparedQuery<T, R> preparedQuery) {
-        return transactionOperations.executeRead(status -> {
-            Connection connection = status.getConnection();
-            try (PreparedStatement ps = prepareStatement(connection, preparedQuery, false, true)) {
-                try (ResultSet rs = ps.executeQuery()) {
-                    if (rs.next()) {
-                        Class<T> rootEntity = preparedQuery.getRootEntity();
-                        Class<R> resultType = preparedQuery.getResultType();
-                        if (resultType == rootEntity) {
-                            @SuppressWarnings("unchecked")
-                            RuntimePersistentEntity<R> persistentEntity = getEntity((Class<R>) rootEntity);
-                            TypeMapper<ResultSet, R> mapper = new SqlResultEntityTypeMapper<>(
-                                    persistentEntity,
-                                    columnNameResultSetReader,
-                                    preparedQuery.getJoinFetchPaths(),
-                                    jsonCodec
-                            );
-                            R result = mapper.map(rs, resultType);
-                            if (preparedQuery.hasResultConsumer()) {
-                                preparedQuery.getParameterInRole(SqlResultConsumer.ROLE, SqlResultConsumer.class)
-                                        .ifPresent(consumer -> consumer.accept(result, newMappingContext(rs)));
-                            }
-                            return result;
-                        } else {
-                            if (preparedQuery.isDtoProjection()) {
-                                RuntimePersistentEntity<T> persistentEntity = getEntity(preparedQuery.getRootEntity());
-                                TypeMapper<ResultSet, R> introspectedDataMapper = new DTOMapper<>(
-                                        persistentEntity,
-                                        columnNameResultSetReader
-                                );
+        Object cacheId = entityCache != null ? entityCache.idOf(preparedQuery) : null;
+        if (cacheId == null) {
+            return findOneUncached(preparedQuery);
+        }
+        Class<R> resultType = preparedQuery.getResultType();
+        R result = entityCache.get(resultType, cacheId);
+        if (result == null) {
+            // captured before the read, so that state read concurrently with a modification is not cached
+            long generation = entityCache.generation(resultType);
+            result = findOneUncached(preparedQuery);
+            if (result != null) {
+                entityCache.put(resultType, cacheId, result, generation);
+            }
+        }
+        return result;
+    }
 
-                                return introspectedDataMapper.map(rs, resultType);
-                            } else {
-                                Object v = columnIndexResultSetReader.readDynamic(rs, 1, preparedQuery.getResultDataType());
-                                if (resultType.isInstance(v)) {
-                                    return (R) v;
-                                } else {
-                                    return columnIndexResultSetReader.convertRequired(v, resultType);
-                                }
+    @Nullable
+    private <T, R> R findOneUncached(@NonNull PreparedQuery<T, R> preparedQuery) {
+        return executeRead(connection -> {
+            try {
+                QueryExecution execution = newExecution(preparedQuery);
+                PreparedStatement ps = prepareStatement(connection, preparedQuery, false, true, execution);
+                try {
+                    try (ResultSet rs = executeQuery(ps, preparedQuery, execution)) {
+                        long start = execution != null ? System.nanoTime() : 0L;
+                        R result = null;
+                        if (rs.next()) {
+                            result = mapSingleResult(preparedQuery, rs);
+                            if (execution != null) {
+                                execution.rowMapped(start);
                             }
                         }
+                        completeQuery(execution);
+                        return result;
                     }
+                } finally {
+                    releaseStatement(ps);
                 }
             } catch (SQLException e) {
                 throw new DataAccessException("Error executing SQL Query: " + e.getMessage(), e);
             }
-            return null;
         });
     }
 
+    private <T, R> R mapSingleResult(@NonNull PreparedQuery<T, R> preparedQuery, ResultSet rs) {
+        Class<T> rootEntity = preparedQuery.getRootEntity();
+        Class<R> resultType = preparedQuery.getResultType();
+        if (resultType == rootEntity) {
+            @SuppressWarnings("unchecked")
+            RuntimePersistentEntity<R> persistentEntity = getEntity((Class<R>) rootEntity);
+            TypeMapper<ResultSet, R> mapper = new SqlResultEntityTypeMapper<>(
+                    persistentEntity,
+                    newIndexedColumnReader(),
+                    preparedQuery.getJoinFetchPaths(),
+                    jsonCodec
+            );
+            R result = mapper.map(rs, resultType);
+            if (preparedQuery.hasResultConsumer()) {
+                preparedQuery.getParameterInRole(SqlResultConsumer.ROLE, SqlResultConsumer.class)
+                        .ifPresent(consumer -> consumer.accept(result, newMappingContext(rs)));
+            }
+            return result;
+        } else {
+            if (preparedQuery.isDtoProjection()) {
+                RuntimePersistentEntity<T> persistentEntity = getEntity(preparedQuery.getRootEntity());
+                TypeMapper<ResultSet, R> introspectedDataMapper = new DTOMapper<>(
+                        persistentEntity,
+                        columnNameResultSetReader
+                );
+
+                return introspectedDataMapper.map(rs, resultType);
+            } else {
+                Object v = columnIndexResultSetReader.readDynamic(rs, 1, preparedQuery.getResultDataType());
+                if (resultType.isInstance(v)) {
+                    return (R) v;
+                } else {
+                    return columnIndexResultSetReader.convertRequired(v, resultType);
+                }
+            }
+        }
+    }
+
+    @NonNull
+    private ResultReader<ResultSet, String> newIndexedColumnReader() {
+        return new IndexedColumnNameResultSetReader(columnNameResultSetReader, columnIndexResultSetReader);
+    }
+
     @NonNull
     private ResultConsumer.Context<ResultSet> newMappingContext(ResultSet rs) {
         return new ResultConsumer.Context<ResultSet>() {
@@ -263,12 +420,19 @@ public class DefaultJdbcRepositoryOperations extends AbstractSqlRepositoryOperat
     @Override
     public <T, R> boolean exists(@NonNull PreparedQuery<T, R> preparedQuery) {
         //noinspection ConstantConditions
-        return transactionOperations.executeRead(status -> {
+        return executeRead(connection -> {
             try {
-                Connection connection = status.getConnection();
-                PreparedStatement ps = prepareStatement(connection, preparedQuery, false, true);
-                ResultSet rs = ps.executeQuery();
-                return rs.next();
+                QueryExecution execution = newExecution(preparedQuery);
+                PreparedStatement ps = prepareStatement(connection, preparedQuery, false, true, execution);
+                try {
+                    try (ResultSet rs = executeQuery(ps, preparedQuery, execution)) {
+                        boolean exists = rs.next();
+                        recordIfSlow(execution, exists ? 1 : 0);
+                        return exists;
+                    }
+                } finally {
+                    releaseStatement(ps);
+                }
             } catch (SQLException e) {
                 throw new DataAccessException("Error executing SQL query: " + e.getMessage(), e);
             }
@@ -286,23 +450,52 @@ public class DefaultJdbcRepositoryOperations extends AbstractSqlRepositoryOperat
         });
     }
 
+    /**
+     * Opens a stream of results that can outlive the current thread. If no transaction is active the stream holds its own
+     * connection, which is released once the stream is closed.
+     *
+     * @param preparedQuery The prepared query
+     * @param <T> The entity type
+     * @param <R> The result type
+     * @return The stream of results, which must be closed
+     */
+    @NonNull
+    <T, R> Stream<R> openStream(@NonNull PreparedQuery<T, R> preparedQuery) {
+        if (!(transactionOperations instanceof SynchronousTransactionManager)) {
+            // connections are managed externally so the results cannot be read lazily
+            return StreamSupport.stream(findAll(preparedQuery).spliterator(), false);
+        }
+        if (isTransactionActive()) {
+            return findStream(preparedQuery);
+        }
+        Connection connection = acquireConnection(false);
+        try {
+            return findStream(preparedQuery, connection)
+                    .onClose(() -> DataSourceUtils.releaseConnection(connection, dataSource));
+        } catch (RuntimeException e) {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+            throw e;
+        }
+    }
+
     private <T, R> Stream<R> findStream(@NonNull PreparedQuery<T, R> preparedQuery, Connection connection) {
         Class<T> rootEntity = preparedQuery.getRootEntity();
         Class<R> resultType = preparedQuery.getResultType();
 
+        QueryExecution execution = newExecution(preparedQuery);
         PreparedStatement ps;
         try {
-            ps = prepareStatement(connection, preparedQuery, false, false);
+            ps = prepareStatement(connection, preparedQuery, false, false, execution);
         } catch (SQLException e) {
             throw new DataAccessException("SQL Error preparing Query: " + e.getMessage(), e);
         }
 
         ResultSet rs;
         try {
-            rs = ps.executeQuery();
+            rs = executeQuery(ps, preparedQuery, execution);
         } catch (SQLException e) {
             try {
-                ps.close();
+                releaseStatement(ps);
             } catch (SQLException e2) {
                 // ignore
             }
@@ -318,12 +511,12 @@ public class DefaultJdbcRepositoryOperations extends AbstractSqlRepositoryOperat
             if (dtoProjection) {
                 mapper = new SqlDTOMapper<>(
                         getEntity(rootEntity),
-                        columnNameResultSetReader
+                        newIndexedColumnReader()
                 );
             } else {
                 mapper = new SqlResultEntityTypeMapper<>(
                         getEntity(resultType),
-                        columnNameResultSetReader,
+                        newIndexedColumnReader(),
                         preparedQuery.getJoinFetchPaths(),
                         jsonCodec
                 );
@@ -335,15 +528,19 @@ public class DefaultJdbcRepositoryOperations extends AbstractSqlRepositoryOperat
                     if (finished.get()) {
                         return false;
                     }
+                    long start = execution != null ? System.nanoTime() : 0L;
                     boolean hasNext = mapper.hasNext(rs);
                     if (hasNext) {
                         R o = mapper.map(rs, resultType);
                         if (sqlMappingConsumer != null) {
                             sqlMappingConsumer.accept(rs, o);
                         }
+                        if (execution != null) {
+                            execution.rowMapped(start);
+                        }
                         action.accept(o);
                     } else {
-                        closeResultSet(ps, rs, finished);
+                        closeResultSet(ps, rs, finished, execution);
                     }
                     return hasNext;
                 }
@@ -357,18 +554,20 @@ public class DefaultJdbcRepositoryOperations extends AbstractSqlRepositoryOperat
                         return false;
                     }
                     try {
+                        long start = execution != null ? System.nanoTime() : 0L;
                         boolean hasNext = rs.next();
                         if (hasNext) {
                             Object v = columnIndexResultSetReader.readDynamic(rs, 1, preparedQuery.getResultDataType());
-                            if (resultType.isInstance(v)) {
-                                //noinspection unchecked
-                                action.accept((R) v);
-                            } else {
-                                Object r = columnIndexResultSetReader.convertRequired(v, resultType);
-                                action.accept((R) r);
+                            if (!resultType.isInstance(v)) {
+                                v = columnIndexResultSetReader.convertRequired(v, resultType);
                             }
+                            if (execution != null) {
+                                execution.rowMapped(start);
+                            }
+                            //noinspection unchecked
+                            action.accept((R) v);
                         } else {
-                            closeResultSet(ps, rs, finished);
+                            closeResultSet(ps, rs, finished, execution);
                         }
                         return hasNext;
                     } catch (SQLException e) {
@@ -379,15 +578,16 @@ public class DefaultJdbcRepositoryOperations extends AbstractSqlRepositoryOperat
         }
 
         return StreamSupport.stream(spliterator, false).onClose(() -> {
-            closeResultSet(ps, rs, finished);
+            closeResultSet(ps, rs, finished, execution);
         });
     }
 
-    private void closeResultSet(PreparedStatement ps, ResultSet rs, AtomicBoolean finished) {
+    private void closeResultSet(PreparedStatement ps, ResultSet rs, AtomicBoolean finished, @Nullable QueryExecution execution) {
         if (finished.compareAndSet(false, true)) {
+            completeQuery(execution);
             try {
                 rs.close();
-                ps.close();
+                releaseStatement(ps);
             } catch (SQLException e) {
                 throw new DataAccessException("Error closing JDBC result stream: " + e.getMessage(), e);
             }
@@ -397,10 +597,87 @@ public class DefaultJdbcRepositoryOperations extends AbstractSqlRepositoryOperat
     @NonNull
     @Override
     public <T, R> Iterable<R> findAll(@NonNull PreparedQuery<T, R> preparedQuery) {
-        return transactionOperations.executeRead(status -> {
-            Connection connection = status.getConnection();
-            return findStream(preparedQuery, connection).collect(Collectors.toList());
+        if (isLazy(preparedQuery) && TransactionSynchronizationManager.isSynchronizationActive()) {
+            return findLazy(preparedQuery);
+        }
+        return executeRead(connection ->
+                findStream(preparedQuery, connection).collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * Applies the fetch size, max rows and query timeout to a statement. The values of the query hints take precedence
+     * over the configured defaults. Cached statements are always reset since the settings outlive a single execution.
+     *
+     * @param ps The statement
+     * @param preparedQuery The prepared query
+     * @param isUpdate Whether the query is an update
+     * @param isSingleResult Whether the query reads a single result
+     * @throws SQLException If a setting cannot be applied
+     */
+    private void applyStatementSettings(
+            PreparedStatement ps,
+            @NonNull PreparedQuery<?, ?> preparedQuery,
+            boolean isUpdate,
+            boolean isSingleResult) throws SQLException {
+        Map<String, Object> queryHints = preparedQuery.getQueryHints();
+        boolean reset = statementCache != null;
+        if (!isUpdate) {
+            int fetch = isSingleResult ? 0 : intHint(queryHints, HINT_FETCH_SIZE, fetchSize);
+            if (fetch > 0 || reset) {
+                ps.setFetchSize(fetch);
+            }
+            int rows = isSingleResult ? 0 : intHint(queryHints, HINT_MAX_ROWS, maxRows);
+            if (rows > 0 || reset) {
+                ps.setMaxRows(rows);
+            }
+        }
+        int timeout = intHint(queryHints, HINT_QUERY_TIMEOUT, queryTimeout);
+        if (timeout > 0 || reset) {
+            ps.setQueryTimeout(timeout);
+        }
+    }
+
+    private int intHint(Map<String, Object> queryHints, String name, int defaultValue) {
+        Object value = queryHints.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        return ConversionService.SHARED.convert(value, Integer.class)
+                .map(v -> Math.max(0, v))
+                .orElseThrow(() -> new DataAccessException("Invalid value for query hint [" + name + "]: " + value));
+    }
+
+    private boolean isLazy(@NonNull PreparedQuery<?, ?> preparedQuery) {
+        Object lazy = preparedQuery.getQueryHints().get(HINT_LAZY);
+        return lazy != null && Boolean.parseBoolean(lazy.toString());
+    }
+
+    /**
+     * Returns an iterable that maps each row as it is iterated. The underlying result set stays open until
+     * the surrounding transaction completes.
+     *
+     * @param preparedQuery The prepared query
+     * @param <T> The entity type
+     * @param <R> The result type
+     * @return An iterable that can only be iterated once
+     */
+    @NonNull
+    private <T, R> Iterable<R> findLazy(@NonNull PreparedQuery<T, R> preparedQuery) {
+        Stream<R> stream = findStream(preparedQuery);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void beforeCompletion() {
+                stream.close();
+            }
         });
+        AtomicBoolean iterated = new AtomicBoolean();
+        return () -> {
+            if (!iterated.compareAndSet(false, true)) {
+                throw new IllegalStateException("The results of a lazy query can only be iterated once");
+            }
+            return stream.iterator();
+        };
     }
 
     @NonNull
@@ -410,8 +687,15 @@ public class DefaultJdbcRepositoryOperations extends AbstractSqlRepositoryOperat
         return transactionOperations.executeWrite(status -> {
             try {
                 Connection connection = status.getConnection();
-                try (PreparedStatement ps = prepareStatement(connection, preparedQuery, true, false)) {
-                    return Optional.of(ps.executeUpdate());
+                QueryExecution execution = newExecution(preparedQuery);
+                PreparedStatement ps = prepareStatement(connection, preparedQuery, true, false, execution);
+                try {
+                    invalidateCaches(preparedQuery.getRootEntity());
+                    int updated = executeUpdate(ps, preparedQuery, execution);
+                    recordIfSlow(execution, updated);
+                    return Optional.of(updated);
+                } finally {
+                    releaseStatement(ps);
                 }
             } catch (SQLException e) {
                 throw new DataAccessException("Error executing SQL UPDATE: " + e.getMessage(), e);
@@ -419,9 +703,145 @@ public class DefaultJdbcRepositoryOperations extends AbstractSqlRepositoryOperat
         });
     }
 
+    @NonNull
     @Override
     public <T> Optional<Number> deleteAll(@NonNull BatchOperation<T> operation) {
-        throw new UnsupportedOperationException("The deleteAll method via batch is unsupported. Execute the SQL update directly");
+        final AnnotationMetadata annotationMetadata = operation.getAnnotationMetadata();
+        final Class<?> repositoryType = operation.getRepositoryType();
+        final RuntimePersistentEntity<T> persistentEntity = getEntity(operation.getRootEntity());
+        if (operation.all()) {
+            final Dialect dialect = dialects.getOrDefault(repositoryType, Dialect.ANSI);
+            final SqlQueryBuilder queryBuilder = queryBuilders.getOrDefault(dialect, DEFAULT_SQL_BUILDER);
+            final String query = queryBuilder.buildDelete(annotationMetadata, QueryModel.from(persistentEntity)).getQuery();
+            //noinspection ConstantConditions
+            return transactionOperations.executeWrite(status -> {
+                try {
+                    if (QUERY_LOG.isDebugEnabled()) {
+                        QUERY_LOG.debug("Executing SQL DELETE: {}", query);
+                    }
+                    try (PreparedStatement ps = status.getConnection().prepareStatement(query)) {
+                        applyQueryTimeout(ps);
+                        invalidateCaches(operation.getRootEntity());
+                        return Optional.of(ps.executeUpdate());
+                    }
+                } catch (SQLException e) {
+                    throw new DataAccessException("Error executing SQL DELETE: " + e.getMessage(), e);
+                }
+            });
+        }
+        final StoredInsert<T> delete = resolveEntityDelete(
+                annotationMetadata,
+                repositoryType,
+                operation.getRootEntity(),
+                persistentEntity
+        );
+        final String[] params = delete.getParameterBinding();
+        final RuntimePersistentProperty<T> identity = persistentEntity.getIdentity();
+        final Set persisted = new HashSet(10);
+        final int deleted = executeBatch(delete.getSql(), "DELETE", operation, (ps, entity) -> {
+            if (identity != null && identity.getProperty().get(entity) == null) {
+                throw new IllegalStateException("Cannot delete an entity with null ID: " + entity);
+            }
+            setUpdateParameters(ps, repositoryType, annotationMetadata, persistentEntity, params, entity, persisted);
+        });
+        return Optional.of(deleted);
+    }
+
+    @NonNull
+    @Override
+    public <T> Iterable<T> updateAll(@NonNull BatchOperation<T> operation) {
+        final AnnotationMetadata annotationMetadata = operation.getAnnotationMetadata();
+        final String[] params = annotationMetadata.stringValues(DataMethod.class, DataMethod.META_MEMBER_PARAMETER_BINDING_PATHS);
+        final String query = annotationMetadata.stringValue(Query.class).orElse(null);
+        if (StringUtils.isNotEmpty(query) && ArrayUtils.isNotEmpty(params)) {
+            final Class<?> repositoryType = operation.getRepositoryType();
+            final RuntimePersistentEntity<T> persistentEntity = getEntity(operation.getRootEntity());
+            final Set persisted = new HashSet(10);
+            executeBatch(query, "UPDATE", operation, (ps, entity) ->
+                    setUpdateParameters(ps, repositoryType, annotationMetadata, persistentEntity, params, entity, persisted)
+            );
+        }
+        return operation;
+    }
+
+    /**
+     * Executes the given statement for each entity, sending the statements to the database in batches
+     * of at most {@link DataJdbcConfiguration#getBatchSize()}.
+     *
+     * @param query The query
+     * @param statementType The statement type used for logging
+     * @param operation The batch operation
+     * @param binder Binds the parameters of the statement for an entity
+     * @param <T> The entity type
+     * @return The number of rows affected
+     */
+    private <T> int executeBatch(
+            @NonNull String query,
+            @NonNull String statementType,
+            @NonNull BatchOperation<T> operation,
+            @NonNull BiConsumer<PreparedStatement, T> binder) {
+        //noinspection ConstantConditions
+        return transactionOperations.executeWrite(status -> {
+            try {
+                Connection connection = status.getConnection();
+                if (QUERY_LOG.isDebugEnabled()) {
+                    QUERY_LOG.debug("Executing Batch SQL {}: {}", statementType, query);
+                }
+                PreparedStatement ps = prepareCachedStatement(connection, query, Statement.NO_GENERATED_KEYS);
+                try {
+                    int affected = 0;
+                    int pending = 0;
+                    for (T entity : operation) {
+                        Objects.requireNonNull(entity, "Passed entity cannot be null");
+                        binder.accept(ps, entity);
+                        ps.addBatch();
+                        invalidateCaches(entity);
+                        if (++pending == batchSize) {
+                            affected += sumUpdateCounts(executeBatch(ps, operation.getRepositoryType(), operation.getName(), pending));
+                            pending = 0;
+                        }
+                    }
+                    if (pending > 0) {
+                        affected += sumUpdateCounts(executeBatch(ps, operation.getRepositoryType(), operation.getName(), pending));
+                    }
+                    return affected;
+                } finally {
+                    releaseStatement(ps);
+                }
+            } catch (SQLException e) {
+                throw new DataAccessException("Error executing SQL " + statementType + ": " + e.getMessage(), e);
+            }
+        });
+    }
+
+    private void invalidateCaches(Object entity) {
+        if (entityCache != null) {
+            entityCache.invalidate(entity);
+        }
+        if (queryResultCache != null) {
+            queryResultCache.invalidate(entity.getClass());
+        }
+    }
+
+    private void invalidateCaches(Class<?> entityType) {
+        if (entityCache != null) {
+            entityCache.invalidateAll(entityType);
+        }
+        if (queryResultCache != null) {
+            queryResultCache.invalidate(entityType);
+        }
+    }
+
+    private static int sumUpdateCounts(int[] updateCounts) {
+        int total = 0;
+        for (int updateCount : updateCounts) {
+            if (updateCount > 0) {
+                total += updateCount;
+            } else if (updateCount == Statement.SUCCESS_NO_INFO) {
+                total++;
+            }
+        }
+        return total;
     }
 
     @NonNull
@@ -447,142 +867,14 @@ public class DefaultJdbcRepositoryOperations extends AbstractSqlRepositoryOperat
                     if (QUERY_LOG.isDebugEnabled()) {
                         QUERY_LOG.debug("Executing SQL UPDATE: {}", query);
                     }
-                    try (PreparedStatement ps = connection.prepareStatement(query)) {
-                        for (int i = 0; i < params.length; i++) {
-                            String propertyName = params[i];
-                            RuntimePersistentProperty<T> pp =
-                                    persistentEntity.getPropertyByName(propertyName);
-                            if (pp == null) {
-                                int j = propertyName.indexOf('.');
-                                if (j > -1) {
-                                    RuntimePersistentProperty embeddedProp = (RuntimePersistentProperty)
-                                            persistentEntity.getPropertyByPath(propertyName).orElse(null);
-                                    if (embeddedProp != null) {
-
-                                        // embedded case
-                                        pp = persistentEntity.getPropertyByName(propertyName.substring(0, j));
-                                        if (pp instanceof Association) {
-                                            Association assoc = (Association) pp;
-                                            if (assoc.getKind() == Relation.Kind.EMBEDDED) {
-                                                Object embeddedInstance = pp.getProperty().get(entity);
-
-                                                Object embeddedValue = embeddedInstance != null ? embeddedProp.getProperty().get(embeddedInstance) : null;
-                                                int index = i + 1;
-                                                preparedStatementWriter.setDynamic(
-                                                        ps,
-                                                        index,
-                                                        embeddedProp.getDataType(),
-                                                        embeddedValue
-                                                );
-                                            }
-                                        }
-                                    } else {
-                                        throw new IllegalStateException("Cannot perform update for non-existent property: " + persistentEntity.getSimpleName() + "." + propertyName);
-                                    }
-                                } else {
-                                    throw new IllegalStateException("Cannot perform update for non-existent property: " + persistentEntity.getSimpleName() + "." + propertyName);
-                                }
-                            } else {
-
-                                final Object newValue;
-                                final BeanProperty<T, ?> beanProperty = pp.getProperty();
-                                if (beanProperty.hasAnnotation(DateUpdated.class)) {
-                                    newValue = dateTimeProvider.getNow();
-                                    beanProperty.convertAndSet(entity, newValue);
-                                } else {
-                                    newValue = beanProperty.get(entity);
-                                }
-                                final DataType dataType = pp.getDataType();
-                                if (dataType == DataType.ENTITY && newValue != null && pp instanceof Association) {
-                                    final RuntimePersistentProperty<Object> idReader = getIdReader(newValue);
-                                    final Association association = (Association) pp;
-                                    final BeanProperty<Object, ?> idReaderProperty = idReader.getProperty();
-                                    final Object id = idReaderProperty.get(newValue);
-                                    if (QUERY_LOG.isTraceEnabled()) {
-                                        QUERY_LOG.trace("Binding parameter at position {} to value {}", i + 1, id);
-                                    }
-                                    if (id != null) {
-
-                                        preparedStatementWriter.setDynamic(
-                                                ps,
-                                                i + 1,
-                                                idReader.getDataType(),
-                                                id
-                                        );
-                                        if (association.doesCascade(Relation.Cascade.PERSIST) && !persisted.contains(newValue)) {
-                                            final Relation.Kind kind = association.getKind();
-                                            final RuntimePersistentEntity associatedEntity = (RuntimePersistentEntity) association.getAssociatedEntity();
-                                            switch (kind) {
-                                                case ONE_TO_ONE:
-                                                case MANY_TO_ONE:
-                                                    persisted.add(newValue);
-                                                    final StoredInsert<Object> updateStatement = resolveEntityUpdate(
-                                                            annotationMetadata,
-                                                            repositoryType,
-                                                            associatedEntity.getIntrospection().getBeanType(),
-                                                            associatedEntity
-                                                    );
-                                                    updateOne(
-                                                            repositoryType,
-                                                            annotationMetadata,
-                                                            updateStatement.getSql(),
-                                                            updateStatement.getParameterBinding(),
-                                                            newValue,
-                                                            persisted
-                                                    );
-                                                    break;
-                                                case MANY_TO_MANY:
-                                                case ONE_TO_MANY:
-                                                    // TODO: handle cascading updates to collections?
-
-                                                case EMBEDDED:
-                                                default:
-                                                    // TODO: embedded type updates
-                                            }
-                                        }
-                                    } else {
-                                        if (association.doesCascade(Relation.Cascade.PERSIST) && !persisted.contains(newValue)) {
-                                            final RuntimePersistentEntity associatedEntity = (RuntimePersistentEntity) association.getAssociatedEntity();
-
-                                            StoredInsert associatedInsert = resolveEntityInsert(
-                                                    annotationMetadata,
-                                                    repositoryType,
-                                                    associatedEntity.getIntrospection().getBeanType(),
-                                                    associatedEntity
-                                            );
-                                            persistOne(
-                                                    annotationMetadata,
-                                                    repositoryType,
-                                                    associatedInsert,
-                                                    newValue,
-                                                    persisted
-                                            );
-                                            final Object assignedId = idReaderProperty.get(newValue);
-                                            if (assignedId != null) {
-                                                preparedStatementWriter.setDynamic(
-                                                        ps,
-                                                        i + 1,
-                                                        idReader.getDataType(),
-                                                        assignedId
-                                                );
-                                            }
-                                        }
-                                    }
-                                } else {
-                                    if (QUERY_LOG.isTraceEnabled()) {
-                                        QUERY_LOG.trace("Binding parameter at position {} to value {}", i + 1, newValue);
-                                    }
-                                    preparedStatementWriter.setDynamic(
-                                            ps,
-                                            i + 1,
-                                            dataType,
-                                            newValue
-                                    );
-                                }
-                            }
-                        }
+                    PreparedStatement ps = prepareCachedStatement(connection, query, Statement.NO_GENERATED_KEYS);
+                    try {
+                        setUpdateParameters(ps, repositoryType, annotationMetadata, persistentEntity, params, entity, persisted);
                         ps.executeUpdate();
+                        invalidateCaches(entity);
                         return entity;
+                    } finally {
+                        releaseStatement(ps);
                     }
                 } catch (SQLException e) {
                     throw new DataAccessException("Error executing SQL UPDATE: " + e.getMessage(), e);
@@ -592,6 +884,146 @@ public class DefaultJdbcRepositoryOperations extends AbstractSqlRepositoryOperat
         return entity;
     }
 
+    private <T> void setUpdateParameters(
+            PreparedStatement ps,
+            Class<?> repositoryType,
+            AnnotationMetadata annotationMetadata,
+            RuntimePersistentEntity<T> persistentEntity,
+            String[] params,
+            T entity,
+            Set persisted) {
+        for (int i = 0; i < params.length; i++) {
+            String propertyName = params[i];
+            RuntimePersistentProperty<T> pp =
+                    persistentEntity.getPropertyByName(propertyName);
+            if (pp == null) {
+                int j = propertyName.indexOf('.');
+                if (j > -1) {
+                    RuntimePersistentProperty embeddedProp = (RuntimePersistentProperty)
+                            persistentEntity.getPropertyByPath(propertyName).orElse(null);
+                    if (embeddedProp != null) {
+
+                        // embedded case
+                        pp = persistentEntity.getPropertyByName(propertyName.substring(0, j));
+                        if (pp instanceof Association) {
+                            Association assoc = (Association) pp;
+                            if (assoc.getKind() == Relation.Kind.EMBEDDED) {
+                                Object embeddedInstance = pp.getProperty().get(entity);
+
+                                Object embeddedValue = embeddedInstance != null ? embeddedProp.getProperty().get(embeddedInstance) : null;
+                                int index = i + 1;
+                                preparedStatementWriter.setDynamic(
+                                        ps,
+                                        index,
+                                        embeddedProp.getDataType(),
+                                        embeddedValue
+                                );
+                            }
+                        }
+                    } else {
+                        throw new IllegalStateException("Cannot perform update for non-existent property: " + persistentEntity.getSimpleName() + "." + propertyName);
+                    }
+                } else {
+                    throw new IllegalStateException("Cannot perform update for non-existent property: " + persistentEntity.getSimpleName() + "." + propertyName);
+                }
+            } else {
+
+                final Object newValue;
+                final BeanProperty<T, ?> beanProperty = pp.getProperty();
+                if (beanProperty.hasAnnotation(DateUpdated.class)) {
+                    newValue = dateTimeProvider.getNow();
+                    beanProperty.convertAndSet(entity, newValue);
+                } else {
+                    newValue = beanProperty.get(entity);
+                }
+                final DataType dataType = pp.getDataType();
+                if (dataType == DataType.ENTITY && newValue != null && pp instanceof Association) {
+                    final RuntimePersistentProperty<Object> idReader = getIdReader(newValue);
+                    final Association association = (Association) pp;
+                    final BeanProperty<Object, ?> idReaderProperty = idReader.getProperty();
+                    final Object id = idReaderProperty.get(newValue);
+                    if (QUERY_LOG.isTraceEnabled()) {
+                        QUERY_LOG.trace("Binding parameter at position {} to value {}", i + 1, id);
+                    }
+                    if (id != null) {
+
+                        preparedStatementWriter.setDynamic(
+                                ps,
+                                i + 1,
+                                idReader.getDataType(),
+                                id
+                        );
+                        if (association.doesCascade(Relation.Cascade.PERSIST) && !persisted.contains(newValue)) {
+                            final Relation.Kind kind = association.getKind();
+                            final RuntimePersistentEntity associatedEntity = (RuntimePersistentEntity) association.getAssociatedEntity();
+                            switch (kind) {
+                                case ONE_TO_ONE:
+                                case MANY_TO_ONE:
+                                    persisted.add(newValue);
+                                    final StoredInsert<Object> updateStatement = resolveEntityUpdate(
+                                            annotationMetadata,
+                                            repositoryType,
+                                            associatedEntity.getIntrospection().getBeanType(),
+                                            associatedEntity
+                                    );
+                                    updateOne(
+                                            repositoryType,
+                                            annotationMetadata,
+                                            updateStatement.getSql(),
+                                            updateStatement.getParameterBinding(),
+                                            newValue,
+                                            persisted
+                                    );
+                                    break;
+                                default:
+                                    // collections are not bound by the update statement and embedded values are
+                                    // bound as columns of the entity itself, so there is nothing to cascade
+                                    break;
+                            }
+                        }
+                    } else {
+                        if (association.doesCascade(Relation.Cascade.PERSIST) && !persisted.contains(newValue)) {
+                            final RuntimePersistentEntity associatedEntity = (RuntimePersistentEntity) association.getAssociatedEntity();
+
+                            StoredInsert associatedInsert = resolveEntityInsert(
+                                    annotationMetadata,
+                                    repositoryType,
+                                    associatedEntity.getIntrospection().getBeanType(),
+                                    associatedEntity
+                            );
+                            persistOne(
+                                    annotationMetadata,
+                                    repositoryType,
+                                    associatedInsert,
+                                    newValue,
+                                    persisted
+                            );
+                            final Object assignedId = idReaderProperty.get(newValue);
+                            if (assignedId != null) {
+                                preparedStatementWriter.setDynamic(
+                                        ps,
+                                        i + 1,
+                                        idReader.getDataType(),
+                                        assignedId
+                                );
+                            }
+                        }
+                    }
+                } else {
+                    if (QUERY_LOG.isTraceEnabled()) {
+                        QUERY_LOG.trace("Binding parameter at position {} to value {}", i + 1, newValue);
+                    }
+                    preparedStatementWriter.setDynamic(
+                            ps,
+                            i + 1,
+                            dataType,
+                            newValue
+                    );
+                }
+            }
+        }
+    }
+
     @NonNull
     @Override
     public <T> T persist(@NonNull InsertOperation<T> operation) {
@@ -625,27 +1057,33 @@ public class DefaultJdbcRepositoryOperations extends AbstractSqlRepositoryOperat
                 if (hasGeneratedID && (insert.getDialect() == Dialect.ORACLE || insert.getDialect() == Dialect.SQL_SERVER)) {
                     stmt = connection
                             .prepareStatement(insertSql, new String[] { insert.getIdentity().getPersistedName() });
+                    applyQueryTimeout(stmt);
                 } else {
-                    stmt = connection
-                            .prepareStatement(insertSql, generateId ? Statement.RETURN_GENERATED_KEYS : Statement.NO_GENERATED_KEYS);
+                    stmt = prepareCachedStatement(connection, insertSql, generateId ? Statement.RETURN_GENERATED_KEYS : Statement.NO_GENERATED_KEYS);
                 }
 
-                setInsertParameters(insert, entity, stmt);
-                stmt.executeUpdate();
-                persisted.add(entity);
-                if (hasGeneratedID) {
-                    ResultSet generatedKeys = stmt.getGeneratedKeys();
-                    if (generatedKeys.next()) {
-                        long id = generatedKeys.getLong(1);
-                        if (identity.getType().isInstance(id)) {
-                            identity.set(entity, id);
-                        } else {
-                            identity.convertAndSet(entity, id);
+                try {
+                    setInsertParameters(insert, entity, stmt);
+                    stmt.executeUpdate();
+                    persisted.add(entity);
+                    if (hasGeneratedID) {
+                        try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                            if (generatedKeys.next()) {
+                                long id = generatedKeys.getLong(1);
+                                if (identity.getType().isInstance(id)) {
+                                    identity.set(entity, id);
+                                } else {
+                                    identity.convertAndSet(entity, id);
+                                }
+                            } else {
+                                throw new DataAccessException("ID failed to generate. No result returned.");
+                            }
                         }
-                    } else {
-                        throw new DataAccessException("ID failed to generate. No result returned.");
                     }
+                } finally {
+                    releaseStatement(stmt);
                 }
+                invalidateCaches(entity);
                 cascadeInserts(
                         annotationMetadata,
                         repositoryType,
@@ -760,6 +1198,7 @@ public class DefaultJdbcRepositoryOperations extends AbstractSqlRepositoryOperat
                                             persistInBatch(
                                                     annotationMetadata,
                                                     repositoryType,
+                                                    null,
                                                     toPersist,
                                                     associatedInsert,
                                                     persisted
@@ -788,6 +1227,7 @@ public class DefaultJdbcRepositoryOperations extends AbstractSqlRepositoryOperat
 
                                     try (PreparedStatement ps =
                                                  connection.prepareStatement(associationInsert)) {
+                                        applyQueryTimeout(ps);
                                         if (QUERY_LOG.isDebugEnabled()) {
                                             QUERY_LOG.debug("Executing SQL Insert: {}", associationInsert);
                                         }
@@ -826,66 +1266,22 @@ public class DefaultJdbcRepositoryOperations extends AbstractSqlRepositoryOperat
             Connection connection,
             @NonNull PreparedQuery<T, R> preparedQuery,
             boolean isUpdate,
-            boolean isSingleResult) throws SQLException {
+            boolean isSingleResult,
+            @Nullable QueryExecution execution) throws SQLException {
+        long start = instrumentation != null ? System.nanoTime() : 0L;
         Object[] queryParameters = preparedQuery.getParameterArray();
         int[] parameterBinding = preparedQuery.getIndexedParameterBinding();
         DataType[] parameterTypes = preparedQuery.getIndexedParameterTypes();
-        String query = preparedQuery.getQuery();
-
-        final boolean hasIn = preparedQuery.hasInExpression();
-        if (hasIn) {
-            Matcher matcher = IN_EXPRESSION_PATTERN.matcher(query);
-            // this has to be done is two passes, one to remove and establish new indexes
-            // and again to expand existing indexes
-            while (matcher.find()) {
-                int inIndex = Integer.valueOf(matcher.group(1));
-                int queryParameterIndex = parameterBinding[inIndex - 1];
-                Object value = queryParameters[queryParameterIndex];
-
-                if (value == null) {
-                    query = matcher.replaceFirst(NOT_TRUE_EXPRESSION);
-                    queryParameters[queryParameterIndex] = IGNORED_PARAMETER;
-                } else {
-                    int size = sizeOf(value);
-                    if (size == 0) {
-                        queryParameters[queryParameterIndex] = IGNORED_PARAMETER;
-                        query = matcher.replaceFirst(NOT_TRUE_EXPRESSION);
-                    } else {
-                        String replacement = " IN(" + String.join(",", Collections.nCopies(size, "?")) + ")";
-                        query = matcher.replaceFirst(replacement);
-                    }
-                }
-                matcher = IN_EXPRESSION_PATTERN.matcher(query);
-            }
-        }
-
-        if (!isUpdate) {
-            Pageable pageable = preparedQuery.getPageable();
-            if (pageable != Pageable.UNPAGED) {
-                Class<T> rootEntity = preparedQuery.getRootEntity();
-                Sort sort = pageable.getSort();
-                final Class<?> repositoryType = preparedQuery.getRepositoryType();
-                Dialect dialect = dialects.getOrDefault(repositoryType, Dialect.ANSI);
-                QueryBuilder queryBuilder = queryBuilders.getOrDefault(dialect, DEFAULT_SQL_BUILDER);
-                if (sort.isSorted()) {
-                    query += queryBuilder.buildOrderBy(getEntity(rootEntity), sort).getQuery();
-                } else if (isSqlServerWithoutOrderBy(query, dialect)) {
-                    // SQL server requires order by
-                    RuntimePersistentEntity<T> persistentEntity = getEntity(rootEntity);
-                    sort = sortById(persistentEntity);
-                    query += queryBuilder.buildOrderBy(persistentEntity, sort).getQuery();
-                }
-                if (isSingleResult && pageable.getOffset() > 0) {
-                    pageable = Pageable.from(pageable.getNumber(), 1);
-                }
-                query += queryBuilder.buildPagination(pageable).getQuery();
-            }
+        String query = resolveQuery(preparedQuery, queryParameters, isUpdate, isSingleResult);
+        if (execution != null) {
+            execution.sql = query;
         }
 
         if (QUERY_LOG.isDebugEnabled()) {
             QUERY_LOG.debug("Executing Query: {}", query);
         }
-        final PreparedStatement ps = connection.prepareStatement(query);
+        final PreparedStatement ps = prepareCachedStatement(connection, query, Statement.NO_GENERATED_KEYS);
+        applyStatementSettings(ps, preparedQuery, isUpdate, isSingleResult);
         int index = 1;
         for (int i = 0; i < parameterBinding.length; i++) {
             int parameterIndex = parameterBinding[i];
@@ -946,9 +1342,100 @@ public class DefaultJdbcRepositoryOperations extends AbstractSqlRepositoryOperat
                 }
             }
         }
+        Pageable pageable = preparedQuery.getPageable();
+        if (!isUpdate && isKeyset(pageable)) {
+            setCursorParameters(ps, index, getEntity(preparedQuery.getRootEntity()), (CursoredPageable) pageable);
+        }
+        if (instrumentation != null) {
+            instrumentation.statementPrepared(preparedQuery.getRepositoryType(), preparedQuery.getName(), System.nanoTime() - start);
+        }
         return ps;
     }
 
+    @Nullable
+    private QueryExecution newExecution(@NonNull PreparedQuery<?, ?> preparedQuery) {
+        boolean sampled = slowQueryLog != null && slowQueryLog.sample();
+        if (instrumentation == null && !sampled) {
+            return null;
+        }
+        return new QueryExecution(preparedQuery, sampled);
+    }
+
+    /**
+     * Reports the rows mapped by a query and records the query if it was slow.
+     *
+     * @param execution The execution, if it is being timed
+     */
+    private void completeQuery(@Nullable QueryExecution execution) {
+        if (execution != null) {
+            if (instrumentation != null) {
+                instrumentation.resultsMapped(execution.repositoryType, execution.method, execution.rows, execution.mappingNanos);
+            }
+            recordIfSlow(execution, execution.rows);
+        }
+    }
+
+    /**
+     * Records the execution of a statement if it was slow. The time spent by the caller between reading the rows of a
+     * stream is not included.
+     *
+     * @param execution The execution, if it is being timed
+     * @param rows The number of rows read or updated
+     */
+    private void recordIfSlow(@Nullable QueryExecution execution, long rows) {
+        if (execution != null && execution.sampled && slowQueryLog != null) {
+            long elapsed = execution.executed - execution.start + execution.mappingNanos;
+            if (slowQueryLog.isSlow(elapsed)) {
+                slowQueryLog.record(new SlowQuery(
+                        execution.repositoryType,
+                        execution.method,
+                        execution.sql != null ? execution.sql : "",
+                        Arrays.asList(execution.parameterTypes),
+                        rows,
+                        Duration.ofNanos(elapsed),
+                        Instant.now()
+                ));
+            }
+        }
+    }
+
+    private ResultSet executeQuery(PreparedStatement ps, PreparedQuery<?, ?> preparedQuery, @Nullable QueryExecution execution) throws SQLException {
+        if (execution == null) {
+            return ps.executeQuery();
+        }
+        long start = System.nanoTime();
+        ResultSet rs = ps.executeQuery();
+        executed(preparedQuery, execution, start);
+        return rs;
+    }
+
+    private int executeUpdate(PreparedStatement ps, PreparedQuery<?, ?> preparedQuery, @Nullable QueryExecution execution) throws SQLException {
+        if (execution == null) {
+            return ps.executeUpdate();
+        }
+        long start = System.nanoTime();
+        int updated = ps.executeUpdate();
+        executed(preparedQuery, execution, start);
+        return updated;
+    }
+
+    private void executed(PreparedQuery<?, ?> preparedQuery, QueryExecution execution, long start) {
+        execution.executed = System.nanoTime();
+        if (instrumentation != null) {
+            instrumentation.statementExecuted(preparedQuery.getRepositoryType(), preparedQuery.getName(), execution.executed - start);
+        }
+    }
+
+    private int[] executeBatch(PreparedStatement ps, Class<?> repositoryType, @Nullable String method, int size) throws SQLException {
+        if (instrumentation == null || method == null) {
+            return ps.executeBatch();
+        }
+        long start = System.nanoTime();
+        int[] updateCounts = ps.executeBatch();
+        instrumentation.batchExecuted(repositoryType, method, size, System.nanoTime() - start);
+        return updateCounts;
+    }
+
     @Nullable
     @Override
     public <T> T findOne(@NonNull Class<T> type, @NonNull Serializable id) {
@@ -977,11 +1464,91 @@ public class DefaultJdbcRepositoryOperations extends AbstractSqlRepositoryOperat
         throw new UnsupportedOperationException("The findPage method without an explicit query is not supported. Use findPage(PreparedQuery) instead");
     }
 
+    @NonNull
+    @Override
+    public <R> Page<R> findPage(
+            @NonNull PreparedQuery<?, R> preparedQuery,
+            @NonNull PreparedQuery<?, Number> countQuery,
+            @NonNull Pageable pageable) {
+        if (!parallelCount || isTransactionActive()) {
+            return JdbcRepositoryOperations.super.findPage(preparedQuery, countQuery, pageable);
+        }
+        // no transaction to share so count on a separate connection while the page is read
+        return ParallelCount.findPage(
+                pageable,
+                () -> CollectionUtils.iterableToList(findAll(preparedQuery)),
+                () -> findOne(countQuery),
+                async().getExecutor()
+        );
+    }
+
+    /**
+     * Executes a read with a connection. If enabled with {@code non-transactional-reads} and no transaction is active,
+     * the read is executed on a connection in auto-commit mode that is released afterwards, otherwise within a
+     * read-only transaction.
+     *
+     * @param action The action to execute
+     * @param <R> The result type
+     * @return The result
+     */
+    private <R> R executeRead(Function<Connection, R> action) {
+        if (nonTransactionalReads && !isTransactionActive()) {
+            Connection connection = acquireConnection(true);
+            try {
+                return action.apply(connection);
+            } finally {
+                DataSourceUtils.releaseConnection(connection, dataSource);
+            }
+        }
+        return transactionOperations.executeRead(status -> action.apply(status.getConnection()));
+    }
+
+    /**
+     * Acquires a connection outside of a transaction, reporting the time taken to the transaction instrumentation.
+     *
+     * @param readOnly Whether the connection is only used for reads, in which case it may be obtained from a read replica
+     * @return The connection
+     */
+    private Connection acquireConnection(boolean readOnly) {
+        TransactionInstrumentation transactionInstrumentation = transactionOperations instanceof AbstractSynchronousTransactionManager ?
+                ((AbstractSynchronousTransactionManager<?>) transactionOperations).getTransactionInstrumentation() : TransactionInstrumentation.NOOP;
+        boolean instrumented = transactionInstrumentation != TransactionInstrumentation.NOOP;
+        long start = instrumented ? System.nanoTime() : 0L;
+        Connection connection;
+        if (readOnly && dataSource instanceof ReadReplicaRoutingDataSource) {
+            try {
+                connection = ((ReadReplicaRoutingDataSource) dataSource).getConnection(true);
+            } catch (SQLException e) {
+                throw new CannotGetJdbcConnectionException("Failed to obtain JDBC Connection", e);
+            }
+        } else {
+            connection = DataSourceUtils.getConnection(dataSource);
+        }
+        if (instrumented) {
+            transactionInstrumentation.connectionAcquired(System.nanoTime() - start);
+        }
+        return connection;
+    }
+
+    private boolean isTransactionActive() {
+        return ParallelCount.isTransactionActive(transactionOperations, dataSource);
+    }
+
     @NonNull
     @Override
     public <T> Iterable<T> persistAll(@NonNull BatchOperation<T> operation) {
         @SuppressWarnings("unchecked") StoredInsert<T> insert = resolveInsert(operation);
-        if (!insert.doesSupportBatch()) {
+        if (insert.doesSupportMultiRowInsert()) {
+            //noinspection ConstantConditions
+            return persistInMultiRowInsert(
+                    operation.getAnnotationMetadata(),
+                    operation.getRepositoryType(),
+                    operation.getName(),
+                    operation,
+                    insert,
+                    new HashSet(10)
+            );
+        } else if (!insert.doesSupportBatch()) {
             List<T> results = new ArrayList<>();
             for (T entity : operation) {
                 results.add(persist(new InsertOperation<T>() {
@@ -1020,6 +1587,7 @@ public class DefaultJdbcRepositoryOperations extends AbstractSqlRepositoryOperat
             return persistInBatch(
                     operation.getAnnotationMetadata(),
                     operation.getRepositoryType(),
+                    operation.getName(),
                     operation,
                     insert,
                     new HashSet(10)
@@ -1030,80 +1598,262 @@ public class DefaultJdbcRepositoryOperations extends AbstractSqlRepositoryOperat
     private <T> Iterable<T> persistInBatch(
             AnnotationMetadata annotationMetadata,
             Class<?> repositoryType,
+            @Nullable String method,
             @NonNull Iterable<T> entities,
             StoredInsert<T> insert,
             Set persisted) {
         return transactionOperations.executeWrite((status) -> {
             Connection connection = status.getConnection();
-            List<T> results = new ArrayList<>(10);
             boolean generateId = insert.isGenerateId();
             String insertSql = insert.getSql();
             BeanProperty<T, Object> identity = insert.getIdentityProperty();
             final boolean hasGeneratedID = generateId && identity != null;
-
-            try {
-                PreparedStatement stmt;
-                if (hasGeneratedID && insert.getDialect() == Dialect.ORACLE) {
-                    stmt = connection
-                            .prepareStatement(insertSql, new String[] { identity.getName() });
-                } else {
-                    stmt = connection
-                            .prepareStatement(insertSql, generateId ? Statement.RETURN_GENERATED_KEYS : Statement.NO_GENERATED_KEYS);
-                }
+            // collections are returned as is unless an entity is skipped, avoiding a second list of every entity
+            List<T> results = entities instanceof Collection ? null : new ArrayList<>(10);
+            int count = 0;
+
+            try (PreparedStatement stmt = hasGeneratedID && insert.getDialect() == Dialect.ORACLE ?
+                    connection.prepareStatement(insertSql, new String[] { identity.getName() }) :
+                    connection.prepareStatement(insertSql, generateId ? Statement.RETURN_GENERATED_KEYS : Statement.NO_GENERATED_KEYS)) {
+                applyQueryTimeout(stmt);
                 if (QUERY_LOG.isDebugEnabled()) {
                     QUERY_LOG.debug("Executing Batch SQL Insert: {}", insertSql);
                 }
+                List<T> batch = new ArrayList<>(Math.min(batchSize, 1000));
                 for (T entity : entities) {
                     if (persisted.contains(entity)) {
+                        if (results == null) {
+                            results = firstEntities(entities, count);
+                        }
                         continue;
                     }
+                    count++;
+                    if (results != null) {
+                        results.add(entity);
+                    }
                     setInsertParameters(insert, entity, stmt);
                     stmt.addBatch();
-                    results.add(entity);
+                    batch.add(entity);
+                    invalidateCaches(entity);
+                    if (batch.size() == batchSize) {
+                        executeBatchInsert(annotationMetadata, repositoryType, method, insert, stmt, batch, persisted, connection, hasGeneratedID);
+                        batch.clear();
+                    }
                 }
-                stmt.executeBatch();
-
+                if (!batch.isEmpty()) {
+                    executeBatchInsert(annotationMetadata, repositoryType, method, insert, stmt, batch, persisted, connection, hasGeneratedID);
+                }
+                return results != null ? results : entities;
+            } catch (SQLException e) {
+                throw new DataAccessException("SQL error executing INSERT: " + e.getMessage(), e);
+            }
+        });
+    }
 
-                if (hasGeneratedID) {
-                    Iterator<T> resultIterator = results.iterator();
-                    ResultSet generatedKeys = stmt.getGeneratedKeys();
-                    while (resultIterator.hasNext()) {
-                        T entity = resultIterator.next();
-                        if (!generatedKeys.next()) {
-                            throw new DataAccessException("Failed to generate ID for entity: " + entity);
-                        } else {
-                            long id = generatedKeys.getLong(1);
-                            if (identity.getType().isInstance(id)) {
-                                identity.set(entity, id);
-                            } else {
-                                identity.convertAndSet(entity, id);
-                            }
+    private <T> Iterable<T> persistInMultiRowInsert(
+            AnnotationMetadata annotationMetadata,
+            Class<?> repositoryType,
+            @Nullable String method,
+            @NonNull Iterable<T> entities,
+            StoredInsert<T> insert,
+            Set persisted) {
+        return transactionOperations.executeWrite((status) -> {
+            Connection connection = status.getConnection();
+            final int rowsPerInsert = insert.getMaxRowsPerInsert(batchSize);
+            // collections are returned as is unless an entity is skipped, avoiding a second list of every entity
+            List<T> results = entities instanceof Collection ? null : new ArrayList<>(10);
+            int count = 0;
+            try {
+                List<T> rows = new ArrayList<>(rowsPerInsert);
+                for (T entity : entities) {
+                    if (persisted.contains(entity)) {
+                        if (results == null) {
+                            results = firstEntities(entities, count);
                         }
+                        continue;
+                    }
+                    count++;
+                    if (results != null) {
+                        results.add(entity);
+                    }
+                    rows.add(entity);
+                    invalidateCaches(entity);
+                    if (rows.size() == rowsPerInsert) {
+                        executeMultiRowInsert(annotationMetadata, repositoryType, method, insert, rows, persisted, connection);
+                        rows.clear();
                     }
                 }
-                for (T result : results) {
-                    cascadeInserts(
-                            annotationMetadata,
-                            repositoryType,
-                            insert,
-                            result,
-                            persisted,
-                            connection,
-                            identity
-                    );
+                if (!rows.isEmpty()) {
+                    executeMultiRowInsert(annotationMetadata, repositoryType, method, insert, rows, persisted, connection);
                 }
-                return results;
+                return results != null ? results : entities;
             } catch (SQLException e) {
                 throw new DataAccessException("SQL error executing INSERT: " + e.getMessage(), e);
             }
         });
     }
 
+    /**
+     * Copies the first entities of the given entities, used once an entity is skipped and the entities can no longer
+     * be returned as the result of an insert.
+     *
+     * @param entities The entities
+     * @param count The number of entities to copy
+     * @param <T> The entity type
+     * @return The list of entities
+     */
+    private static <T> List<T> firstEntities(Iterable<T> entities, int count) {
+        List<T> results = new ArrayList<>(count + 10);
+        Iterator<T> i = entities.iterator();
+        while (results.size() < count) {
+            results.add(i.next());
+        }
+        return results;
+    }
+
+    private <T> void executeMultiRowInsert(
+            AnnotationMetadata annotationMetadata,
+            Class<?> repositoryType,
+            @Nullable String method,
+            StoredInsert<T> insert,
+            List<T> rows,
+            Set persisted,
+            Connection connection) throws SQLException {
+        final String insertSql = insert.getSql(rows.size());
+        final boolean hasGeneratedID = insert.isGenerateId() && insert.getIdentityProperty() != null;
+        if (QUERY_LOG.isDebugEnabled()) {
+            QUERY_LOG.debug("Executing Multi-Row SQL Insert of {} rows: {}", rows.size(), insertSql);
+        }
+        try (PreparedStatement stmt = connection.prepareStatement(insertSql, hasGeneratedID ? Statement.RETURN_GENERATED_KEYS : Statement.NO_GENERATED_KEYS)) {
+            applyQueryTimeout(stmt);
+            final int parametersPerRow = insert.getParameterBinding().length;
+            int parameterOffset = 0;
+            for (T entity : rows) {
+                setInsertParameters(insert, entity, stmt, parameterOffset);
+                parameterOffset += parametersPerRow;
+            }
+            long start = instrumentation != null ? System.nanoTime() : 0L;
+            stmt.executeUpdate();
+            if (instrumentation != null && method != null) {
+                instrumentation.batchExecuted(repositoryType, method, rows.size(), System.nanoTime() - start);
+            }
+            afterBatchInsert(annotationMetadata, repositoryType, insert, stmt, rows, persisted, connection, hasGeneratedID);
+        }
+    }
+
+    private <T> void executeBatchInsert(
+            AnnotationMetadata annotationMetadata,
+            Class<?> repositoryType,
+            @Nullable String method,
+            StoredInsert<T> insert,
+            PreparedStatement stmt,
+            List<T> batch,
+            Set persisted,
+            Connection connection,
+            boolean hasGeneratedID) throws SQLException {
+        executeBatch(stmt, repositoryType, method, batch.size());
+        afterBatchInsert(annotationMetadata, repositoryType, insert, stmt, batch, persisted, connection, hasGeneratedID);
+    }
+
+    private <T> void afterBatchInsert(
+            AnnotationMetadata annotationMetadata,
+            Class<?> repositoryType,
+            StoredInsert<T> insert,
+            PreparedStatement stmt,
+            List<T> batch,
+            Set persisted,
+            Connection connection,
+            boolean hasGeneratedID) throws SQLException {
+        BeanProperty<T, Object> identity = insert.getIdentityProperty();
+        if (hasGeneratedID) {
+            try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                for (T entity : batch) {
+                    if (!generatedKeys.next()) {
+                        throw new DataAccessException("Failed to generate ID for entity: " + entity);
+                    } else {
+                        long id = generatedKeys.getLong(1);
+                        if (identity.getType().isInstance(id)) {
+                            identity.set(entity, id);
+                        } else {
+                            identity.convertAndSet(entity, id);
+                        }
+                    }
+                }
+            }
+        }
+        for (T result : batch) {
+            cascadeInserts(
+                    annotationMetadata,
+                    repositoryType,
+                    insert,
+                    result,
+                    persisted,
+                    connection,
+                    identity
+            );
+        }
+    }
+
     @Override
     @PreDestroy
     public void close() {
-        if (executorService != null) {
-            executorService.shutdown();
+        if (localExecutorService != null) {
+            // the I/O executor is shut down by the context
+            localExecutorService.shutdown();
+        }
+        if (statementCache != null) {
+            statementCache.close();
+        }
+    }
+
+    @Nullable
+    @Override
+    public QueryResultCache getQueryResultCache() {
+        return queryResultCache;
+    }
+
+    /**
+     * @return The prepared statement cache, or {@code null} if statement caching is disabled for the data source
+     * @since 1.0.1
+     */
+    public @Nullable PreparedStatementCache getStatementCache() {
+        return statementCache;
+    }
+
+    /**
+     * Prepares a statement, reusing a cached one for the same connection if statement caching is enabled.
+     * The configured query timeout is applied to the statement.
+     * Statements obtained this way must be returned with {@link #releaseStatement(PreparedStatement)}.
+     *
+     * @param connection The connection
+     * @param sql The SQL
+     * @param autoGeneratedKeys The generated keys mode
+     * @return The statement
+     * @throws SQLException If the statement cannot be prepared
+     */
+    private PreparedStatement prepareCachedStatement(Connection connection, String sql, int autoGeneratedKeys) throws SQLException {
+        PreparedStatement ps = statementCache != null ?
+                statementCache.prepareStatement(connection, sql, autoGeneratedKeys) :
+                connection.prepareStatement(sql, autoGeneratedKeys);
+        applyQueryTimeout(ps);
+        return ps;
+    }
+
+    /**
+     * Applies the configured query timeout to a statement. Cached statements are always reset.
+     *
+     * @param ps The statement
+     * @throws SQLException If the timeout cannot be applied
+     */
+    private void applyQueryTimeout(PreparedStatement ps) throws SQLException {
+        if (queryTimeout > 0 || statementCache != null) {
+            ps.setQueryTimeout(queryTimeout);
+        }
+    }
+
+    private void releaseStatement(PreparedStatement ps) throws SQLException {
+        if (statementCache == null || !statementCache.release(ps)) {
+            ps.close();
         }
     }
 
@@ -1175,7 +1925,7 @@ public class DefaultJdbcRepositoryOperations extends AbstractSqlRepositoryOperat
     public <T> Stream<T> entityStream(@NonNull ResultSet resultSet, @Nullable String prefix, @NonNull Class<T> rootEntity) {
         ArgumentUtils.requireNonNull("resultSet", resultSet);
         ArgumentUtils.requireNonNull("rootEntity", rootEntity);
-        TypeMapper<ResultSet, T> mapper = new SqlResultEntityTypeMapper<>(prefix, getEntity(rootEntity), columnNameResultSetReader, jsonCodec);
+        TypeMapper<ResultSet, T> mapper = new SqlResultEntityTypeMapper<>(prefix, getEntity(rootEntity), newIndexedColumnReader(), jsonCodec);
         Iterable<T> iterable = () -> new Iterator<T>() {
             boolean nextCalled = false;
 
@@ -1202,4 +1952,30 @@ public class DefaultJdbcRepositoryOperations extends AbstractSqlRepositoryOperat
         return StreamSupport.stream(iterable.spliterator(), false);
     }
 
+    /**
+     * The state of a query that is being timed, from the preparation of its statement until its results are read.
+     */
+    private static final class QueryExecution {
+        final Class<?> repositoryType;
+        final String method;
+        final DataType[] parameterTypes;
+        final boolean sampled;
+        final long start = System.nanoTime();
+        long executed;
+        String sql;
+        long rows;
+        long mappingNanos;
+
+        QueryExecution(PreparedQuery<?, ?> preparedQuery, boolean sampled) {
+            this.repositoryType = preparedQuery.getRepositoryType();
+            this.method = preparedQuery.getName();
+            this.parameterTypes = preparedQuery.getIndexedParameterTypes();
+            this.sampled = sampled;
+        }
+
+        void rowMapped(long start) {
+            rows++;
+            mappingNanos += System.nanoTime() - start;
+        }
+    }
 }
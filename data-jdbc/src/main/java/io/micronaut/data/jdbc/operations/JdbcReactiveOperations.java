@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.operations;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.micronaut.data.model.runtime.PreparedQuery;
+import io.micronaut.data.runtime.operations.ExecutorAsyncOperations;
+import io.micronaut.data.runtime.operations.ExecutorReactiveOperations;
+import org.reactivestreams.Publisher;
+
+/**
+ * Reactive operations for JDBC that emit the results of queries as the {@link java.sql.ResultSet} is read, instead of
+ * loading all results into memory before emitting the first. Reading is driven by the demand of the subscriber and
+ * cancelling the subscription closes the statement.
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+final class JdbcReactiveOperations extends ExecutorReactiveOperations {
+
+    private final DefaultJdbcRepositoryOperations operations;
+
+    /**
+     * Default constructor.
+     *
+     * @param operations      The JDBC operations
+     * @param asyncOperations The async operations
+     */
+    JdbcReactiveOperations(@NonNull DefaultJdbcRepositoryOperations operations, @NonNull ExecutorAsyncOperations asyncOperations) {
+        super(asyncOperations);
+        this.operations = operations;
+    }
+
+    @NonNull
+    @Override
+    public <T, R> Publisher<R> findAll(@NonNull PreparedQuery<T, R> preparedQuery) {
+        return fromStream(() -> operations.openStream(preparedQuery));
+    }
+}
@@ -25,4 +25,36 @@ import io.micronaut.data.operations.RepositoryOperations;
  * @since 1.0.0
  */
 public interface JdbcRepositoryOperations extends RepositoryOperations, JdbcOperations {
+
+    /**
+     * Query hint that, when set to {@code true}, makes a query method returning {@link Iterable} map each row as it is
+     * iterated instead of reading all results into a list. Only applies within a transaction, the results must be
+     * iterated once before the transaction completes.
+     *
+     * @since 1.0.1
+     */
+    String HINT_LAZY = "io.micronaut.data.jdbc.lazy";
+
+    /**
+     * Query hint for the number of rows fetched from the database at a time. Overrides the configured fetch size.
+     *
+     * @since 1.0.1
+     */
+    String HINT_FETCH_SIZE = "io.micronaut.data.jdbc.fetchSize";
+
+    /**
+     * Query hint for the maximum number of rows a query reads, additional rows are silently dropped. Overrides the
+     * configured max rows.
+     *
+     * @since 1.0.1
+     */
+    String HINT_MAX_ROWS = "io.micronaut.data.jdbc.maxRows";
+
+    /**
+     * Query hint for the number of seconds a statement may execute before it is cancelled. Overrides the configured
+     * query timeout.
+     *
+     * @since 1.0.1
+     */
+    String HINT_QUERY_TIMEOUT = "io.micronaut.data.jdbc.queryTimeout";
 }
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.operations;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.data.runtime.config.DataSettings;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A cache of prepared statements scoped to the physical connection they were prepared on.
+ *
+ * <p>Statements are prepared through the connection obtained from the data source, which for a pool is the
+ * pooled connection, so that the pool keeps track of them. They are cached per physical connection, unwrapped from
+ * the pooled one, since pools hand out a new pooled connection for every checkout of the same physical connection.
+ * Statements the pool closes when a pooled connection is returned are discarded when next checked out, hence with
+ * such a pool statements are only reused for as long as the connection is held, for example within a transaction.
+ * A statement is checked out of the cache while in use and returned to it with {@link #release(PreparedStatement)}.
+ * Each connection keeps at most the configured number of idle statements, evicting the least recently used.</p>
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+@Internal
+public final class PreparedStatementCache implements AutoCloseable {
+
+    private final int maxStatementsPerConnection;
+    private final Map<Connection, ConnectionStatements> connections = new IdentityHashMap<>(10);
+    // statements are prepared through the pooled connection but cached for the physical one, so the owner is tracked
+    private final Map<PreparedStatement, ConnectionStatements> owners = new IdentityHashMap<>(10);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Default constructor.
+     * @param maxStatementsPerConnection The maximum number of idle statements to keep per connection
+     */
+    PreparedStatementCache(int maxStatementsPerConnection) {
+        this.maxStatementsPerConnection = maxStatementsPerConnection;
+    }
+
+    /**
+     * @return The number of times a cached statement was reused.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of times a statement had to be prepared.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The number of idle statements closed to make room for others.
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Obtains a prepared statement for the given SQL, reusing an idle one if present.
+     *
+     * @param connection The connection
+     * @param sql The SQL
+     * @param autoGeneratedKeys The generated keys mode
+     * @return The statement, which should be passed to {@link #release(PreparedStatement)} once used
+     * @throws SQLException If the statement cannot be prepared
+     */
+    @NonNull
+    PreparedStatement prepareStatement(@NonNull Connection connection, @NonNull String sql, int autoGeneratedKeys) throws SQLException {
+        final ConnectionStatements statements = statementsFor(physicalConnection(connection));
+        final StatementKey key = new StatementKey(sql, autoGeneratedKeys);
+        PreparedStatement ps = statements.checkout(key);
+        if (ps != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            ps = connection.prepareStatement(sql, autoGeneratedKeys);
+            statements.track(ps, key);
+        }
+        synchronized (connections) {
+            owners.put(ps, statements);
+        }
+        return ps;
+    }
+
+    /**
+     * Returns a statement obtained from {@link #prepareStatement(Connection, String, int)} to the cache.
+     *
+     * @param ps The statement
+     * @return False if the statement was not obtained from this cache and should be closed by the caller
+     * @throws SQLException If the statement cannot be reset
+     */
+    boolean release(@NonNull PreparedStatement ps) throws SQLException {
+        final ConnectionStatements statements;
+        synchronized (connections) {
+            statements = owners.remove(ps);
+        }
+        return statements != null && statements.checkin(ps);
+    }
+
+    @Override
+    public void close() {
+        synchronized (connections) {
+            for (ConnectionStatements statements : connections.values()) {
+                statements.close();
+            }
+            connections.clear();
+            owners.clear();
+        }
+    }
+
+    private static Connection physicalConnection(Connection connection) {
+        try {
+            Connection physical = connection.unwrap(Connection.class);
+            return physical != null ? physical : connection;
+        } catch (SQLException e) {
+            // not a wrapper
+            return connection;
+        }
+    }
+
+    private ConnectionStatements statementsFor(Connection connection) throws SQLException {
+        synchronized (connections) {
+            ConnectionStatements statements = connections.get(connection);
+            if (statements == null) {
+                // a new physical connection, a good time to forget connections the pool has closed
+                Iterator<Map.Entry<Connection, ConnectionStatements>> i = connections.entrySet().iterator();
+                while (i.hasNext()) {
+                    Map.Entry<Connection, ConnectionStatements> entry = i.next();
+                    if (entry.getKey().isClosed()) {
+                        entry.getValue().close();
+                        i.remove();
+                    }
+                }
+                statements = new ConnectionStatements();
+                connections.put(connection, statements);
+            }
+            return statements;
+        }
+    }
+
+    private static void closeQuietly(PreparedStatement ps) {
+        try {
+            ps.close();
+        } catch (SQLException e) {
+            if (DataSettings.QUERY_LOG.isTraceEnabled()) {
+                DataSettings.QUERY_LOG.trace("Error closing cached statement: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * The statements of a single physical connection.
+     */
+    private final class ConnectionStatements {
+        private final Map<PreparedStatement, StatementKey> checkedOut = new IdentityHashMap<>(4);
+        private final LinkedHashMap<StatementKey, PreparedStatement> idle = new LinkedHashMap<StatementKey, PreparedStatement>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<StatementKey, PreparedStatement> eldest) {
+                if (size() > maxStatementsPerConnection) {
+                    evictions.increment();
+                    closeQuietly(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        synchronized PreparedStatement checkout(StatementKey key) throws SQLException {
+            PreparedStatement ps = idle.remove(key);
+            if (ps != null) {
+                if (ps.isClosed()) {
+                    return null;
+                }
+                checkedOut.put(ps, key);
+            }
+            return ps;
+        }
+
+        synchronized void track(PreparedStatement ps, StatementKey key) {
+            checkedOut.put(ps, key);
+        }
+
+        synchronized boolean checkin(PreparedStatement ps) throws SQLException {
+            StatementKey key = checkedOut.remove(ps);
+            if (key == null) {
+                return false;
+            }
+            if (!ps.isClosed()) {
+                ps.clearParameters();
+                PreparedStatement existing = idle.put(key, ps);
+                if (existing != null && existing != ps) {
+                    closeQuietly(existing);
+                }
+            }
+            return true;
+        }
+
+        synchronized void close() {
+            for (PreparedStatement ps : idle.values()) {
+                closeQuietly(ps);
+            }
+            idle.clear();
+        }
+    }
+
+    /**
+     * The key of a cached statement.
+     */
+    private static final class StatementKey {
+        private final String sql;
+        private final int autoGeneratedKeys;
+        private final int hashCode;
+
+        StatementKey(String sql, int autoGeneratedKeys) {
+            this.sql = sql;
+            this.autoGeneratedKeys = autoGeneratedKeys;
+            this.hashCode = 31 * sql.hashCode() + autoGeneratedKeys;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            StatementKey that = (StatementKey) o;
+            return autoGeneratedKeys == that.autoGeneratedKeys && sql.equals(that.sql);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.operations;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.beans.BeanProperty;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.data.intercept.annotation.DataMethod;
+import io.micronaut.data.jdbc.annotation.EntityCache;
+import io.micronaut.data.jdbc.cache.EntityCacheRegion;
+import io.micronaut.data.jdbc.cache.EntityCacheRegionFactory;
+import io.micronaut.data.model.runtime.PreparedQuery;
+import io.micronaut.data.model.runtime.RuntimePersistentEntity;
+import io.micronaut.data.model.runtime.RuntimePersistentProperty;
+import io.micronaut.transaction.support.TransactionSynchronizationAdapter;
+import io.micronaut.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Caches the entities annotated with {@link EntityCache} by ID and keeps the cache consistent with the transactions
+ * of the data source.
+ *
+ * <p>Within a transaction entities are only added to the cache once the transaction commits. Once an entity type is
+ * modified within a transaction the cache is bypassed for that type until the transaction completes, at which point
+ * the modified entities are invalidated again. Every invalidation advances the generation of the entity type and an
+ * entity is only cached if the generation is still the one captured with {@link #generation(Class)} before it was
+ * read, hence a read that overlaps with the invalidation of a concurrent modification doesn't cache the state it read.
+ * State read before a concurrent transaction commits and cached before that transaction completes is removed by the
+ * invalidation on completion.</p>
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+final class TransactionalEntityCache {
+
+    private final EntityCacheRegionFactory regionFactory;
+    private final Function<Class<?>, RuntimePersistentEntity<?>> entityResolver;
+    private final Map<Class<?>, Optional<CachedEntity>> cachedEntities = new ConcurrentHashMap<>(10);
+
+    /**
+     * Default constructor.
+     *
+     * @param regionFactory The region factory
+     * @param entityResolver Resolves the persistent entity of a type
+     */
+    TransactionalEntityCache(@NonNull EntityCacheRegionFactory regionFactory, @NonNull Function<Class<?>, RuntimePersistentEntity<?>> entityResolver) {
+        this.regionFactory = regionFactory;
+        this.entityResolver = entityResolver;
+    }
+
+    /**
+     * Resolves the ID an entity would be cached under for the given query.
+     *
+     * @param preparedQuery The prepared query
+     * @return The ID or {@code null} if the query is not a cacheable lookup by ID
+     */
+    @Nullable
+    Object idOf(@NonNull PreparedQuery<?, ?> preparedQuery) {
+        CachedEntity cachedEntity = cachedEntity(preparedQuery.getRootEntity());
+        if (cachedEntity == null || preparedQuery.getResultType() != preparedQuery.getRootEntity()) {
+            return null;
+        }
+        AnnotationMetadata annotationMetadata = preparedQuery.getAnnotationMetadata();
+        int[] parameterBinding = preparedQuery.getIndexedParameterBinding();
+        if (parameterBinding.length != 1 || parameterBinding[0] < 0 ||
+                preparedQuery.hasResultConsumer() ||
+                !preparedQuery.getJoinFetchPaths().isEmpty() ||
+                !annotationMetadata.booleanValue(DataMethod.class, DataMethod.META_MEMBER_FIND_BY_ID).orElse(false)) {
+            return null;
+        }
+        Object id = preparedQuery.getParameterArray()[parameterBinding[0]];
+        return id != null ? cachedEntity.key(id) : null;
+    }
+
+    /**
+     * Looks up a cached entity.
+     *
+     * @param type The entity type
+     * @param id The ID returned by {@link #idOf(PreparedQuery)}
+     * @param <T> The entity type
+     * @return The entity or {@code null} if it is not cached
+     */
+    @Nullable
+    <T> T get(@NonNull Class<T> type, @NonNull Object id) {
+        CachedEntity cachedEntity = cachedEntity(type);
+        if (cachedEntity == null || isModifiedInTransaction(cachedEntity)) {
+            return null;
+        }
+        return type.cast(cachedEntity.region.get(id));
+    }
+
+    /**
+     * Captures the generation of an entity type, to be passed to {@link #put(Class, Object, Object, long)} for an
+     * entity read afterwards.
+     *
+     * @param type The entity type
+     * @return The generation
+     */
+    long generation(@NonNull Class<?> type) {
+        CachedEntity cachedEntity = cachedEntity(type);
+        return cachedEntity != null ? cachedEntity.generation : 0;
+    }
+
+    /**
+     * Caches an entity read from the database, once the current transaction commits. The entity is not cached if
+     * entities of the type were invalidated since the given generation was captured.
+     *
+     * @param type The entity type
+     * @param id The ID returned by {@link #idOf(PreparedQuery)}
+     * @param entity The entity
+     * @param generation The generation captured with {@link #generation(Class)} before the entity was read
+     */
+    void put(@NonNull Class<?> type, @NonNull Object id, @NonNull Object entity, long generation) {
+        CachedEntity cachedEntity = cachedEntity(type);
+        if (cachedEntity == null || isModifiedInTransaction(cachedEntity)) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    cachedEntity.put(id, entity, generation);
+                }
+            });
+        } else {
+            cachedEntity.put(id, entity, generation);
+        }
+    }
+
+    /**
+     * Invalidates the cached state of an entity.
+     *
+     * @param entity The entity
+     */
+    void invalidate(@NonNull Object entity) {
+        CachedEntity cachedEntity = cachedEntity(entity.getClass());
+        if (cachedEntity == null) {
+            return;
+        }
+        Object id = cachedEntity.idProperty.get(entity);
+        if (id == null) {
+            return;
+        }
+        id = cachedEntity.key(id);
+        cachedEntity.invalidate(id);
+        Modifications modifications = currentModifications();
+        if (modifications != null) {
+            modifications.add(cachedEntity, id);
+        }
+    }
+
+    /**
+     * Invalidates all cached entities of a type.
+     *
+     * @param type The entity type
+     */
+    void invalidateAll(@NonNull Class<?> type) {
+        CachedEntity cachedEntity = cachedEntity(type);
+        if (cachedEntity == null) {
+            return;
+        }
+        cachedEntity.invalidateAll();
+        Modifications modifications = currentModifications();
+        if (modifications != null) {
+            modifications.add(cachedEntity, null);
+        }
+    }
+
+    @Nullable
+    private CachedEntity cachedEntity(Class<?> type) {
+        return cachedEntities.computeIfAbsent(type, t -> {
+            RuntimePersistentEntity<?> entity = entityResolver.apply(t);
+            AnnotationMetadata annotationMetadata = entity.getAnnotationMetadata();
+            RuntimePersistentProperty<?> identity = entity.getIdentity();
+            if (identity == null || !annotationMetadata.hasAnnotation(EntityCache.class)) {
+                return Optional.empty();
+            }
+            String region = annotationMetadata.stringValue(EntityCache.class, "region").orElse(entity.getName());
+            int maxSize = annotationMetadata.intValue(EntityCache.class, "maxSize").orElse(1000);
+            Duration expireAfterWrite = annotationMetadata.stringValue(EntityCache.class, "expireAfterWrite")
+                    .flatMap(v -> ConversionService.SHARED.convert(v, Duration.class))
+                    .orElse(null);
+            //noinspection unchecked
+            return Optional.of(new CachedEntity(
+                    regionFactory.createRegion(region, maxSize, expireAfterWrite),
+                    (BeanProperty) identity.getProperty(),
+                    identity.getType()
+            ));
+        }).orElse(null);
+    }
+
+    private boolean isModifiedInTransaction(CachedEntity cachedEntity) {
+        Modifications modifications = (Modifications) TransactionSynchronizationManager.getResource(this);
+        return modifications != null && modifications.contains(cachedEntity);
+    }
+
+    @Nullable
+    private Modifications currentModifications() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        Modifications modifications = (Modifications) TransactionSynchronizationManager.getResource(this);
+        if (modifications == null) {
+            Modifications newModifications = new Modifications();
+            TransactionSynchronizationManager.bindResource(this, newModifications);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCompletion(@NonNull Status status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TransactionalEntityCache.this);
+                    newModifications.invalidate();
+                }
+            });
+            modifications = newModifications;
+        }
+        return modifications;
+    }
+
+    /**
+     * A cached entity type.
+     */
+    private static final class CachedEntity {
+        final EntityCacheRegion region;
+        final BeanProperty<Object, Object> idProperty;
+        final Class<?> idType;
+        volatile long generation;
+
+        CachedEntity(EntityCacheRegion region, BeanProperty<Object, Object> idProperty, Class<?> idType) {
+            this.region = region;
+            this.idProperty = idProperty;
+            this.idType = idType;
+        }
+
+        /**
+         * Converts an ID to the type of the identity so that IDs read from query parameters match those of entities.
+         */
+        Object key(Object id) {
+            if (idType.isInstance(id)) {
+                return id;
+            }
+            return ConversionService.SHARED.convert(id, idType).orElse(id);
+        }
+
+        synchronized void put(Object id, Object entity, long expectedGeneration) {
+            if (generation == expectedGeneration) {
+                region.put(id, entity);
+            }
+        }
+
+        synchronized void invalidate(Object id) {
+            generation++;
+            region.invalidate(id);
+        }
+
+        synchronized void invalidateAll() {
+            generation++;
+            region.invalidateAll();
+        }
+    }
+
+    /**
+     * The entities modified within a transaction, a {@code null} set of IDs means all entities of the type.
+     */
+    private static final class Modifications {
+        private final Map<CachedEntity, Set<Object>> modified = new IdentityHashMap<>(4);
+
+        boolean contains(CachedEntity cachedEntity) {
+            return modified.containsKey(cachedEntity);
+        }
+
+        void add(CachedEntity cachedEntity, @Nullable Object id) {
+            if (id == null) {
+                modified.put(cachedEntity, null);
+            } else if (!modified.containsKey(cachedEntity)) {
+                Set<Object> ids = new HashSet<>(4);
+                ids.add(id);
+                modified.put(cachedEntity, ids);
+            } else {
+                Set<Object> ids = modified.get(cachedEntity);
+                if (ids != null) {
+                    ids.add(id);
+                }
+            }
+        }
+
+        void invalidate() {
+            for (Map.Entry<CachedEntity, Set<Object>> entry : modified.entrySet()) {
+                CachedEntity cachedEntity = entry.getKey();
+                Set<Object> ids = entry.getValue();
+                if (ids == null) {
+                    cachedEntity.invalidateAll();
+                } else {
+                    for (Object id : ids) {
+                        cachedEntity.invalidate(id);
+                    }
+                }
+            }
+        }
+    }
+}
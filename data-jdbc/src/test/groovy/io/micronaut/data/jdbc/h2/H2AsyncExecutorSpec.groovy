@@ -0,0 +1,66 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.data.jdbc.operations.DefaultJdbcRepositoryOperations
+import io.micronaut.data.model.Pageable
+import io.micronaut.data.model.query.builder.sql.Dialect
+import io.micronaut.data.runtime.config.ExecutorStrategy
+import io.micronaut.data.runtime.config.SchemaGenerate
+import io.micronaut.data.tck.entities.Person
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.TimeUnit
+import java.util.function.Supplier
+
+class H2AsyncExecutorSpec extends Specification {
+
+    @Unroll
+    void "test pages read by async tasks are counted with the #strategy executor and a max concurrency of #maxConcurrency"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+                "datasources.default.name": "asyncdb",
+                "datasources.default.schema-generate": SchemaGenerate.CREATE_DROP,
+                "datasources.default.dialect": Dialect.H2,
+                "datasources.default.async-executor": strategy,
+                "datasources.default.async-max-concurrency": maxConcurrency,
+                "micronaut.data.pageable.parallel-count": true
+        )
+        H2PersonRepository repository = context.getBean(H2PersonRepository)
+        def executor = context.getBean(DefaultJdbcRepositoryOperations).async().executor
+        repository.saveAll((1..10).collect { new Person(name: "Person $it") })
+
+        when:"more pages are read by async tasks than the executor runs at the same time"
+        def futures = (1..8).collect {
+            CompletableFuture.supplyAsync({ repository.findAll(Pageable.from(0, 3)) } as Supplier, executor)
+        }
+        def pages = futures.collect { it.get(10, TimeUnit.SECONDS) }
+
+        then:"the counts do not wait for the occupied executor"
+        pages.every { it.content.size() == 3 && it.totalSize == 10 }
+
+        cleanup:
+        context?.close()
+
+        where:
+        strategy                 | maxConcurrency
+        ExecutorStrategy.BOUNDED | 2
+        ExecutorStrategy.IO      | 1
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.data.runtime.metrics.RepositoryMetrics
+import io.micronaut.test.annotation.MicronautTest
+import io.micronaut.transaction.support.TransactionSynchronizationManager
+import spock.lang.Shared
+import spock.lang.Specification
+
+import javax.inject.Inject
+import java.util.concurrent.CompletionException
+
+@MicronautTest(transactional = false)
+@Property(name = "datasources.default.name", value = "mydb")
+@Property(name = "datasources.default.schema-generate", value = "CREATE_DROP")
+@Property(name = "datasources.default.dialect", value = "H2")
+@Property(name = "micronaut.data.metrics.enabled", value = "true")
+class H2AsyncTransactionSpec extends Specification {
+
+    @Inject
+    @Shared
+    AsyncReferenceCodeService service
+
+    @Inject
+    @Shared
+    H2AsyncReferenceCodeRepository repository
+
+    @Inject
+    @Shared
+    RepositoryMetrics metrics
+
+    void "test a chain of async operations shares one transaction"() {
+        given:
+        long transactions = metrics.transactionTimes.count
+        long connections = metrics.connectionAcquisitionTimes.count
+
+        when:"async operations are chained within a transaction"
+        def future = service.saveTwo("EUR", "USD")
+
+        then:"the transaction is not bound to the calling thread"
+        !TransactionSynchronizationManager.isActualTransactionActive()
+
+        when:
+        long count = future.get()
+
+        then:"the operations use one connection and are committed once"
+        count == 2
+        metrics.transactionTimes.count == transactions + 1
+        metrics.connectionAcquisitionTimes.count == connections + 1
+        repository.count().get() == 2
+    }
+
+    void "test a failed chain of async operations is rolled back"() {
+        given:
+        long before = repository.count().get()
+
+        when:"a chain of async operations fails"
+        service.saveTwoAndFail("CHF", "SEK").join()
+
+        then:"the operations are rolled back"
+        def e = thrown(CompletionException)
+        e.cause instanceof IllegalStateException
+        repository.count().get() == before
+    }
+}
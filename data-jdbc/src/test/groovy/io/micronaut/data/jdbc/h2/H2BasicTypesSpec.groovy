@@ -27,6 +27,7 @@ import spock.lang.Unroll
 
 import javax.inject.Inject
 import javax.sql.DataSource
+import java.time.temporal.ChronoUnit
 
 @MicronautTest
 @Property(name = "datasources.default.name", value = "mydb")
@@ -66,7 +67,11 @@ class H2BasicTypesSpec extends Specification {
         "wrapperLong"      | DataType.LONG
         "primitiveDouble"  | DataType.DOUBLE
         "wrapperDouble"    | DataType.DOUBLE
-        "uuid"             | DataType.STRING
+        "uuid"             | DataType.UUID
+        "localDate"        | DataType.LOCAL_DATE
+        "localDateTime"    | DataType.LOCAL_DATE_TIME
+        "instant"          | DataType.INSTANT
+        "offsetDateTime"   | DataType.OFFSET_DATE_TIME
     }
 
     void "test save and retrieve basic types"() {
@@ -102,6 +107,10 @@ class H2BasicTypesSpec extends Specification {
         retrievedBook.wrapperLong == book.wrapperLong
         retrievedBook.uri == book.uri
         retrievedBook.url == book.url
+        retrievedBook.localDate == book.localDate
+        retrievedBook.localDateTime.truncatedTo(ChronoUnit.MILLIS) == book.localDateTime.truncatedTo(ChronoUnit.MILLIS)
+        retrievedBook.instant.toEpochMilli() == book.instant.toEpochMilli()
+        retrievedBook.offsetDateTime.toInstant().toEpochMilli() == book.offsetDateTime.toInstant().toEpochMilli()
         // stored as a DATE type without time
 //        retrievedBook.date == book.date
 
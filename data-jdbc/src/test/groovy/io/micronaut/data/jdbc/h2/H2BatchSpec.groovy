@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.data.tck.entities.Person
+import io.micronaut.data.tck.entities.Shipment
+import io.micronaut.data.tck.entities.ShipmentId
+import io.micronaut.test.annotation.MicronautTest
+import spock.lang.Shared
+import spock.lang.Specification
+
+import javax.inject.Inject
+
+@MicronautTest
+@Property(name = "datasources.default.name", value = "mydb")
+@Property(name = "datasources.default.schema-generate", value = "CREATE_DROP")
+@Property(name = "datasources.default.dialect", value = "H2")
+@Property(name = "datasources.default.batch-size", value = "2")
+class H2BatchSpec extends Specification {
+
+    @Inject
+    @Shared
+    H2PersonRepository personRepository
+
+    @Inject
+    @Shared
+    ShipmentRepository shipmentRepository
+
+    void "test batch operations larger than the batch size"() {
+        when:"more entities than the batch size are saved"
+        def people = personRepository.saveAll((1..7).collect { new Person(name: "Person $it") }).toList()
+
+        then:"every entity is assigned an ID"
+        people.size() == 7
+        people.every { it.id != null }
+        people*.id.unique().size() == 7
+        personRepository.count() == 7
+
+        when:"the entities are updated"
+        people.each { it.age = 40 }
+        personRepository.updateAll(people)
+
+        then:"every entity is updated"
+        personRepository.findAll().every { it.age == 40 }
+
+        when:"more entities than the batch size are deleted"
+        personRepository.deleteAll(people.take(5))
+
+        then:"only the given entities are deleted"
+        personRepository.count() == 2
+        personRepository.findAll()*.id.sort() == people.drop(5)*.id.sort()
+    }
+
+    void "test batch delete of entities with an embedded ID"() {
+        given:
+        def shipments = (1..5).collect { new Shipment(new ShipmentId("country $it", "city $it"), "field $it") }
+        shipments.each { shipmentRepository.save(it) }
+
+        when:"more entities than the batch size are deleted"
+        shipmentRepository.deleteAll(shipments.take(4))
+
+        then:"only the given entities are deleted"
+        shipmentRepository.count() == 1
+        shipmentRepository.findAll()*.shipmentId == [shipments.last().shipmentId]
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.data.jdbc.ReferenceCode
+import io.micronaut.test.annotation.MicronautTest
+import io.micronaut.transaction.TransactionOperations
+import spock.lang.Shared
+import spock.lang.Specification
+
+import javax.inject.Inject
+import java.sql.Connection
+
+@MicronautTest(transactional = false)
+@Property(name = "datasources.default.name", value = "mydb")
+@Property(name = "datasources.default.schema-generate", value = "CREATE_DROP")
+@Property(name = "datasources.default.dialect", value = "H2")
+class H2EntityCacheSpec extends Specification {
+
+    @Inject
+    @Shared
+    H2ReferenceCodeRepository repository
+
+    @Inject
+    @Shared
+    TransactionOperations<Connection> transactionOperations
+
+    void "test entities are cached by id"() {
+        given:
+        ReferenceCode code = repository.save(new ReferenceCode("EUR"))
+
+        when:"the entity is retrieved twice"
+        ReferenceCode first = repository.findById(code.id).get()
+        ReferenceCode second = repository.findById(code.id).get()
+
+        then:"the cached instance is returned"
+        first.name == "EUR"
+        first.is(second)
+
+        when:"the row is changed with SQL"
+        executeSql("UPDATE reference_code SET name = 'GBP' WHERE id = $code.id")
+
+        then:"the cached state is still returned"
+        repository.findById(code.id).get().name == "EUR"
+
+        when:"the entity is updated through the repository"
+        repository.updateName(code.id, "USD")
+
+        then:"the cache is invalidated"
+        repository.findById(code.id).get().name == "USD"
+
+        when:"the entity is deleted"
+        repository.deleteById(code.id)
+
+        then:"it is no longer found"
+        !repository.findById(code.id).isPresent()
+    }
+
+    void "test the cache is consistent with transactions"() {
+        given:
+        ReferenceCode code = repository.save(new ReferenceCode("CHF"))
+        repository.findById(code.id).get()
+
+        when:"the entity is updated within a transaction that is rolled back"
+        String nameWithinTransaction = null
+        transactionOperations.executeWrite { status ->
+            repository.updateName(code.id, "JPY")
+            nameWithinTransaction = repository.findById(code.id).get().name
+            status.setRollbackOnly()
+        }
+
+        then:"the transaction reads its own changes but they are not cached"
+        nameWithinTransaction == "JPY"
+        repository.findById(code.id).get().name == "CHF"
+    }
+
+    void "test state read before a concurrent update is not cached"() {
+        given:
+        ReferenceCode code = repository.save(new ReferenceCode("SEK"))
+
+        when:"the entity is read within a transaction and updated by another one before the first commits"
+        String nameRead = transactionOperations.executeRead {
+            String name = repository.findById(code.id).get().name
+            Thread update = Thread.start { repository.updateName(code.id, "NOK") }
+            update.join(10000)
+            name
+        }
+
+        then:"the state read before the update is not cached when the reading transaction commits"
+        nameRead == "SEK"
+        repository.findById(code.id).get().name == "NOK"
+    }
+
+    private void executeSql(String sql) {
+        transactionOperations.executeWrite { status ->
+            status.connection.prepareStatement(sql).withCloseable { it.executeUpdate() }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.data.tck.entities.Person
+import io.micronaut.test.annotation.MicronautTest
+import io.micronaut.transaction.TransactionOperations
+import spock.lang.Shared
+import spock.lang.Specification
+
+import javax.inject.Inject
+import java.sql.Connection
+
+@MicronautTest(transactional = false)
+@Property(name = "datasources.default.name", value = "mydb")
+@Property(name = "datasources.default.schema-generate", value = "CREATE_DROP")
+@Property(name = "datasources.default.dialect", value = "H2")
+@Property(name = "datasources.default.fetch-size", value = "2")
+class H2LazyFindAllSpec extends Specification {
+
+    @Inject
+    @Shared
+    H2PersonRepository personRepository
+
+    @Inject
+    @Shared
+    TransactionOperations<Connection> transactionOperations
+
+    void "test lazy find all within a transaction"() {
+        given:
+        personRepository.saveAll([
+                new Person(name: "Fred"),
+                new Person(name: "Frank"),
+                new Person(name: "Bob")
+        ])
+
+        when:"the results are iterated within a transaction"
+        List<String> names = transactionOperations.executeRead {
+            Iterable<Person> people = personRepository.queryByNameLike("F%")
+            assert !(people instanceof Collection)
+            people.collect { it.name }
+        }
+
+        then:"the rows are read as they are iterated"
+        names.sort() == ["Frank", "Fred"]
+
+        when:"the results are iterated twice"
+        transactionOperations.executeRead {
+            Iterable<Person> people = personRepository.queryByNameLike("F%")
+            people.iterator()
+            people.iterator()
+        }
+
+        then:"an exception is thrown"
+        thrown(IllegalStateException)
+
+        when:"the query is executed outside of a transaction"
+        Iterable<Person> people = personRepository.queryByNameLike("F%")
+
+        then:"the results are read eagerly"
+        people instanceof Collection
+        people.size() == 2
+    }
+}
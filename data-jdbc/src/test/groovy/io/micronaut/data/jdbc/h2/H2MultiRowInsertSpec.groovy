@@ -0,0 +1,56 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.data.tck.entities.Person
+import io.micronaut.test.annotation.MicronautTest
+import spock.lang.Shared
+import spock.lang.Specification
+
+import javax.inject.Inject
+
+@MicronautTest
+@Property(name = "datasources.default.name", value = "mydb")
+@Property(name = "datasources.default.schema-generate", value = "CREATE_DROP")
+@Property(name = "datasources.default.dialect", value = "H2")
+@Property(name = "datasources.default.batch-size", value = "2")
+class H2MultiRowInsertSpec extends Specification {
+
+    @Inject
+    @Shared
+    H2MultiRowPersonRepository personRepository
+
+    void "test multi-row insert assigns the generated IDs"() {
+        given:
+        def people = (1..5).collect { new Person(name: "Person $it", age: it) }
+
+        when:"the people are saved with statements of up to 2 rows"
+        def saved = personRepository.saveAll(people).toList()
+
+        then:"every person receives its own ID"
+        saved.size() == 5
+        saved.every { it.id != null }
+        saved*.id.toSet().size() == 5
+        personRepository.count() == 5
+
+        and:"the IDs belong to the inserted rows"
+        saved.every { personRepository.findById(it.id).get().name == it.name }
+
+        cleanup:
+        personRepository.deleteAll()
+    }
+}
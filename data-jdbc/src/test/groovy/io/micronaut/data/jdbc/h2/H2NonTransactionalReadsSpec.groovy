@@ -0,0 +1,82 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.data.jdbc.ReferenceCode
+import io.micronaut.data.runtime.metrics.RepositoryMetrics
+import io.micronaut.test.annotation.MicronautTest
+import io.micronaut.transaction.SynchronousTransactionManager
+import spock.lang.Shared
+import spock.lang.Specification
+
+import javax.inject.Inject
+import java.sql.Connection
+
+@MicronautTest(transactional = false)
+@Property(name = "datasources.default.name", value = "mydb")
+@Property(name = "datasources.default.schema-generate", value = "CREATE_DROP")
+@Property(name = "datasources.default.dialect", value = "H2")
+@Property(name = "datasources.default.non-transactional-reads", value = "true")
+@Property(name = "micronaut.data.metrics.enabled", value = "true")
+class H2NonTransactionalReadsSpec extends Specification {
+
+    @Inject
+    @Shared
+    H2ReferenceCodeRepository repository
+
+    @Inject
+    @Shared
+    RepositoryMetrics metrics
+
+    @Inject
+    @Shared
+    SynchronousTransactionManager<Connection> transactionManager
+
+    void "test reads outside of a transaction don't start one"() {
+        given:
+        ReferenceCode code = repository.save(new ReferenceCode("JPY"))
+        long transactions = metrics.transactionTimes.count
+        long connections = metrics.connectionAcquisitionTimes.count
+
+        when:"entities are read outside of a transaction"
+        boolean exists = repository.existsById(code.id)
+        ReferenceCode found = repository.findById(code.id).orElse(null)
+        List<ReferenceCode> all = repository.findAll().toList()
+
+        then:"the results are read without starting transactions"
+        exists
+        found.id == code.id
+        all*.id.contains(code.id)
+        metrics.transactionTimes.count == transactions
+        metrics.connectionAcquisitionTimes.count == connections + 3
+    }
+
+    void "test reads within a transaction use the connection of the transaction"() {
+        given:
+        long transactions = metrics.transactionTimes.count
+
+        when:"entities are written and read within a transaction"
+        ReferenceCode found = transactionManager.executeWrite {
+            ReferenceCode code = repository.save(new ReferenceCode("GBP"))
+            repository.findById(code.id).orElse(null)
+        }
+
+        then:"the uncommitted entity is found"
+        found != null
+        metrics.transactionTimes.count == transactions + 1
+    }
+}
@@ -16,6 +16,8 @@
 package io.micronaut.data.jdbc.h2
 
 import io.micronaut.context.annotation.Property
+import io.micronaut.data.model.Pageable
+import io.micronaut.data.model.Sort
 import io.micronaut.data.tck.repositories.PersonRepository
 import io.micronaut.data.tck.tests.AbstractPageSpec
 import io.micronaut.test.annotation.MicronautTest
@@ -41,4 +43,17 @@ class H2PaginationSpec extends AbstractPageSpec {
     void init() {
         pr.deleteAll()
     }
+
+    void "test single result with an offset is sorted"() {
+        given:
+        def sort = Sort.of(Sort.Order.desc("name"))
+
+        when:"a single result is read at an offset"
+        def person = pr.searchByNameLike("Z%", Pageable.from(1, 10, sort))
+        def otherPerson = pr.searchByNameLike("Z%", Pageable.from(2, 10, sort))
+
+        then:"the result is read from the sorted results"
+        person.name == pr.findAllByNameLike("Z%", Pageable.from(0, 3, sort))[1].name
+        otherPerson.name == pr.findAllByNameLike("Z%", Pageable.from(0, 3, sort))[2].name
+    }
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.data.tck.entities.Person
+import io.micronaut.test.annotation.MicronautTest
+import spock.lang.Shared
+import spock.lang.Specification
+
+import javax.inject.Inject
+
+@MicronautTest
+@Property(name = "datasources.default.name", value = "mydb")
+@Property(name = "datasources.default.schema-generate", value = "CREATE_DROP")
+@Property(name = "datasources.default.dialect", value = "H2")
+@Property(name = "datasources.default.statement-cache-size", value = "10")
+@Property(name = "datasources.default.max-rows", value = "2")
+class H2QueryHintSpec extends Specification {
+
+    @Inject
+    @Shared
+    H2PersonRepository personRepository
+
+    void "test max rows is applied from query hints and configuration"() {
+        given:
+        personRepository.saveAll([
+                new Person(name: "Fred"),
+                new Person(name: "Frank"),
+                new Person(name: "Felix")
+        ])
+
+        expect:"the query hint takes precedence"
+        personRepository.readByNameLike("F%").size() == 1
+
+        and:"the configured value applies otherwise"
+        personRepository.findByNameLike("F%").size() == 2
+
+        and:"single results are not limited"
+        personRepository.count() == 3
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.data.jdbc.ReferenceCode
+import io.micronaut.data.jdbc.operations.DefaultJdbcRepositoryOperations
+import io.micronaut.data.runtime.cache.QueryResultCache
+import io.micronaut.test.annotation.MicronautTest
+import io.micronaut.transaction.TransactionOperations
+import spock.lang.Shared
+import spock.lang.Specification
+
+import javax.inject.Inject
+import java.sql.Connection
+
+@MicronautTest(transactional = false)
+@Property(name = "datasources.default.name", value = "mydb")
+@Property(name = "datasources.default.schema-generate", value = "CREATE_DROP")
+@Property(name = "datasources.default.dialect", value = "H2")
+class H2QueryResultCacheSpec extends Specification {
+
+    @Inject
+    @Shared
+    H2ReferenceCodeRepository repository
+
+    @Inject
+    @Shared
+    DefaultJdbcRepositoryOperations operations
+
+    @Inject
+    @Shared
+    TransactionOperations<Connection> transactionOperations
+
+    void "test query results are cached until the entity is written"() {
+        given:
+        QueryResultCache cache = operations.queryResultCache
+        repository.saveAll([new ReferenceCode("AUD"), new ReferenceCode("CAD")])
+
+        when:"the query is executed twice with the same arguments"
+        List<ReferenceCode> first = repository.findByNameLike("%D")
+        List<ReferenceCode> second = repository.findByNameLike("%D")
+
+        then:"the cached result is returned"
+        first.size() == 2
+        first.is(second)
+        cache.hitCount == 1
+        cache.missCount == 1
+
+        when:"the query is executed with other arguments"
+        repository.findByNameLike("A%")
+
+        then:"the query is executed"
+        cache.missCount == 2
+
+        when:"a row is inserted with SQL"
+        transactionOperations.executeWrite { status ->
+            status.connection.prepareStatement("INSERT INTO reference_code (name) VALUES ('NZD')").withCloseable { it.executeUpdate() }
+        }
+
+        then:"the cached result is still returned"
+        repository.findByNameLike("%D").size() == 2
+
+        when:"an entity is saved through the repository"
+        repository.save(new ReferenceCode("HKD"))
+
+        then:"the cached results are invalidated"
+        repository.findByNameLike("%D").size() == 4
+        cache.hitRatio > 0
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.data.jdbc.ReferenceCode
+import io.micronaut.data.runtime.metrics.OperationMetrics
+import io.micronaut.data.runtime.metrics.RepositoryMetrics
+import io.micronaut.test.annotation.MicronautTest
+import spock.lang.Shared
+import spock.lang.Specification
+
+import javax.inject.Inject
+
+@MicronautTest(transactional = false)
+@Property(name = "datasources.default.name", value = "mydb")
+@Property(name = "datasources.default.schema-generate", value = "CREATE_DROP")
+@Property(name = "datasources.default.dialect", value = "H2")
+@Property(name = "micronaut.data.metrics.enabled", value = "true")
+class H2RepositoryMetricsSpec extends Specification {
+
+    @Inject
+    @Shared
+    H2ReferenceCodeRepository repository
+
+    @Inject
+    @Shared
+    RepositoryMetrics metrics
+
+    void "test repository operations are timed"() {
+        when:"entities are saved and read"
+        repository.saveAll([new ReferenceCode("AUD"), new ReferenceCode("NZD"), new ReferenceCode("CAD")])
+        List<ReferenceCode> codes = repository.findAll().toList()
+
+        then:"the batch is recorded"
+        OperationMetrics saveAll = operation("saveAll")
+        saveAll.batchSizes.count == 1
+        saveAll.batchSizes.max == 3
+
+        and:"the query is timed and its rows counted"
+        OperationMetrics findAll = operation("findAll")
+        findAll.prepareTimes.count == 1
+        findAll.executeTimes.count == 1
+        findAll.mappingTimes.count == 1
+        findAll.rowsMapped == codes.size()
+
+        and:"the transactions are timed"
+        metrics.transactionTimes.count >= 2
+        metrics.connectionAcquisitionTimes.count >= 2
+        metrics.rollbackCount == 0
+    }
+
+    private OperationMetrics operation(String method) {
+        metrics.operations.find {
+            it.method == method && H2ReferenceCodeRepository.isAssignableFrom(it.repositoryType)
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.data.jdbc.Reading
+import io.micronaut.data.jdbc.ReadingMaterializer
+import io.micronaut.data.jdbc.ReadingSummaryMaterializer
+import io.micronaut.data.runtime.mapper.GeneratedResultMaterializer
+import io.micronaut.data.runtime.mapper.ResultMaterializers
+import io.micronaut.data.tck.entities.Book
+import io.micronaut.data.tck.entities.Person
+import io.micronaut.test.annotation.MicronautTest
+import spock.lang.Shared
+import spock.lang.Specification
+
+import javax.inject.Inject
+
+@MicronautTest(transactional = false)
+@Property(name = "datasources.default.name", value = "mydb")
+@Property(name = "datasources.default.schema-generate", value = "CREATE_DROP")
+@Property(name = "datasources.default.dialect", value = "H2")
+class H2ResultMaterializerSpec extends Specification {
+
+    @Inject
+    @Shared
+    H2ReadingRepository repository
+
+    @Inject
+    @Shared
+    H2PersonRepository personRepository
+
+    void "test entities are read with the registered materializer"() {
+        given:
+        repository.saveAll([new Reading("north", 10.5), new Reading("south", 21.0)])
+        int invocations = ReadingMaterializer.INVOCATIONS.get()
+
+        when:"entities are queried"
+        def readings = repository.findBySensor("north")
+
+        then:"the materializer is used to read them"
+        ReadingMaterializer.INVOCATIONS.get() == invocations + 1
+        readings.size() == 1
+        readings[0].id
+        readings[0].sensor == "north"
+        readings[0].temperature == 10.5d
+
+        when:"an entity is found by id"
+        def reading = repository.findById(readings[0].id).orElse(null)
+
+        then:"the materializer is used"
+        ReadingMaterializer.INVOCATIONS.get() == invocations + 2
+        reading.sensor == "north"
+    }
+
+    void "test materializers are generated for entities without associations"() {
+        expect:
+        ResultMaterializers.find(Person) instanceof GeneratedResultMaterializer
+        ResultMaterializers.find(Book) == null
+        ResultMaterializers.find(Reading) instanceof ReadingMaterializer
+    }
+
+    void "test entities are read with the generated materializer"() {
+        given:
+        def fred = personRepository.save(new Person(name: "Fred", age: 40, enabled: false))
+
+        when:"the entity is read"
+        def person = personRepository.findById(fred.id).orElse(null)
+
+        then:"the constructor and setters are invoked"
+        person.id == fred.id
+        person.name == "Fred"
+        person.age == 40
+        !person.enabled
+
+        cleanup:
+        personRepository.deleteAll()
+    }
+
+    void "test the generated materializer reads every row of a result"() {
+        given:
+        personRepository.saveAll([new Person(name: "Ann", age: 20), new Person(name: "Bob", age: 30), new Person(name: "Cid", age: 40)])
+
+        when:"the rows are read with the column indexes resolved for the result"
+        def people = personRepository.findAll().sort { it.name }
+
+        then:"each row is read into its own entity"
+        people*.name == ["Ann", "Bob", "Cid"]
+        people*.age == [20, 30, 40]
+        people*.id.every { it != null }
+
+        cleanup:
+        personRepository.deleteAll()
+    }
+
+    void "test DTO projections are read with the registered materializer"() {
+        given:
+        int invocations = ReadingSummaryMaterializer.INVOCATIONS.get()
+
+        when:"a DTO projection is queried"
+        def summaries = repository.findByTemperatureGreaterThan(20d)
+
+        then:"the materializer is used to read them"
+        ReadingSummaryMaterializer.INVOCATIONS.get() == invocations + 1
+        summaries*.sensor == ["south"]
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.data.jdbc.ReferenceCode
+import io.micronaut.data.jdbc.diagnostics.SlowQuery
+import io.micronaut.data.jdbc.diagnostics.SlowQueryLog
+import io.micronaut.data.model.DataType
+import io.micronaut.test.annotation.MicronautTest
+import spock.lang.Shared
+import spock.lang.Specification
+
+import javax.inject.Inject
+
+@MicronautTest(transactional = false)
+@Property(name = "datasources.default.name", value = "mydb")
+@Property(name = "datasources.default.schema-generate", value = "CREATE_DROP")
+@Property(name = "datasources.default.dialect", value = "H2")
+@Property(name = "datasources.default.slow-query-threshold", value = "0s")
+@Property(name = "datasources.default.slow-query-sample-rate", value = "1")
+@Property(name = "datasources.default.slow-query-log-size", value = "2")
+class H2SlowQueryLogSpec extends Specification {
+
+    @Inject
+    @Shared
+    H2ReferenceCodeRepository repository
+
+    @Inject
+    @Shared
+    SlowQueryLog slowQueryLog
+
+    void "test slow queries are recorded without their values"() {
+        given:
+        ReferenceCode code = repository.save(new ReferenceCode("SEK"))
+
+        when:"an entity is found by id"
+        repository.findById(code.id)
+        SlowQuery query = slowQueryLog.queries.first()
+
+        then:"the query is recorded with the types of its parameters"
+        query.method == "findById"
+        query.sql.toLowerCase().contains("reference_code")
+        query.parameterTypes == [DataType.LONG]
+        query.rows == 1
+        !query.elapsed.negative
+    }
+
+    void "test the log is bounded"() {
+        given:
+        long recorded = slowQueryLog.recordedCount
+
+        when:"more queries are executed than the log can keep"
+        repository.save(new ReferenceCode("NOK"))
+        repository.findAll().toList()
+        repository.count()
+        repository.existsById(-1L)
+
+        then:"only the most recent are kept"
+        slowQueryLog.recordedCount == recorded + 3
+        slowQueryLog.queries*.method == ["existsById", "count"]
+        slowQueryLog.queries[0].rows == 0
+    }
+}
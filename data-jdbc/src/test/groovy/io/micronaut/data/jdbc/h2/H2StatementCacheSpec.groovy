@@ -0,0 +1,95 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.data.jdbc.operations.DefaultJdbcRepositoryOperations
+import io.micronaut.data.jdbc.operations.PreparedStatementCache
+import io.micronaut.data.tck.entities.Person
+import io.micronaut.transaction.TransactionOperations
+import io.micronaut.test.annotation.MicronautTest
+import spock.lang.Shared
+import spock.lang.Specification
+
+import javax.inject.Inject
+import java.sql.Connection
+
+@MicronautTest
+@Property(name = "datasources.default.name", value = "mydb")
+@Property(name = "datasources.default.schema-generate", value = "CREATE_DROP")
+@Property(name = "datasources.default.dialect", value = "H2")
+@Property(name = "datasources.default.statement-cache-size", value = "2")
+class H2StatementCacheSpec extends Specification {
+
+    @Inject
+    @Shared
+    H2PersonRepository personRepository
+
+    @Inject
+    @Shared
+    DefaultJdbcRepositoryOperations operations
+
+    @Inject
+    @Shared
+    TransactionOperations<Connection> transactionOperations
+
+    void "test prepared statements are reused"() {
+        given:
+        PreparedStatementCache cache = operations.statementCache
+
+        expect:
+        cache != null
+
+        when:"the same queries are executed repeatedly on the same connection"
+        def person = personRepository.save(new Person(name: "Fred"))
+        long misses = cache.missCount
+        transactionOperations.executeRead {
+            3.times {
+                personRepository.findById(person.id)
+                personRepository.existsById(person.id)
+            }
+        }
+
+        then:"the cached statements are reused"
+        cache.hitCount >= 4
+        cache.missCount == misses + 2
+
+        when:"more distinct queries are executed than fit in the cache"
+        transactionOperations.executeRead {
+            personRepository.count()
+            personRepository.findByNameLike("F%")
+            personRepository.findAll().toList()
+        }
+
+        then:"the least recently used statements are evicted"
+        cache.evictionCount > 0
+    }
+
+    void "test prepared statements are reused by later checkouts of a pooled connection"() {
+        given:
+        PreparedStatementCache cache = operations.statementCache
+        def person = personRepository.save(new Person(name: "Bob"))
+        long hits = cache.hitCount
+
+        when:"the same query is executed repeatedly outside of a transaction"
+        20.times {
+            personRepository.findById(person.id)
+        }
+
+        then:"the statements cached for the physical connections of the pool are reused"
+        cache.hitCount > hits
+    }
+}
@@ -28,7 +28,9 @@ import java.net.URL;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.Date;
 import java.util.TimeZone;
 import java.util.UUID;
@@ -64,6 +66,8 @@ public class BasicTypes {
     private Date date = new Date();
     private LocalDateTime localDateTime = LocalDateTime.now();
     private Instant instant = Instant.now();
+    private LocalDate localDate = LocalDate.now();
+    private OffsetDateTime offsetDateTime = OffsetDateTime.now();
     private UUID uuid = UUID.randomUUID();
     @Column(columnDefinition = "DECIMAL(24) NOT NULL")
     private BigDecimal bigDecimal = new BigDecimal(Long.MAX_VALUE + "000");
@@ -273,6 +277,22 @@ public class BasicTypes {
         this.instant = instant;
     }
 
+    public LocalDate getLocalDate() {
+        return localDate;
+    }
+
+    public void setLocalDate(LocalDate localDate) {
+        this.localDate = localDate;
+    }
+
+    public OffsetDateTime getOffsetDateTime() {
+        return offsetDateTime;
+    }
+
+    public void setOffsetDateTime(OffsetDateTime offsetDateTime) {
+        this.offsetDateTime = offsetDateTime;
+    }
+
     public UUID getUuid() {
         return uuid;
     }
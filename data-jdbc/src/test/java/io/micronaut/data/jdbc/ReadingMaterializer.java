@@ -0,0 +1,42 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc;
+
+import io.micronaut.data.runtime.mapper.ResultMaterializer;
+import io.micronaut.data.runtime.mapper.ResultReader;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ReadingMaterializer implements ResultMaterializer<Reading> {
+
+    public static final AtomicInteger INVOCATIONS = new AtomicInteger();
+
+    @Override
+    public Class<Reading> getType() {
+        return Reading.class;
+    }
+
+    @Override
+    public <RS> Reading materialize(RS resultSet, ResultReader<RS, String> resultReader) {
+        INVOCATIONS.incrementAndGet();
+        Reading reading = new Reading(
+                resultReader.readString(resultSet, "sensor"),
+                resultReader.readDouble(resultSet, "temperature")
+        );
+        reading.setId(resultReader.readLong(resultSet, "id"));
+        return reading;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.jdbc.h2;
+
+import io.micronaut.data.jdbc.ReferenceCode;
+
+import javax.inject.Singleton;
+import javax.transaction.Transactional;
+import java.util.concurrent.CompletableFuture;
+
+@Singleton
+public class AsyncReferenceCodeService {
+
+    private final H2AsyncReferenceCodeRepository repository;
+
+    public AsyncReferenceCodeService(H2AsyncReferenceCodeRepository repository) {
+        this.repository = repository;
+    }
+
+    @Transactional
+    public CompletableFuture<Long> saveTwo(String first, String second) {
+        return repository.save(new ReferenceCode(first))
+                .thenCompose(code -> repository.save(new ReferenceCode(second)))
+                .thenCompose(code -> repository.count());
+    }
+
+    @Transactional
+    public CompletableFuture<Long> saveTwoAndFail(String first, String second) {
+        return repository.save(new ReferenceCode(first))
+                .thenCompose(code -> repository.save(new ReferenceCode(second)))
+                .thenApply(code -> {
+                    throw new IllegalStateException("Bad things happened");
+                });
+    }
+}
@@ -15,9 +15,24 @@
  */
 package io.micronaut.data.jdbc.h2;
 
+import io.micronaut.data.annotation.QueryHint;
 import io.micronaut.data.jdbc.annotation.JdbcRepository;
+import io.micronaut.data.jdbc.operations.JdbcRepositoryOperations;
+import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.query.builder.sql.Dialect;
+import io.micronaut.data.tck.entities.Person;
+
+import java.util.List;
 
 @JdbcRepository(dialect = Dialect.H2)
 public interface H2PersonRepository extends io.micronaut.data.tck.repositories.PersonRepository {
+
+    @QueryHint(name = JdbcRepositoryOperations.HINT_LAZY, value = "true")
+    Iterable<Person> queryByNameLike(String name);
+
+    @QueryHint(name = JdbcRepositoryOperations.HINT_MAX_ROWS, value = "1")
+    @QueryHint(name = JdbcRepositoryOperations.HINT_QUERY_TIMEOUT, value = "10")
+    List<Person> readByNameLike(String name);
+
+    Person searchByNameLike(String name, Pageable pageable);
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Caches the results of a query method by the values of its arguments. The cached results are invalidated whenever
+ * the repository operations write to the root entity of the query or to one of the entities it {@link #dependsOn()}.
+ *
+ * <p>Cached results are shared between callers and should not be modified. Changes made to the database without
+ * using the repository operations are not visible until the results expire.</p>
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Documented
+public @interface CacheableQuery {
+
+    /**
+     * @return The maximum number of distinct argument values to cache results for.
+     */
+    int maxSize() default 100;
+
+    /**
+     * @return The duration after which cached results expire, for example {@code 5m}. Defaults to never.
+     */
+    String expireAfterWrite() default "";
+
+    /**
+     * @return Additional entities read by the query, such as joined entities, whose modification invalidates the results.
+     */
+    Class<?>[] dependsOn() default {};
+}
@@ -116,10 +116,24 @@ public @interface DataMethod {
      * Whether the user is a raw user specified query.
      */
     String META_MEMBER_RAW_QUERY = "rawQuery";
+
+    /**
+     * Whether a query built from the query model has a WHERE clause, which conditions added at runtime are ANDed to.
+     * @since 1.0.1
+     */
+    String META_MEMBER_HAS_WHERE_CLAUSE = "hasWhereClause";
+
     /**
      * Meta member for storing the parameter type defs.
      */
     String META_MEMBER_PARAMETER_TYPE_DEFS = "parameterTypeDefs";
+
+    /**
+     * Whether the query retrieves a single entity by its ID without any additional criteria or joins.
+     * @since 1.0.1
+     */
+    String META_MEMBER_FIND_BY_ID = "findById";
+
     /**
      * @return The child interceptor to use for the method execution.
      */
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.model;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.core.beans.BeanWrapper;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.util.ArgumentUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A {@link Pageable} for keyset (seek) pagination. Rather than skipping the results of the previous pages, the results
+ * are restricted to those that come after the cursor, which holds the values of the sort properties of the last result
+ * of the previous page.
+ *
+ * <p>The sort should be on properties that are not null and that uniquely identify a result, for example by ending with
+ * the ID. The pageable of the next page is obtained with {@link Slice#nextPageable()}.</p>
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+@Introspected
+public interface CursoredPageable extends Pageable {
+
+    /**
+     * @return The values of the sort properties of the last result of the previous page, empty for the first page.
+     */
+    @NonNull
+    List<Object> getCursor();
+
+    /**
+     * @return Whether the pageable has a cursor and so isn't the first page
+     */
+    default boolean hasCursor() {
+        return !getCursor().isEmpty();
+    }
+
+    /**
+     * The offset is always zero since the previous pages are excluded by the cursor.
+     * @return zero
+     */
+    @Override
+    default long getOffset() {
+        return 0;
+    }
+
+    @Override
+    default long resolveTotalSize(int numberOfElements) {
+        if (hasCursor()) {
+            return -1;
+        }
+        return Pageable.super.resolveTotalSize(numberOfElements);
+    }
+
+    /**
+     * Creates the pageable of the page after the one ending with the given result.
+     *
+     * @param lastElement The last result of the current page
+     * @return The next pageable
+     */
+    default @NonNull CursoredPageable next(@NonNull Object lastElement) {
+        ArgumentUtils.requireNonNull("lastElement", lastElement);
+        List<Sort.Order> orders = getSort().getOrderBy();
+        List<Object> cursor = new ArrayList<>(orders.size());
+        for (Sort.Order order : orders) {
+            Object value = lastElement;
+            for (String property : order.getProperty().split("\\.")) {
+                if (value == null) {
+                    break;
+                }
+                value = BeanWrapper.getWrapper(value).getRequiredProperty(property, Argument.OBJECT_ARGUMENT);
+            }
+            cursor.add(value);
+        }
+        return new DefaultCursoredPageable(getNumber() + 1, getSize(), cursor, getSort());
+    }
+
+    /**
+     * Not supported, since the next cursor depends on the results of the page. Use {@link Slice#nextPageable()} instead.
+     * @return Never
+     */
+    @NonNull
+    @Override
+    default Pageable next() {
+        throw new UnsupportedOperationException("The next cursored pageable depends on the last result of the page. Use Slice.nextPageable() instead");
+    }
+
+    /**
+     * Not supported, keyset pagination only moves forward.
+     * @return Never
+     */
+    @NonNull
+    @Override
+    default Pageable previous() {
+        throw new UnsupportedOperationException("Cursored pageables don't support moving to the previous page");
+    }
+
+    @NonNull
+    @Override
+    default CursoredPageable order(@NonNull String propertyName) {
+        return new DefaultCursoredPageable(getNumber(), getSize(), getCursor(), getSort().order(propertyName));
+    }
+
+    @NonNull
+    @Override
+    default CursoredPageable order(@NonNull Sort.Order order) {
+        return new DefaultCursoredPageable(getNumber(), getSize(), getCursor(), getSort().order(order));
+    }
+
+    @NonNull
+    @Override
+    default CursoredPageable order(@NonNull String propertyName, @NonNull Sort.Order.Direction direction) {
+        return new DefaultCursoredPageable(getNumber(), getSize(), getCursor(), getSort().order(propertyName, direction));
+    }
+
+    /**
+     * Creates a new {@link CursoredPageable} for the first page.
+     * @param size The size
+     * @param sort The sort, which must not be empty
+     * @return The pageable
+     */
+    static @NonNull CursoredPageable from(int size, @NonNull Sort sort) {
+        return new DefaultCursoredPageable(0, size, Collections.emptyList(), sort);
+    }
+
+    /**
+     * Creates a new {@link CursoredPageable} for the page after the given cursor.
+     * @param size The size
+     * @param cursor The values of the sort properties of the last result of the previous page, if any
+     * @param sort The sort, which must not be empty
+     * @return The pageable
+     */
+    static @NonNull CursoredPageable from(int size, @Nullable List<Object> cursor, @NonNull Sort sort) {
+        return new DefaultCursoredPageable(0, size, cursor, sort);
+    }
+}
@@ -45,11 +45,11 @@ public enum DataType {
      */
     CHARACTER,
     /**
-     * A date such as {@link java.util.Date} or {@link java.time.LocalDate}.
+     * A date such as {@link java.util.Date}.
      */
     DATE,
     /**
-     * A timestamp such as {@link java.sql.Timestamp} or {@link java.time.Instant}.
+     * A timestamp such as {@link java.sql.Timestamp} or {@link java.time.ZonedDateTime}.
      */
     TIMESTAMP,
     /**
@@ -87,7 +87,32 @@ public enum DataType {
     /**
      * A JSON type.
      */
-    JSON;
+    JSON,
+    /**
+     * A {@link java.time.LocalDate} value.
+     * @since 1.0.1
+     */
+    LOCAL_DATE,
+    /**
+     * A {@link java.time.LocalDateTime} value.
+     * @since 1.0.1
+     */
+    LOCAL_DATE_TIME,
+    /**
+     * An {@link java.time.Instant} value.
+     * @since 1.0.1
+     */
+    INSTANT,
+    /**
+     * An {@link java.time.OffsetDateTime} value.
+     * @since 1.0.1
+     */
+    OFFSET_DATE_TIME,
+    /**
+     * A {@link java.util.UUID} value.
+     * @since 1.0.1
+     */
+    UUID;
 
     /**
      * Empty array of data types.
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.model;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.micronaut.core.annotation.Introspected;
+import io.micronaut.core.util.ArgumentUtils;
+import io.micronaut.core.util.CollectionUtils;
+
+import javax.validation.constraints.Min;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The default cursored pageable implementation.
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+@Introspected
+final class DefaultCursoredPageable implements CursoredPageable {
+
+    private final int max;
+    private final int number;
+    private final List<Object> cursor;
+    private final Sort sort;
+
+    /**
+     * Default constructor.
+     *
+     * @param page The page
+     * @param size The size
+     * @param cursor The cursor
+     * @param sort The sort
+     */
+    DefaultCursoredPageable(int page, int size, @Nullable List<Object> cursor, @NonNull Sort sort) {
+        ArgumentUtils.requireNonNull("sort", sort);
+        if (page < 0) {
+            throw new IllegalArgumentException("Page index cannot be negative");
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("Max size cannot be less than 1");
+        }
+        if (!sort.isSorted()) {
+            throw new IllegalArgumentException("Cursored pageables require a sort");
+        }
+        if (CollectionUtils.isNotEmpty(cursor) && cursor.size() != sort.getOrderBy().size()) {
+            throw new IllegalArgumentException("The cursor must have a value for each sort property");
+        }
+        this.max = size;
+        this.number = page;
+        this.cursor = CollectionUtils.isEmpty(cursor) ? Collections.emptyList() : Collections.unmodifiableList(cursor);
+        this.sort = sort;
+    }
+
+    @Override
+    public @Min(1) int getSize() {
+        return max;
+    }
+
+    @Override
+    public int getNumber() {
+        return number;
+    }
+
+    @NonNull
+    @Override
+    public List<Object> getCursor() {
+        return cursor;
+    }
+
+    @NonNull
+    @Override
+    public Sort getSort() {
+        return sort;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DefaultCursoredPageable)) {
+            return false;
+        }
+        DefaultCursoredPageable that = (DefaultCursoredPageable) o;
+        return max == that.max &&
+                number == that.number &&
+                cursor.equals(that.cursor) &&
+                Objects.equals(sort, that.sort);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(max, number, cursor, sort);
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultCursoredPageable{" +
+                "max=" + max +
+                ", number=" + number +
+                ", cursor=" + cursor +
+                ", sort=" + sort +
+                '}';
+    }
+}
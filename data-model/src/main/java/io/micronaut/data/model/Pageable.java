@@ -70,6 +70,27 @@ public interface Pageable extends Sort {
         return (long) getNumber() * (long) getSize();
     }
 
+    /**
+     * Establishes the total number of results from the number of results returned for this pageable, which is
+     * possible without a count query when the page is not full.
+     *
+     * @param numberOfElements The number of results returned for this pageable
+     * @return The total number of results or -1 if it cannot be established
+     * @since 1.0.1
+     */
+    default long resolveTotalSize(int numberOfElements) {
+        int size = getSize();
+        long offset = getOffset();
+        if (size > 0 && numberOfElements >= size) {
+            return -1;
+        }
+        if (numberOfElements == 0 && offset > 0) {
+            // past the last page
+            return -1;
+        }
+        return offset + numberOfElements;
+    }
+
     /**
      * @return The sort definition to use.
      */
@@ -56,10 +56,18 @@ public interface Slice<T> extends Iterable<T> {
     }
 
     /**
-     * @return The next pageable
+     * @return The next pageable. For a {@link CursoredPageable} the cursor is computed from the last result.
      */
     default @NonNull Pageable nextPageable() {
-        return getPageable().next();
+        Pageable pageable = getPageable();
+        if (pageable instanceof CursoredPageable) {
+            List<T> content = getContent();
+            if (content.isEmpty()) {
+                return pageable;
+            }
+            return ((CursoredPageable) pageable).next(content.get(content.size() - 1));
+        }
+        return pageable.next();
     }
 
     /**
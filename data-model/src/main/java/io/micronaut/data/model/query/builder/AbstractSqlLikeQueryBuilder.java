@@ -526,6 +526,19 @@ public abstract class AbstractSqlLikeQueryBuilder implements QueryBuilder {
         );
     }
 
+    /**
+     * Whether the query built for the given query model has a WHERE clause, for its criteria or a {@link Where} annotation.
+     *
+     * @param annotationMetadata The annotation metadata
+     * @param query The query model
+     * @return True if it does
+     * @since 1.0.1
+     */
+    public boolean hasWhereClause(@NonNull AnnotationMetadata annotationMetadata, @NonNull QueryModel query) {
+        return !query.getCriteria().isEmpty() ||
+                StringUtils.isNotEmpty(buildAdditionalWhereString(query.getPersistentEntity(), annotationMetadata));
+    }
+
     /**
      * Get the table name for the given entity.
      *
@@ -1442,45 +1455,7 @@ public abstract class AbstractSqlLikeQueryBuilder implements QueryBuilder {
         Iterator<Sort.Order> i = orders.iterator();
         while (i.hasNext()) {
             Sort.Order order = i.next();
-            String property = order.getProperty();
-            PersistentProperty persistentProperty = entity.getPropertyByPath(property)
-                    .orElseThrow(() -> new IllegalArgumentException("Cannot sort on non-existent property path: " + property));
-
-            String aliasName;
-            if (persistentProperty instanceof Association) {
-                Association association = (Association) persistentProperty;
-
-                aliasName = getAliasName(new JoinPath(property, new Association[]{association}, Join.Type.DEFAULT, null));
-            } else {
-                final int j = property.indexOf('.');
-                if (j > -1) {
-                    final String associationName = property.substring(0, j);
-                    final PersistentProperty assProp = entity.getPropertyByName(associationName);
-                    if (assProp instanceof Association) {
-                        Association association = (Association) assProp;
-                        persistentProperty = association.getAssociatedEntity().getPropertyByName(property.substring(j + 1));
-                        if (persistentProperty != null) {
-                            aliasName = getAliasName(
-                                    new JoinPath(
-                                            associationName,
-                                            new Association[]{ association },
-                                            Join.Type.DEFAULT,
-                                            null
-                                    )
-                            );
-                        } else {
-                            throw new IllegalArgumentException("Cannot sort on non-existent property path: " + property);
-                        }
-                    } else {
-                        throw new IllegalArgumentException("Cannot sort on non-existent property path: " + property);
-                    }
-                } else {
-                    aliasName = getAliasName(entity);
-                }
-            }
-            buff.append(aliasName)
-                    .append(DOT)
-                    .append(getColumnName(persistentProperty))
+            buff.append(getSortColumn(entity, order.getProperty()))
                     .append(SPACE)
                     .append(order.getDirection());
             if (i.hasNext()) {
@@ -1496,6 +1471,110 @@ public abstract class AbstractSqlLikeQueryBuilder implements QueryBuilder {
         );
     }
 
+    @NonNull
+    @Override
+    public QueryResult buildKeysetQuery(@NonNull String query, boolean hasWhereClause, @NonNull PersistentEntity entity, @NonNull Sort sort) {
+        ArgumentUtils.requireNonNull("query", query);
+        ArgumentUtils.requireNonNull("entity", entity);
+        ArgumentUtils.requireNonNull("sort", sort);
+        List<Sort.Order> orders = sort.getOrderBy();
+        if (CollectionUtils.isEmpty(orders)) {
+            throw new IllegalArgumentException("Keyset pagination requires a sort");
+        }
+        String upperCaseQuery = query.toUpperCase(Locale.ENGLISH);
+        if (upperCaseQuery.contains(ORDER_BY_CLAUSE) || upperCaseQuery.contains(" GROUP BY ")) {
+            throw new IllegalArgumentException("Keyset pagination is not supported for queries with an ORDER BY or GROUP BY clause: " + query);
+        }
+
+        String[] columns = new String[orders.size()];
+        Map<String, String> parameters = new LinkedHashMap<>(orders.size());
+        StringBuilder predicate = new StringBuilder().append(OPEN_BRACKET);
+        for (int i = 0; i < orders.size(); i++) {
+            Sort.Order order = orders.get(i);
+            columns[i] = getSortColumn(entity, order.getProperty());
+            if (i > 0) {
+                predicate.append(LOGICAL_OR);
+            }
+            // (c0 > v0) OR (c0 = v0 AND c1 > v1) ...
+            predicate.append(OPEN_BRACKET);
+            for (int j = 0; j < i; j++) {
+                predicate.append(columns[j])
+                        .append(" = ")
+                        .append(formatCursorParameter(j).getName())
+                        .append(LOGICAL_AND);
+            }
+            Placeholder placeholder = formatCursorParameter(i);
+            parameters.put(placeholder.getKey(), order.getProperty());
+            predicate.append(columns[i])
+                    .append(order.getDirection() == Sort.Order.Direction.ASC ? " > " : " < ")
+                    .append(placeholder.getName())
+                    .append(CLOSE_BRACKET);
+        }
+        predicate.append(CLOSE_BRACKET);
+
+        // the WHERE clause of a query built from a query model is a single group of conditions, see buildWhereClause
+        StringBuilder buff = new StringBuilder(query.length() + predicate.length() + 16)
+                .append(query)
+                .append(hasWhereClause ? LOGICAL_AND : WHERE_CLAUSE)
+                .append(predicate);
+        return QueryResult.of(
+                buff.toString(),
+                parameters,
+                Collections.emptyMap(),
+                Collections.emptySet()
+        );
+    }
+
+    /**
+     * Format the parameter for the cursor value at the given index of a keyset query.
+     *
+     * @param index The index of the cursor value
+     * @return The placeholder
+     * @see #buildKeysetQuery(String, boolean, PersistentEntity, Sort)
+     */
+    protected Placeholder formatCursorParameter(int index) {
+        return formatParameter(index + 1);
+    }
+
+    private String getSortColumn(PersistentEntity entity, String property) {
+        PersistentProperty persistentProperty = entity.getPropertyByPath(property)
+                .orElseThrow(() -> new IllegalArgumentException("Cannot sort on non-existent property path: " + property));
+
+        String aliasName;
+        if (persistentProperty instanceof Association) {
+            Association association = (Association) persistentProperty;
+
+            aliasName = getAliasName(new JoinPath(property, new Association[]{association}, Join.Type.DEFAULT, null));
+        } else {
+            final int j = property.indexOf('.');
+            if (j > -1) {
+                final String associationName = property.substring(0, j);
+                final PersistentProperty assProp = entity.getPropertyByName(associationName);
+                if (assProp instanceof Association) {
+                    Association association = (Association) assProp;
+                    persistentProperty = association.getAssociatedEntity().getPropertyByName(property.substring(j + 1));
+                    if (persistentProperty != null) {
+                        aliasName = getAliasName(
+                                new JoinPath(
+                                        associationName,
+                                        new Association[]{ association },
+                                        Join.Type.DEFAULT,
+                                        null
+                                )
+                        );
+                    } else {
+                        throw new IllegalArgumentException("Cannot sort on non-existent property path: " + property);
+                    }
+                } else {
+                    throw new IllegalArgumentException("Cannot sort on non-existent property path: " + property);
+                }
+            } else {
+                aliasName = getAliasName(entity);
+            }
+        }
+        return aliasName + DOT + getColumnName(persistentProperty);
+    }
+
     /**
      * Format the parameter at the given index.
      *
@@ -137,6 +137,28 @@ public interface QueryBuilder {
     @NonNull
     QueryResult buildPagination(@NonNull Pageable pageable);
 
+    /**
+     * Restricts the given query to the results that come after a cursor, which holds the last seen values of the
+     * properties of the given sort. This allows keyset (seek) pagination, which unlike offset pagination doesn't require
+     * the database to read and discard the rows of the previous pages.
+     *
+     * <p>The query must have been built from a query model by this builder, since the predicate is appended to it
+     * rather than spliced into arbitrary SQL. The cursor values are bound to the parameters of the returned query after
+     * the parameters of the given query. For a sort of {@code n} properties the cursor values are bound in the order
+     * {@code v0, v0, v1, v0, v1, v2...}, up to {@code v0...vn-1}, unless the query uses named parameters.</p>
+     *
+     * @param query The query built from a query model, which must not have an ORDER BY or GROUP BY clause
+     * @param hasWhereClause Whether the query has a WHERE clause, see {@link io.micronaut.data.intercept.annotation.DataMethod#META_MEMBER_HAS_WHERE_CLAUSE}
+     * @param entity The root entity
+     * @param sort The sort
+     * @return The encoded query
+     * @since 1.0.1
+     */
+    @NonNull
+    default QueryResult buildKeysetQuery(@NonNull String query, boolean hasWhereClause, @NonNull PersistentEntity entity, @NonNull Sort sort) {
+        throw new UnsupportedOperationException("Keyset pagination is not supported by this query builder");
+    }
+
     /**
      * Build a query build from the configured annotation metadata.
      * @param annotationMetadata The annotation metadata.
@@ -40,6 +40,12 @@ import java.util.Map;
  */
 @Internal
 public class JpaQueryBuilder extends AbstractSqlLikeQueryBuilder implements QueryBuilder {
+    /**
+     * The prefix of the named parameters holding the cursor values of a keyset query.
+     * @see #buildKeysetQuery(String, boolean, io.micronaut.data.model.PersistentEntity, io.micronaut.data.model.Sort)
+     */
+    public static final String CURSOR_PARAMETER_PREFIX = "cursor";
+
     /**
      * Default constructor.
      */
@@ -157,6 +163,12 @@ public class JpaQueryBuilder extends AbstractSqlLikeQueryBuilder implements Quer
         return new Placeholder(":" + n, n);
     }
 
+    @Override
+    protected Placeholder formatCursorParameter(int index) {
+        String n = CURSOR_PARAMETER_PREFIX + index;
+        return new Placeholder(":" + n, n);
+    }
+
     @Override
     public String resolveJoinType(Join.Type jt) {
         String joinType;
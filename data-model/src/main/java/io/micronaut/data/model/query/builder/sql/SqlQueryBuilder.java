@@ -61,6 +61,7 @@ public class SqlQueryBuilder extends AbstractSqlLikeQueryBuilder implements Quer
     private static final String BLANK_SPACE = " ";
     private static final String SEQ_SUFFIX = "_seq";
     private static final String INSERT_INTO = "INSERT INTO ";
+    private static final String VALUES_CLAUSE = " VALUES ";
     private static final String JDBC_REPO_ANNOTATION = "io.micronaut.data.jdbc.annotation.JdbcRepository";
 
     private Dialect dialect = Dialect.ANSI;
@@ -199,6 +200,48 @@ public class SqlQueryBuilder extends AbstractSqlLikeQueryBuilder implements Quer
         }
     }
 
+    /**
+     * Builds an INSERT statement that inserts the given number of rows by repeating the values
+     * of an INSERT statement produced by {@link #buildInsert(AnnotationMetadata, PersistentEntity)}.
+     *
+     * @param insert The single row INSERT statement
+     * @param rows The number of rows
+     * @return The multi-row INSERT statement
+     * @see #supportsMultiRowInsert()
+     * @since 1.0.1
+     */
+    public @NonNull String buildMultiRowInsert(@NonNull String insert, int rows) {
+        final int i = insert.lastIndexOf(VALUES_CLAUSE);
+        if (i == -1) {
+            throw new IllegalArgumentException("Not an INSERT ... VALUES statement: " + insert);
+        }
+        final String row = insert.substring(i + VALUES_CLAUSE.length());
+        StringBuilder builder = new StringBuilder(insert.length() + (row.length() + 1) * Math.max(0, rows - 1));
+        builder.append(insert);
+        for (int j = 1; j < rows; j++) {
+            builder.append(COMMA).append(row);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Whether the dialect supports inserting several rows with a single {@code INSERT ... VALUES} statement.
+     *
+     * @return True if it does
+     * @since 1.0.1
+     */
+    public boolean supportsMultiRowInsert() {
+        switch (dialect) {
+            case H2:
+            case MYSQL:
+            case POSTGRES:
+            case SQL_SERVER:
+                return true;
+            default:
+                return false;
+        }
+    }
+
     /**
      * Is the given association a foreign key reference that requires a join table.
      * @param association The association.
@@ -762,7 +805,7 @@ public class SqlQueryBuilder extends AbstractSqlLikeQueryBuilder implements Quer
         }
 
         builder.append(CLOSE_BRACKET);
-        builder.append(" VALUES (");
+        builder.append(VALUES_CLAUSE).append(OPEN_BRACKET);
         builder.append(String.join(String.valueOf(COMMA), values));
         builder.append(CLOSE_BRACKET);
         return QueryResult.of(
@@ -1124,6 +1167,7 @@ public class SqlQueryBuilder extends AbstractSqlLikeQueryBuilder implements Quer
 
         switch (dataType) {
             case STRING:
+            case UUID:
                 column += " VARCHAR(255)";
                 if (required) {
                     column += " NOT NULL";
@@ -1142,6 +1186,9 @@ public class SqlQueryBuilder extends AbstractSqlLikeQueryBuilder implements Quer
                 }
                 break;
             case TIMESTAMP:
+            case LOCAL_DATE_TIME:
+            case INSTANT:
+            case OFFSET_DATE_TIME:
                 if (dialect == Dialect.ORACLE) {
                     column += " TIMESTAMP";
                     if (required) {
@@ -1164,6 +1211,7 @@ public class SqlQueryBuilder extends AbstractSqlLikeQueryBuilder implements Quer
                 }
                 break;
             case DATE:
+            case LOCAL_DATE:
                 column += " DATE";
                 if (required) {
                     column += " NOT NULL";
@@ -17,11 +17,15 @@ package io.micronaut.data.operations;
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import io.micronaut.core.annotation.AnnotationMetadata;
 import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.PersistentEntity;
 import io.micronaut.data.model.runtime.*;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -128,6 +132,33 @@ public interface RepositoryOperations {
      */
     <R> Page<R> findPage(@NonNull PagedQuery<R> query);
 
+    /**
+     * Find a page of results for the given query, using the given count query to establish the total number of results.
+     * The count query is not executed when the total can be established from the results of a page that is not full.
+     *
+     * @param preparedQuery The query for the content of the page
+     * @param countQuery The count query
+     * @param pageable The pageable
+     * @param <R> The result type
+     * @return The page
+     * @since 1.0.1
+     */
+    default @NonNull <R> Page<R> findPage(
+            @NonNull PreparedQuery<?, R> preparedQuery,
+            @NonNull PreparedQuery<?, Number> countQuery,
+            @NonNull Pageable pageable) {
+        List<R> results = new ArrayList<>();
+        for (R result : findAll(preparedQuery)) {
+            results.add(result);
+        }
+        long total = pageable.resolveTotalSize(results.size());
+        if (total < 0) {
+            Number n = findOne(countQuery);
+            total = n != null ? n.longValue() : 0;
+        }
+        return Page.of(results, pageable, total);
+    }
+
     /**
      * Persist the operation returning a possibly new entity.
      * @param operation The operation
@@ -145,6 +176,52 @@ public interface RepositoryOperations {
      */
     @NonNull <T> T update(@NonNull UpdateOperation<T> operation);
 
+    /**
+     * Updates all the entities for the given operation. The default implementation
+     * updates each entity individually, implementations that support batching should override.
+     *
+     * @param operation The operation
+     * @param <T> The generic type
+     * @return The updated entities
+     * @since 1.0.1
+     */
+    default @NonNull <T> Iterable<T> updateAll(@NonNull BatchOperation<T> operation) {
+        List<T> results = new ArrayList<>();
+        for (T entity : operation) {
+            results.add(update(new UpdateOperation<T>() {
+                @NonNull
+                @Override
+                public T getEntity() {
+                    return entity;
+                }
+
+                @NonNull
+                @Override
+                public Class<T> getRootEntity() {
+                    return operation.getRootEntity();
+                }
+
+                @NonNull
+                @Override
+                public Class<?> getRepositoryType() {
+                    return operation.getRepositoryType();
+                }
+
+                @NonNull
+                @Override
+                public String getName() {
+                    return operation.getName();
+                }
+
+                @Override
+                public AnnotationMetadata getAnnotationMetadata() {
+                    return operation.getAnnotationMetadata();
+                }
+            }));
+        }
+        return results;
+    }
+
     /**
      * Persist all the given entities.
      * @param operation The operation
@@ -57,6 +57,18 @@ public interface CrudRepository<E, ID> extends GenericRepository<E, ID> {
     @NonNull
     <S extends E> S update(@Valid @NotNull @NonNull S entity);
 
+    /**
+     * This method issues an explicit update for each of the given entities. Implementations that support it will execute the updates as a batch. If any entity has no assigned ID then an exception will be thrown.
+     *
+     * @param entities The entities to update. Must not be {@literal null}.
+     * @param <S> The generic type
+     * @return The updated entities. will never be {@literal null}.
+     * @throws javax.validation.ConstraintViolationException if the entities are {@literal null}.
+     * @since 1.0.1
+     */
+    @NonNull
+    <S extends E> Iterable<S> updateAll(@Valid @NotNull @NonNull Iterable<S> entities);
+
     /**
      * Saves all given entities, possibly returning new instances representing the saved state.
      *
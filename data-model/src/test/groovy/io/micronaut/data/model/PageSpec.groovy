@@ -46,6 +46,20 @@ class PageSpec extends Specification {
         2      | 40     | 20   | 140   | 7
     }
 
+    @Unroll
+    void "test resolve total size for page #number of size #size with #elements elements"() {
+        expect:
+        Pageable.from(number, size).resolveTotalSize(elements) == total
+
+        where:
+        number | size | elements | total
+        0      | 10   | 0        | 0
+        0      | 10   | 7        | 7
+        2      | 10   | 7        | 27
+        2      | 10   | 10       | -1
+        5      | 10   | 0        | -1
+    }
+
     void "test mapping a page"() {
         def page = Page.of([1, 2, 3, 4, 5], Pageable.from(0, 5), 14)
 
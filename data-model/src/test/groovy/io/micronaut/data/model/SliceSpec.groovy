@@ -15,6 +15,7 @@
  */
 package io.micronaut.data.model
 
+import io.micronaut.core.annotation.Introspected
 import spock.lang.Specification
 
 class SliceSpec extends Specification {
@@ -29,4 +30,33 @@ class SliceSpec extends Specification {
         newSlice.content == [2,3,4,5,6]
         newSlice.size == 5
     }
+
+    void "test next pageable of a cursored slice"() {
+        given:
+        def sort = Sort.of([Sort.Order.asc("name"), Sort.Order.asc("id")])
+        def slice = Slice.of([new Item(id: 1, name: "A"), new Item(id: 2, name: "B")], CursoredPageable.from(2, sort))
+
+        when:
+        CursoredPageable next = (CursoredPageable) slice.nextPageable()
+
+        then:
+        next.cursor == ["B", 2]
+        next.number == 1
+        next.offset == 0
+        next.size == 2
+        next.sort == sort
+        next.resolveTotalSize(1) == -1
+
+        when:
+        next.next()
+
+        then:
+        thrown(UnsupportedOperationException)
+    }
+
+    @Introspected
+    static class Item {
+        Long id
+        String name
+    }
 }
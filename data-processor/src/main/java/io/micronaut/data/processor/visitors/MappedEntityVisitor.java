@@ -37,11 +37,13 @@ import io.micronaut.inject.ast.PropertyElement;
 import io.micronaut.inject.visitor.TypeElementVisitor;
 import io.micronaut.inject.visitor.VisitorContext;
 
+import java.io.IOException;
 import java.util.*;
 import java.util.function.Function;
 
 /**
- * A {@link TypeElementVisitor} that pre-computes mappings to columns based on the configured naming strategy.
+ * A {@link TypeElementVisitor} that pre-computes mappings to columns based on the configured naming strategy. For entities
+ * without associations, embedded properties and JSON properties a result materializer is generated as well.
  *
  * @author graemerocher
  * @since 1.0.0
@@ -60,6 +62,8 @@ public class MappedEntityVisitor implements TypeElementVisitor<MappedEntity, Obj
         }
     };
     private final boolean mappedEntity;
+    private final Map<String, ResultMaterializerWriter> materializerWriters = new LinkedHashMap<>();
+    private final Map<String, ClassElement> materializedElements = new HashMap<>();
 
     /**
      * Default constructor.
@@ -102,6 +106,25 @@ public class MappedEntityVisitor implements TypeElementVisitor<MappedEntity, Obj
         if (identity != null) {
             computeMappingDefaults(namingStrategy, identity, dataTypes);
         }
+        if (isMappedEntity()) {
+            ResultMaterializerWriter.forEntity(entity).ifPresent(writer -> {
+                materializerWriters.put(element.getName(), writer);
+                materializedElements.put(element.getName(), element);
+            });
+        }
+    }
+
+    @Override
+    public void finish(VisitorContext visitorContext) {
+        for (Map.Entry<String, ResultMaterializerWriter> entry : materializerWriters.entrySet()) {
+            try {
+                entry.getValue().accept(visitorContext);
+            } catch (IOException e) {
+                visitorContext.fail("Error generating result materializer: " + e.getMessage(), materializedElements.get(entry.getKey()));
+            }
+        }
+        materializerWriters.clear();
+        materializedElements.clear();
     }
 
     private boolean isMappedEntity() {
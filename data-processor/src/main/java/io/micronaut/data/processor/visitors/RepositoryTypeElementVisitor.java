@@ -28,6 +28,7 @@ import io.micronaut.data.intercept.annotation.DataMethod;
 import io.micronaut.data.model.*;
 import io.micronaut.data.model.query.QueryModel;
 import io.micronaut.data.model.Sort;
+import io.micronaut.data.model.query.builder.AbstractSqlLikeQueryBuilder;
 import io.micronaut.data.model.query.builder.QueryResult;
 import io.micronaut.data.model.query.builder.QueryBuilder;
 import io.micronaut.data.processor.model.SourcePersistentEntity;
@@ -238,6 +239,7 @@ public class RepositoryTypeElementVisitor implements TypeElementVisitor<Reposito
                         boolean rawCount = false;
                         boolean encodeEntityParameters = false;
                         boolean supportsImplicitQueries = matchContext.supportsImplicitQueries();
+                        boolean findById = false;
                         if (queryObject != null) {
                             if (queryObject instanceof RawQuery) {
                                 RawQuery rawQuery = (RawQuery) queryObject;
@@ -259,6 +261,7 @@ public class RepositoryTypeElementVisitor implements TypeElementVisitor<Reposito
                                 }
                             } else {
 
+                                boolean hasWhereClause = false;
                                 final AnnotationMetadataHierarchy annotationMetadataHierarchy = new AnnotationMetadataHierarchy(
                                         currentRepository.getAnnotationMetadata(),
                                         matchContext.getAnnotationMetadata()
@@ -275,7 +278,9 @@ public class RepositoryTypeElementVisitor implements TypeElementVisitor<Reposito
                                                             queryObject,
                                                             methodInfo.getUpdateProperties());
 
-                                            final boolean isEntityArgument = parameters.length == 1 && parameters[0].getGenericType().getName().equals(entity.getName());
+                                            final boolean isEntityArgument = parameters.length == 1 &&
+                                                    (parameters[0].getGenericType().getName().equals(entity.getName()) ||
+                                                            TypeUtils.isIterableOfEntity(parameters[0].getGenericType()));
                                             if (isEntityArgument) {
                                                 encodeEntityParameters = true;
                                             }
@@ -292,6 +297,9 @@ public class RepositoryTypeElementVisitor implements TypeElementVisitor<Reposito
                                                     annotationMetadataHierarchy,
                                                     queryObject
                                             );
+                                            // conditions added at runtime, such as those of keyset pagination, are ANDed to it
+                                            hasWhereClause = queryEncoder instanceof AbstractSqlLikeQueryBuilder &&
+                                                    ((AbstractSqlLikeQueryBuilder) queryEncoder).hasWhereClause(annotationMetadataHierarchy, queryObject);
                                     }
 
                                 } catch (Exception e) {
@@ -300,6 +308,10 @@ public class RepositoryTypeElementVisitor implements TypeElementVisitor<Reposito
                                     return;
                                 }
 
+                                findById = methodInfo.getOperationType() == MethodMatchInfo.OperationType.QUERY &&
+                                        !methodInfo.isDto() &&
+                                        !annotationMetadataHierarchy.hasAnnotation(Where.class) &&
+                                        isFindByIdQuery(entity, queryObject, methodInfo.getResultType());
                                 parameterBinding = encodedQuery.getParameters();
                                 parameterTypes = encodedQuery.getParameterTypes();
                                 final Set<String> requiredParams = encodedQuery.getAdditionalRequiredParameters();
@@ -341,6 +353,9 @@ public class RepositoryTypeElementVisitor implements TypeElementVisitor<Reposito
                                             annotationBuilder.value(encodedQuery.getQuery())
                                     );
                                 }
+                                if (hasWhereClause) {
+                                    element.annotate(Query.class, (builder) -> builder.member(DataMethod.META_MEMBER_HAS_WHERE_CLAUSE, true));
+                                }
                             }
                         }
 
@@ -352,6 +367,7 @@ public class RepositoryTypeElementVisitor implements TypeElementVisitor<Reposito
                             boolean finalRawCount = rawCount;
                             Map<String, DataType> finalParameterTypes = parameterTypes;
                             boolean finalEncodeEntityParameters = encodeEntityParameters;
+                            boolean finalFindById = findById;
                             element.annotate(DataMethod.class, annotationBuilder -> {
                                 annotationBuilder.member(DataMethod.META_MEMBER_ROOT_ENTITY, new AnnotationClassValue<>(entity.getName()));
 
@@ -375,6 +391,9 @@ public class RepositoryTypeElementVisitor implements TypeElementVisitor<Reposito
                                 if (idType != null) {
                                     annotationBuilder.member(DataMethod.META_MEMBER_ID_TYPE, idType);
                                 }
+                                if (finalFindById) {
+                                    annotationBuilder.member(DataMethod.META_MEMBER_FIND_BY_ID, true);
+                                }
                                 annotationBuilder.member(DataMethod.META_MEMBER_INTERCEPTOR, new AnnotationClassValue<>(runtimeInterceptor.getName()));
 
                                 if (CollectionUtils.isNotEmpty(finalParameterBinding)) {
@@ -632,6 +651,7 @@ public class RepositoryTypeElementVisitor implements TypeElementVisitor<Reposito
                 new CountByMethod(),
                 new UpdateMethod(),
                 new UpdateEntityMethod(),
+                new UpdateAllEntitiesMethod(),
                 new UpdateByMethod(),
                 new ListSliceMethod(),
                 new FindSliceByMethod(),
@@ -659,6 +679,17 @@ public class RepositoryTypeElementVisitor implements TypeElementVisitor<Reposito
         return finderList;
     }
 
+    private boolean isFindByIdQuery(PersistentEntity entity, QueryModel query, @Nullable TypedElement resultType) {
+        if (resultType == null || !resultType.getType().getName().equals(entity.getName())) {
+            return false;
+        }
+        List<QueryModel.Criterion> criteria = query.getCriteria().getCriteria();
+        return criteria.size() == 1 &&
+                criteria.get(0) instanceof QueryModel.IdEquals &&
+                query.getProjections().isEmpty() &&
+                query.getJoinPaths().isEmpty();
+    }
+
     private @Nullable String resolveIdType(PersistentEntity entity) {
         Map<String, ClassElement> typeArguments = currentRepository.getTypeArguments(GenericRepository.class);
         String varName = "ID";
@@ -0,0 +1,580 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.processor.visitors;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.micronaut.asm.ClassWriter;
+import io.micronaut.asm.Label;
+import io.micronaut.asm.MethodVisitor;
+import io.micronaut.asm.Opcodes;
+import io.micronaut.asm.Type;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.naming.NameUtils;
+import io.micronaut.data.annotation.MappedProperty;
+import io.micronaut.data.model.Association;
+import io.micronaut.data.model.DataType;
+import io.micronaut.data.model.PersistentProperty;
+import io.micronaut.data.processor.model.SourcePersistentEntity;
+import io.micronaut.data.processor.model.SourcePersistentProperty;
+import io.micronaut.inject.ast.ClassElement;
+import io.micronaut.inject.ast.MethodElement;
+import io.micronaut.inject.ast.ParameterElement;
+import io.micronaut.inject.writer.ClassWriterOutputVisitor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Writes a {@code io.micronaut.data.runtime.mapper.ResultMaterializer} for an entity that invokes the constructor and
+ * setters of the entity directly. Only entities without associations, embedded properties and JSON properties are
+ * supported, since the materializer reads the columns of the entity alone. The columns are read by index, with the
+ * typed read method of the result reader if the data type of a column matches the type of its property.
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+@Internal
+final class ResultMaterializerWriter implements Opcodes {
+
+    private static final String SERVICE_TYPE = "io.micronaut.data.runtime.mapper.ResultMaterializer";
+    private static final String SUPER_CLASS = "io/micronaut/data/runtime/mapper/GeneratedResultMaterializer";
+    private static final String RESULT_READER = "io/micronaut/data/runtime/mapper/ResultReader";
+    private static final String DATA_TYPE = "io/micronaut/data/model/DataType";
+    private static final String READ_DESCRIPTOR = "(Ljava/lang/Object;L" + RESULT_READER + ";IL"
+            + DATA_TYPE + ";Ljava/lang/Class;)Ljava/lang/Object;";
+    private static final String READ_REQUIRED_DESCRIPTOR = "(Ljava/lang/Object;L" + RESULT_READER + ";IL"
+            + DATA_TYPE + ";Ljava/lang/Class;Ljava/lang/String;)Ljava/lang/Object;";
+    private static final String REQUIRE_VALUE_DESCRIPTOR = "(Ljava/lang/Object;Ljava/lang/String;)Ljava/lang/Object;";
+    private static final String MATERIALIZE_DESCRIPTOR = "(Ljava/lang/Object;L" + RESULT_READER + ";[I)Ljava/lang/Object;";
+    private static final String CONSTRUCTOR_DESCRIPTOR = "(Ljava/lang/Class;[Ljava/lang/String;)V";
+    private static final int LOCAL_RESULT_SET = 1;
+    private static final int LOCAL_READER = 2;
+    private static final int LOCAL_INDEXES = 3;
+    private static final int LOCAL_ID = 4;
+    private static final int LOCAL_ENTITY = 5;
+    private static final int LOCAL_VALUE = 6;
+
+    private final Type entityType;
+    private final String materializerName;
+    private final @Nullable Column identity;
+    private final List<Column> constructorArguments;
+    private final List<Column> properties;
+    private final List<String> columns = new ArrayList<>();
+
+    private ResultMaterializerWriter(
+            Type entityType,
+            String materializerName,
+            @Nullable Column identity,
+            List<Column> constructorArguments,
+            List<Column> properties) {
+        this.entityType = entityType;
+        this.materializerName = materializerName;
+        this.identity = identity;
+        this.constructorArguments = constructorArguments;
+        this.properties = properties;
+        if (identity != null) {
+            identity.index = addColumn(identity);
+        }
+        for (Column argument : constructorArguments) {
+            argument.index = identity != null && argument.property.equals(identity.property) ? identity.index : addColumn(argument);
+        }
+        for (Column property : properties) {
+            property.index = addColumn(property);
+        }
+    }
+
+    private int addColumn(Column column) {
+        columns.add(column.column);
+        return columns.size() - 1;
+    }
+
+    /**
+     * Creates a writer for the given entity.
+     *
+     * @param entity The entity
+     * @return The writer or empty if the entity is not supported
+     */
+    static Optional<ResultMaterializerWriter> forEntity(@NonNull SourcePersistentEntity entity) {
+        ClassElement classElement = entity.getClassElement();
+        if (classElement.isAbstract() || classElement.isPrivate() || !entity.getAssociations().isEmpty()) {
+            return Optional.empty();
+        }
+        PersistentProperty[] ids = entity.getCompositeIdentity();
+        if (ids != null && ids.length > 1) {
+            return Optional.empty();
+        }
+        List<SourcePersistentProperty> all = new ArrayList<>(entity.getPersistentProperties());
+        SourcePersistentProperty identity = entity.getIdentity();
+        if (identity != null) {
+            all.add(identity);
+        }
+        if (entity.getVersion() != null) {
+            all.add(entity.getVersion());
+        }
+        for (SourcePersistentProperty property : all) {
+            DataType dataType = dataTypeOf(property);
+            if (property instanceof Association || dataType == DataType.JSON || dataType == DataType.ENTITY || property.getType().isArray()) {
+                return Optional.empty();
+            }
+        }
+
+        List<Column> constructorArguments = new ArrayList<>();
+        List<String> constructorProperties = new ArrayList<>();
+        MethodElement constructor = classElement.getPrimaryConstructor().orElse(null);
+        if (constructor == null || constructor.isPrivate()) {
+            return Optional.empty();
+        }
+        for (ParameterElement parameter : constructor.getParameters()) {
+            SourcePersistentProperty property = findProperty(all, parameter.getName());
+            if (property == null) {
+                return Optional.empty();
+            }
+            constructorProperties.add(property.getName());
+            constructorArguments.add(new Column(property, typeOf(parameter.getType())));
+        }
+
+        Column identityColumn = null;
+        List<Column> properties = new ArrayList<>();
+        for (SourcePersistentProperty property : all) {
+            boolean isIdentity = property == identity;
+            if (isIdentity) {
+                identityColumn = new Column(property, typeOf(property.getType()));
+            }
+            if (!constructorProperties.contains(property.getName()) && !property.getPropertyElement().isReadOnly()) {
+                if (isIdentity) {
+                    identityColumn.settable = true;
+                } else {
+                    properties.add(new Column(property, typeOf(property.getType())));
+                }
+            }
+        }
+
+        String name = entity.getName();
+        int i = name.lastIndexOf('.');
+        String packagePrefix = i > -1 ? name.substring(0, i + 1) : "";
+        String materializerName = packagePrefix + "$" + name.substring(i + 1).replace('$', '_') + "Materializer";
+        return Optional.of(new ResultMaterializerWriter(
+                Type.getObjectType(name.replace('.', '/')),
+                materializerName,
+                identityColumn,
+                constructorArguments,
+                properties
+        ));
+    }
+
+    /**
+     * Writes the materializer and registers it as a service.
+     *
+     * @param classWriterOutputVisitor The output visitor
+     * @throws IOException If the class cannot be written
+     */
+    void accept(@NonNull ClassWriterOutputVisitor classWriterOutputVisitor) throws IOException {
+        try (OutputStream out = classWriterOutputVisitor.visitClass(materializerName)) {
+            out.write(toByteArray());
+        }
+        classWriterOutputVisitor.visitServiceDescriptor(SERVICE_TYPE, materializerName);
+    }
+
+    /**
+     * @return The bytecode of the materializer
+     */
+    byte[] toByteArray() {
+        String internalName = materializerName.replace('.', '/');
+        ClassWriter classWriter = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
+        classWriter.visit(
+                V1_8,
+                ACC_PUBLIC | ACC_FINAL | ACC_SYNTHETIC,
+                internalName,
+                "L" + SUPER_CLASS + "<" + entityType.getDescriptor() + ">;",
+                SUPER_CLASS,
+                null
+        );
+
+        MethodVisitor constructor = classWriter.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+        constructor.visitCode();
+        constructor.visitVarInsn(ALOAD, 0);
+        constructor.visitLdcInsn(entityType);
+        pushInt(constructor, columns.size());
+        constructor.visitTypeInsn(ANEWARRAY, "java/lang/String");
+        for (int i = 0; i < columns.size(); i++) {
+            constructor.visitInsn(DUP);
+            pushInt(constructor, i);
+            constructor.visitLdcInsn(columns.get(i));
+            constructor.visitInsn(AASTORE);
+        }
+        constructor.visitMethodInsn(INVOKESPECIAL, SUPER_CLASS, "<init>", CONSTRUCTOR_DESCRIPTOR, false);
+        constructor.visitInsn(RETURN);
+        constructor.visitMaxs(0, 0);
+        constructor.visitEnd();
+
+        MethodVisitor materialize = classWriter.visitMethod(ACC_PUBLIC, "materialize", MATERIALIZE_DESCRIPTOR, null, null);
+        materialize.visitCode();
+        if (identity != null) {
+            // like the introspection based mapping a row without an identifier doesn't represent an entity
+            readValue(materialize, identity, DataType.OBJECT, boxedType(identity.type), false);
+            materialize.visitVarInsn(ASTORE, LOCAL_ID);
+            materialize.visitVarInsn(ALOAD, LOCAL_ID);
+            Label present = new Label();
+            materialize.visitJumpInsn(IFNONNULL, present);
+            materialize.visitInsn(ACONST_NULL);
+            materialize.visitInsn(ARETURN);
+            materialize.visitLabel(present);
+        }
+
+        materialize.visitTypeInsn(NEW, entityType.getInternalName());
+        materialize.visitInsn(DUP);
+        Type[] argumentTypes = new Type[constructorArguments.size()];
+        for (int i = 0; i < argumentTypes.length; i++) {
+            Column argument = constructorArguments.get(i);
+            argumentTypes[i] = argument.type;
+            if (identity != null && argument.property.equals(identity.property)) {
+                materialize.visitVarInsn(ALOAD, LOCAL_ID);
+                unbox(materialize, argument.type);
+            } else {
+                boolean required = argument.type.getSort() != Type.OBJECT || !argument.optional;
+                readValue(materialize, argument, argument.dataType, argument.type, required);
+            }
+        }
+        materialize.visitMethodInsn(
+                INVOKESPECIAL,
+                entityType.getInternalName(),
+                "<init>",
+                Type.getMethodDescriptor(Type.VOID_TYPE, argumentTypes),
+                false
+        );
+        materialize.visitVarInsn(ASTORE, LOCAL_ENTITY);
+
+        if (identity != null && identity.settable) {
+            materialize.visitVarInsn(ALOAD, LOCAL_ENTITY);
+            materialize.visitVarInsn(ALOAD, LOCAL_ID);
+            unbox(materialize, identity.type);
+            invokeSetter(materialize, identity);
+        }
+        for (Column property : properties) {
+            Type valueType = property.type;
+            if (valueType.getSort() != Type.OBJECT && typedRead(property.dataType, property.type) == null) {
+                // the converted value may be null
+                valueType = boxedType(valueType);
+            }
+            if (valueType.getSort() == Type.OBJECT) {
+                // null values are skipped, leaving the default of the entity in place
+                readValue(materialize, property, property.dataType, valueType, false);
+                materialize.visitVarInsn(ASTORE, LOCAL_VALUE);
+                materialize.visitVarInsn(ALOAD, LOCAL_VALUE);
+                Label skip = new Label();
+                materialize.visitJumpInsn(IFNULL, skip);
+                materialize.visitVarInsn(ALOAD, LOCAL_ENTITY);
+                materialize.visitVarInsn(ALOAD, LOCAL_VALUE);
+                unbox(materialize, property.type);
+                invokeSetter(materialize, property);
+                materialize.visitLabel(skip);
+            } else {
+                materialize.visitVarInsn(ALOAD, LOCAL_ENTITY);
+                readValue(materialize, property, property.dataType, property.type, false);
+                invokeSetter(materialize, property);
+            }
+        }
+        materialize.visitVarInsn(ALOAD, LOCAL_ENTITY);
+        materialize.visitInsn(ARETURN);
+        materialize.visitMaxs(0, 0);
+        materialize.visitEnd();
+
+        classWriter.visitEnd();
+        return classWriter.toByteArray();
+    }
+
+    /**
+     * Reads a column and leaves the value on the stack as the given type, which is either the type of the column or
+     * its boxed type.
+     */
+    private void readValue(MethodVisitor methodVisitor, Column column, DataType dataType, Type valueType, boolean required) {
+        TypedRead typedRead = typedRead(dataType, column.type);
+        boolean requireValue = required && typedRead != null && typedRead.returnType.getSort() == Type.OBJECT;
+        if (requireValue) {
+            methodVisitor.visitVarInsn(ALOAD, 0);
+        }
+        if (typedRead != null) {
+            methodVisitor.visitVarInsn(ALOAD, LOCAL_READER);
+            methodVisitor.visitVarInsn(ALOAD, LOCAL_RESULT_SET);
+            pushIndex(methodVisitor, column);
+            methodVisitor.visitMethodInsn(INVOKESTATIC, "java/lang/Integer", "valueOf", "(I)Ljava/lang/Integer;", false);
+            methodVisitor.visitMethodInsn(
+                    INVOKEINTERFACE,
+                    RESULT_READER,
+                    typedRead.method,
+                    Type.getMethodDescriptor(typedRead.returnType, Type.getType(Object.class), Type.getType(Object.class)),
+                    true
+            );
+            if (requireValue) {
+                methodVisitor.visitLdcInsn(column.property);
+                methodVisitor.visitMethodInsn(INVOKEVIRTUAL, SUPER_CLASS, "requireValue", REQUIRE_VALUE_DESCRIPTOR, false);
+                methodVisitor.visitTypeInsn(CHECKCAST, typedRead.returnType.getInternalName());
+            }
+            if (typedRead.returnType.getSort() != Type.OBJECT && valueType.getSort() == Type.OBJECT) {
+                box(methodVisitor, typedRead.returnType);
+            }
+        } else {
+            methodVisitor.visitVarInsn(ALOAD, 0);
+            methodVisitor.visitVarInsn(ALOAD, LOCAL_RESULT_SET);
+            methodVisitor.visitVarInsn(ALOAD, LOCAL_READER);
+            pushIndex(methodVisitor, column);
+            methodVisitor.visitFieldInsn(GETSTATIC, DATA_TYPE, dataType.name(), "L" + DATA_TYPE + ";");
+            methodVisitor.visitLdcInsn(boxedType(column.type));
+            if (required) {
+                methodVisitor.visitLdcInsn(column.property);
+                methodVisitor.visitMethodInsn(INVOKEVIRTUAL, SUPER_CLASS, "readRequired", READ_REQUIRED_DESCRIPTOR, false);
+            } else {
+                methodVisitor.visitMethodInsn(INVOKEVIRTUAL, SUPER_CLASS, "read", READ_DESCRIPTOR, false);
+            }
+            if (valueType.getSort() == Type.OBJECT) {
+                methodVisitor.visitTypeInsn(CHECKCAST, valueType.getInternalName());
+            } else {
+                unbox(methodVisitor, valueType);
+            }
+        }
+    }
+
+    private static void pushIndex(MethodVisitor methodVisitor, Column column) {
+        methodVisitor.visitVarInsn(ALOAD, LOCAL_INDEXES);
+        pushInt(methodVisitor, column.index);
+        methodVisitor.visitInsn(IALOAD);
+    }
+
+    private static void pushInt(MethodVisitor methodVisitor, int value) {
+        if (value <= 5) {
+            methodVisitor.visitInsn(ICONST_0 + value);
+        } else if (value <= Byte.MAX_VALUE) {
+            methodVisitor.visitIntInsn(BIPUSH, value);
+        } else {
+            methodVisitor.visitIntInsn(SIPUSH, value);
+        }
+    }
+
+    /**
+     * The typed read method of the result reader that returns the values of the given data type as the given type
+     * without conversion, if any.
+     */
+    private static @Nullable TypedRead typedRead(DataType dataType, Type type) {
+        Type unboxed = unboxedType(type);
+        switch (dataType) {
+            case LONG:
+                return unboxed == Type.LONG_TYPE ? new TypedRead("readLong", unboxed) : null;
+            case INTEGER:
+                return unboxed == Type.INT_TYPE ? new TypedRead("readInt", unboxed) : null;
+            case BOOLEAN:
+                return unboxed == Type.BOOLEAN_TYPE ? new TypedRead("readBoolean", unboxed) : null;
+            case BYTE:
+                return unboxed == Type.BYTE_TYPE ? new TypedRead("readByte", unboxed) : null;
+            case SHORT:
+                return unboxed == Type.SHORT_TYPE ? new TypedRead("readShort", unboxed) : null;
+            case FLOAT:
+                return unboxed == Type.FLOAT_TYPE ? new TypedRead("readFloat", unboxed) : null;
+            case DOUBLE:
+                return unboxed == Type.DOUBLE_TYPE ? new TypedRead("readDouble", unboxed) : null;
+            case CHARACTER:
+                return unboxed == Type.CHAR_TYPE ? new TypedRead("readChar", unboxed) : null;
+            case STRING:
+                return typedRead("readString", "java/lang/String", type);
+            case BIGDECIMAL:
+                return typedRead("readBigDecimal", "java/math/BigDecimal", type);
+            case DATE:
+                return typedRead("readDate", "java/util/Date", type);
+            case TIMESTAMP:
+                return typedRead("readTimestamp", "java/util/Date", type);
+            case LOCAL_DATE:
+                return typedRead("readLocalDate", "java/time/LocalDate", type);
+            case LOCAL_DATE_TIME:
+                return typedRead("readLocalDateTime", "java/time/LocalDateTime", type);
+            case INSTANT:
+                return typedRead("readInstant", "java/time/Instant", type);
+            case OFFSET_DATE_TIME:
+                return typedRead("readOffsetDateTime", "java/time/OffsetDateTime", type);
+            case UUID:
+                return typedRead("readUUID", "java/util/UUID", type);
+            default:
+                return null;
+        }
+    }
+
+    private static @Nullable TypedRead typedRead(String method, String returnType, Type type) {
+        return type.getInternalName().equals(returnType) ? new TypedRead(method, type) : null;
+    }
+
+    private void invokeSetter(MethodVisitor methodVisitor, Column column) {
+        methodVisitor.visitMethodInsn(
+                INVOKEVIRTUAL,
+                entityType.getInternalName(),
+                "set" + NameUtils.capitalize(column.property),
+                Type.getMethodDescriptor(Type.VOID_TYPE, column.type),
+                false
+        );
+    }
+
+    private static void unbox(MethodVisitor methodVisitor, Type type) {
+        Type boxed = boxedType(type);
+        methodVisitor.visitTypeInsn(CHECKCAST, boxed.getInternalName());
+        if (boxed != type) {
+            methodVisitor.visitMethodInsn(
+                    INVOKEVIRTUAL,
+                    boxed.getInternalName(),
+                    type.getClassName() + "Value",
+                    Type.getMethodDescriptor(type),
+                    false
+            );
+        }
+    }
+
+    private static void box(MethodVisitor methodVisitor, Type type) {
+        Type boxed = boxedType(type);
+        methodVisitor.visitMethodInsn(
+                INVOKESTATIC,
+                boxed.getInternalName(),
+                "valueOf",
+                Type.getMethodDescriptor(boxed, type),
+                false
+        );
+    }
+
+    private static Type unboxedType(Type type) {
+        if (type.getSort() != Type.OBJECT) {
+            return type;
+        }
+        switch (type.getInternalName()) {
+            case "java/lang/Boolean":
+                return Type.BOOLEAN_TYPE;
+            case "java/lang/Character":
+                return Type.CHAR_TYPE;
+            case "java/lang/Byte":
+                return Type.BYTE_TYPE;
+            case "java/lang/Short":
+                return Type.SHORT_TYPE;
+            case "java/lang/Integer":
+                return Type.INT_TYPE;
+            case "java/lang/Float":
+                return Type.FLOAT_TYPE;
+            case "java/lang/Long":
+                return Type.LONG_TYPE;
+            case "java/lang/Double":
+                return Type.DOUBLE_TYPE;
+            default:
+                return type;
+        }
+    }
+
+    private static Type boxedType(Type type) {
+        switch (type.getSort()) {
+            case Type.BOOLEAN:
+                return Type.getObjectType("java/lang/Boolean");
+            case Type.CHAR:
+                return Type.getObjectType("java/lang/Character");
+            case Type.BYTE:
+                return Type.getObjectType("java/lang/Byte");
+            case Type.SHORT:
+                return Type.getObjectType("java/lang/Short");
+            case Type.INT:
+                return Type.getObjectType("java/lang/Integer");
+            case Type.FLOAT:
+                return Type.getObjectType("java/lang/Float");
+            case Type.LONG:
+                return Type.getObjectType("java/lang/Long");
+            case Type.DOUBLE:
+                return Type.getObjectType("java/lang/Double");
+            default:
+                return type;
+        }
+    }
+
+    private static Type typeOf(ClassElement element) {
+        String name = element.getName();
+        if (element.isPrimitive()) {
+            switch (name) {
+                case "boolean":
+                    return Type.BOOLEAN_TYPE;
+                case "char":
+                    return Type.CHAR_TYPE;
+                case "byte":
+                    return Type.BYTE_TYPE;
+                case "short":
+                    return Type.SHORT_TYPE;
+                case "int":
+                    return Type.INT_TYPE;
+                case "float":
+                    return Type.FLOAT_TYPE;
+                case "long":
+                    return Type.LONG_TYPE;
+                case "double":
+                    return Type.DOUBLE_TYPE;
+                default:
+                    break;
+            }
+        }
+        return Type.getObjectType(name.replace('.', '/'));
+    }
+
+    private static DataType dataTypeOf(SourcePersistentProperty property) {
+        // the visitor may have changed the data type with the type definitions of the entity
+        return property.getAnnotationMetadata()
+                .enumValue(MappedProperty.class, "type", DataType.class)
+                .orElse(property.getDataType());
+    }
+
+    private static @Nullable SourcePersistentProperty findProperty(List<SourcePersistentProperty> properties, String name) {
+        for (SourcePersistentProperty property : properties) {
+            if (property.getName().equals(name)) {
+                return property;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A column read into a constructor argument or property.
+     */
+    private static final class Column {
+        final String property;
+        final String column;
+        final DataType dataType;
+        final Type type;
+        final boolean optional;
+        boolean settable;
+        int index;
+
+        Column(SourcePersistentProperty property, Type type) {
+            this.property = property.getName();
+            this.column = property.getPersistedName();
+            this.dataType = dataTypeOf(property);
+            this.type = type;
+            this.optional = property.isOptional();
+        }
+    }
+
+    /**
+     * A typed read method of the result reader.
+     */
+    private static final class TypedRead {
+        final String method;
+        final Type returnType;
+
+        TypedRead(String method, Type returnType) {
+            this.method = method;
+            this.returnType = returnType;
+        }
+    }
+}
@@ -34,6 +34,10 @@ import java.net.URI;
 import java.net.URL;
 import java.nio.charset.Charset;
 import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.time.Year;
 import java.time.YearMonth;
 import java.time.chrono.ChronoLocalDate;
@@ -300,7 +304,15 @@ public class TypeUtils {
             } else if (type.isAssignable(BigDecimal.class) || type.isAssignable(BigInteger.class)) {
                 return DataType.BIGDECIMAL;
             } else if (type.isAssignable(Temporal.class)) {
-                if (type.isAssignable(ChronoLocalDate.class) || type.isAssignable(Year.class) || type.isAssignable(YearMonth.class)) {
+                if (type.isAssignable(LocalDate.class)) {
+                    return DataType.LOCAL_DATE;
+                } else if (type.isAssignable(LocalDateTime.class)) {
+                    return DataType.LOCAL_DATE_TIME;
+                } else if (type.isAssignable(Instant.class)) {
+                    return DataType.INSTANT;
+                } else if (type.isAssignable(OffsetDateTime.class)) {
+                    return DataType.OFFSET_DATE_TIME;
+                } else if (type.isAssignable(ChronoLocalDate.class) || type.isAssignable(Year.class) || type.isAssignable(YearMonth.class)) {
                     return DataType.DATE;
                 } else {
                     return DataType.TIMESTAMP;
@@ -311,7 +323,9 @@ public class TypeUtils {
                 } else {
                     return DataType.DATE;
                 }
-            } else if (Stream.of(UUID.class, Charset.class, TimeZone.class, Locale.class, URL.class, URI.class).anyMatch(type::isAssignable)) {
+            } else if (type.isAssignable(UUID.class)) {
+                return DataType.UUID;
+            } else if (Stream.of(Charset.class, TimeZone.class, Locale.class, URL.class, URI.class).anyMatch(type::isAssignable)) {
                 return DataType.STRING;
             }
 
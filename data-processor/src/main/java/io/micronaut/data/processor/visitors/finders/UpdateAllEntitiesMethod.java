@@ -0,0 +1,58 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.processor.visitors.finders;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.micronaut.data.intercept.UpdateAllEntitiesInterceptor;
+import io.micronaut.data.processor.visitors.MatchContext;
+import io.micronaut.data.processor.visitors.MethodMatchContext;
+import io.micronaut.inject.ast.ClassElement;
+import io.micronaut.inject.ast.MethodElement;
+import io.micronaut.inject.ast.ParameterElement;
+
+/**
+ * Handles {@link io.micronaut.data.repository.CrudRepository#updateAll(Iterable)}.
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+public class UpdateAllEntitiesMethod extends UpdateEntityMethod {
+
+    @Override
+    public int getOrder() {
+        // before the single entity update
+        return super.getOrder() - 10;
+    }
+
+    @Override
+    public boolean isMethodMatch(MethodElement methodElement, MatchContext matchContext) {
+        ParameterElement[] parameters = matchContext.getParameters();
+        if (parameters.length == 1 && METHOD_PATTERN.matcher(methodElement.getName()).find()) {
+            ClassElement returnType = matchContext.getReturnType();
+            return !TypeUtils.isReactiveOrFuture(returnType) &&
+                    !TypeUtils.doesReturnVoid(methodElement) &&
+                    TypeUtils.isIterableOfEntity(parameters[0].getGenericType());
+        }
+        return false;
+    }
+
+    @Nullable
+    @Override
+    public MethodMatchInfo buildMatchInfo(@NonNull MethodMatchContext matchContext) {
+        return buildUpdateMatchInfo(matchContext, null, UpdateAllEntitiesInterceptor.class);
+    }
+}
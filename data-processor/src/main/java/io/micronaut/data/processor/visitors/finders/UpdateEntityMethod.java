@@ -65,54 +65,68 @@ public class UpdateEntityMethod extends AbstractPatternBasedMethod implements Me
                 if (TypeUtils.isReactiveOrFuture(returnType)) {
                     returnType = returnType.getGenericType().getFirstTypeArgument().orElse(returnType);
                 }
-                if (matchContext.supportsImplicitQueries()) {
-                    return new MethodMatchInfo(
-                            returnType,
-                            null, getInterceptorElement(matchContext, interceptor),
-                            MethodMatchInfo.OperationType.UPDATE
-                    );
-                } else {
-                    final SourcePersistentEntity rootEntity = matchContext.getRootEntity();
-                    final String idName;
-                    final SourcePersistentProperty identity = rootEntity.getIdentity();
-                    if (identity != null) {
-                        idName = identity.getName();
-                    } else {
-                        idName = TypeRole.ID;
-                    }
-                    final QueryModel queryModel = QueryModel.from(rootEntity)
-                            .idEq(new QueryParameter(idName));
-                    String[] updateProperties = rootEntity.getPersistentProperties()
-                            .stream().filter(p ->
-                                    !((p instanceof Association) && ((Association) p).isForeignKey()) &&
-                                            p.booleanValue(AutoPopulated.class, "updateable").orElse(true)
-                            )
-                            .map(PersistentProperty::getName)
-                            .toArray(String[]::new);
-                    if (ArrayUtils.isEmpty(updateProperties)) {
-                        return new MethodMatchInfo(
-                                returnType,
-                                null,
-                                getInterceptorElement(matchContext, interceptor),
-                                MethodMatchInfo.OperationType.UPDATE
-                        );
-                    } else {
-                        return new MethodMatchInfo(
-                                returnType,
-                                queryModel,
-                                getInterceptorElement(matchContext, interceptor),
-                                MethodMatchInfo.OperationType.UPDATE,
-                                updateProperties
-                        );
-                    }
-
-                }
+                return buildUpdateMatchInfo(matchContext, returnType, interceptor);
             }
         }
         matchContext.fail("Cannot implement update method for specified arguments and return type");
         return null;
     }
 
+    /**
+     * Builds the match info for an update of the root entity by ID.
+     * @param matchContext The match context
+     * @param returnType The return type
+     * @param interceptor The interceptor
+     * @return The match info
+     */
+    protected @NonNull MethodMatchInfo buildUpdateMatchInfo(
+            @NonNull MethodMatchContext matchContext,
+            @Nullable ClassElement returnType,
+            @NonNull Class<? extends DataInterceptor> interceptor) {
+        if (matchContext.supportsImplicitQueries()) {
+            return new MethodMatchInfo(
+                    returnType,
+                    null, getInterceptorElement(matchContext, interceptor),
+                    MethodMatchInfo.OperationType.UPDATE
+            );
+        } else {
+            final SourcePersistentEntity rootEntity = matchContext.getRootEntity();
+            final String idName;
+            final SourcePersistentProperty identity = rootEntity.getIdentity();
+            if (identity != null) {
+                idName = identity.getName();
+            } else {
+                idName = TypeRole.ID;
+            }
+            final QueryModel queryModel = QueryModel.from(rootEntity)
+                    .idEq(new QueryParameter(idName));
+            String[] updateProperties = rootEntity.getPersistentProperties()
+                    .stream().filter(p ->
+                            !((p instanceof Association) && ((Association) p).isForeignKey()) &&
+                                    p.booleanValue(AutoPopulated.class, "updateable").orElse(true)
+                    )
+                    .map(PersistentProperty::getName)
+                    .toArray(String[]::new);
+            if (ArrayUtils.isEmpty(updateProperties)) {
+                return new MethodMatchInfo(
+                        returnType,
+                        null,
+                        getInterceptorElement(matchContext, interceptor),
+                        MethodMatchInfo.OperationType.UPDATE
+                );
+            } else {
+                return new MethodMatchInfo(
+                        returnType,
+                        queryModel,
+                        getInterceptorElement(matchContext, interceptor),
+                        MethodMatchInfo.OperationType.UPDATE,
+                        updateProperties
+                );
+            }
+
+        }
+    }
+
     /**
      * Is the return type valid for saving an entity.
      * @param matchContext The match context
@@ -138,6 +138,47 @@ class SqlQueryBuilderSpec extends Specification {
         result.parameters.equals('1': 'name', '2': 'age', '3': 'enabled', '4': "publicId")
     }
 
+    void "test encode multi-row insert statement"() {
+        given:
+        PersistentEntity entity = new RuntimePersistentEntity(Person)
+        SqlQueryBuilder encoder = new SqlQueryBuilder(Dialect.MYSQL)
+        def result = encoder.buildInsert(AnnotationMetadata.EMPTY_METADATA, entity)
+
+        expect:
+        encoder.supportsMultiRowInsert()
+        !new SqlQueryBuilder(Dialect.ORACLE).supportsMultiRowInsert()
+        encoder.buildMultiRowInsert(result.query, 1) == result.query
+        encoder.buildMultiRowInsert(result.query, 3) == 'INSERT INTO `person` (`name`,`age`,`enabled`,`public_id`) VALUES (?,?,?,?),(?,?,?,?),(?,?,?,?)'
+    }
+
+    void "test encode keyset query"() {
+        given:
+        PersistentEntity entity = new RuntimePersistentEntity(Person)
+        QueryBuilder encoder = new SqlQueryBuilder(Dialect.H2)
+        Sort sort = Sort.of([Sort.Order.asc("name"), Sort.Order.desc("id")])
+
+        expect:
+        encoder.buildKeysetQuery('SELECT person_.id FROM person person_', false, entity, sort).query ==
+                'SELECT person_.id FROM person person_ WHERE ((person_.name > ?) OR (person_.name = ? AND person_.id < ?))'
+        encoder.buildKeysetQuery('SELECT person_.id FROM person person_ WHERE (person_.age = ? OR person_.age = ?)', true, entity, sort).query ==
+                'SELECT person_.id FROM person person_ WHERE (person_.age = ? OR person_.age = ?) AND ((person_.name > ?) OR (person_.name = ? AND person_.id < ?))'
+    }
+
+    void "test encode keyset query for a query model"() {
+        given:
+        PersistentEntity entity = new RuntimePersistentEntity(Person)
+        SqlQueryBuilder encoder = new SqlQueryBuilder(Dialect.H2)
+        QueryModel q = QueryModel.from(entity)
+        q.eq("name", new QueryParameter("name"))
+        String query = encoder.buildQuery(q).query
+
+        expect:"the predicate is ANDed to the WHERE clause of the query model"
+        encoder.hasWhereClause(AnnotationMetadata.EMPTY_METADATA, q)
+        !encoder.hasWhereClause(AnnotationMetadata.EMPTY_METADATA, QueryModel.from(entity))
+        encoder.buildKeysetQuery(query, true, entity, Sort.of([Sort.Order.asc("name")])).query ==
+                query + ' AND ((person_.name > ?))'
+    }
+
     void "test encode insert statement for embedded"() {
         given:
         PersistentEntity entity = new RuntimePersistentEntity(Restaurant)
@@ -28,6 +28,7 @@ import io.micronaut.data.intercept.ExistsByInterceptor
 
 import io.micronaut.data.intercept.FindAllInterceptor
 import io.micronaut.data.intercept.SaveAllInterceptor
+import io.micronaut.data.intercept.UpdateAllEntitiesInterceptor
 import io.micronaut.data.intercept.annotation.DataMethod
 import io.micronaut.data.model.PersistentEntity
 import io.micronaut.data.model.entities.Person
@@ -105,6 +106,15 @@ interface MyInterface extends CrudRepository<Person, Long> {
         saveAll.synthesize(DataMethod).rootEntity() == Person
         saveAll.synthesize(DataMethod).interceptor() == SaveAllInterceptor
 
+        when:"the update all method is retrieved"
+        def updateAll = beanDefinition.getRequiredMethod("updateAll", Iterable.class)
+
+        then:"the update all method was correctly compiled"
+        updateAll
+        updateAll.getArguments()[0].getFirstTypeVariable().get().type == Person
+        updateAll.synthesize(DataMethod).rootEntity() == Person
+        updateAll.synthesize(DataMethod).interceptor() == UpdateAllEntitiesInterceptor
+
         when:"the exists by id method is retrieved"
         def existsMethod = beanDefinition.getRequiredMethod("existsById", Long)
 
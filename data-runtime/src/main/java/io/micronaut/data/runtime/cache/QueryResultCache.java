@@ -0,0 +1,283 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.cache;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.data.annotation.CacheableQuery;
+import io.micronaut.data.model.runtime.PreparedQuery;
+import io.micronaut.transaction.support.TransactionSynchronizationAdapter;
+import io.micronaut.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Caches the results of query methods annotated with {@link CacheableQuery}. Each method has its own region holding
+ * the results by argument values, which is invalidated whenever one of the entities the query reads from is written.
+ *
+ * <p>Within a transaction results are only cached once the transaction commits. Once an entity is written within a
+ * transaction the queries reading from it bypass the cache until the transaction completes, at which point their
+ * regions are invalidated again. Results read concurrently with an invalidation are not cached.</p>
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+public final class QueryResultCache {
+
+    private static final Object NULL = new Object();
+
+    private final Map<Object, Region> regions = new ConcurrentHashMap<>(20);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @return The number of times a cached result was returned.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of times a query was executed because no result was cached.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The ratio of hits to all lookups, or 0 if there were no lookups
+     */
+    public double getHitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    /**
+     * Returns the cached result of a query, executing the query if no result is cached.
+     *
+     * @param methodKey The key identifying the query method
+     * @param preparedQuery The prepared query
+     * @param query Executes the query
+     * @param <V> The result type
+     * @return The result
+     */
+    @Nullable
+    public <V> V get(@NonNull Object methodKey, @NonNull PreparedQuery<?, ?> preparedQuery, @NonNull Supplier<V> query) {
+        Region region = regions.computeIfAbsent(methodKey, k -> newRegion(preparedQuery));
+        if (isModifiedInTransaction(region)) {
+            return query.get();
+        }
+        ArgumentsKey key = new ArgumentsKey(preparedQuery.getParameterArray());
+        Object cached = region.get(key);
+        if (cached != null) {
+            hits.increment();
+            //noinspection unchecked
+            return cached == NULL ? null : (V) cached;
+        }
+        misses.increment();
+        long generation = region.generation;
+        V result = query.get();
+        if (result instanceof Iterable && !(result instanceof Collection)) {
+            // a lazy result can only be read once
+            return result;
+        }
+        Object value = result == null ? NULL : result instanceof List ? Collections.unmodifiableList((List<?>) result) : result;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    region.put(key, value, generation);
+                }
+            });
+        } else {
+            region.put(key, value, generation);
+        }
+        //noinspection unchecked
+        return value == NULL ? null : (V) value;
+    }
+
+    /**
+     * Invalidates the results of all queries reading from the given entity.
+     *
+     * @param entityType The entity type
+     */
+    @SuppressWarnings("unchecked")
+    public void invalidate(@NonNull Class<?> entityType) {
+        boolean invalidated = invalidateRegions(entityType);
+        if (invalidated && TransactionSynchronizationManager.isSynchronizationActive()) {
+            Set<Class<?>> modified = (Set<Class<?>>) TransactionSynchronizationManager.getResource(this);
+            if (modified == null) {
+                Set<Class<?>> newModified = new HashSet<>(4);
+                TransactionSynchronizationManager.bindResource(this, newModified);
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                    @Override
+                    public void afterCompletion(@NonNull Status status) {
+                        TransactionSynchronizationManager.unbindResourceIfPossible(QueryResultCache.this);
+                        for (Class<?> type : newModified) {
+                            invalidateRegions(type);
+                        }
+                    }
+                });
+                modified = newModified;
+            }
+            modified.add(entityType);
+        }
+    }
+
+    /**
+     * Invalidates all cached results.
+     */
+    public void invalidateAll() {
+        for (Region region : regions.values()) {
+            region.invalidate();
+        }
+    }
+
+    private boolean invalidateRegions(Class<?> entityType) {
+        boolean invalidated = false;
+        for (Region region : regions.values()) {
+            if (region.readsFrom(entityType)) {
+                region.invalidate();
+                invalidated = true;
+            }
+        }
+        return invalidated;
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean isModifiedInTransaction(Region region) {
+        Set<Class<?>> modified = (Set<Class<?>>) TransactionSynchronizationManager.getResource(this);
+        if (modified != null) {
+            for (Class<?> type : modified) {
+                if (region.readsFrom(type)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static Region newRegion(PreparedQuery<?, ?> preparedQuery) {
+        AnnotationMetadata annotationMetadata = preparedQuery.getAnnotationMetadata();
+        int maxSize = annotationMetadata.intValue(CacheableQuery.class, "maxSize").orElse(100);
+        Duration expireAfterWrite = annotationMetadata.stringValue(CacheableQuery.class, "expireAfterWrite")
+                .flatMap(v -> ConversionService.SHARED.convert(v, Duration.class))
+                .orElse(null);
+        List<Class<?>> entityTypes = new ArrayList<>(2);
+        entityTypes.add(preparedQuery.getRootEntity());
+        Collections.addAll(entityTypes, annotationMetadata.classValues(CacheableQuery.class, "dependsOn"));
+        return new Region(entityTypes.toArray(new Class<?>[0]), Math.max(1, maxSize), expireAfterWrite);
+    }
+
+    /**
+     * The cached results of a single query method.
+     */
+    private static final class Region {
+        final Class<?>[] entityTypes;
+        final long expireAfterWriteNanos;
+        final LinkedHashMap<ArgumentsKey, Entry> entries;
+        volatile long generation;
+
+        Region(Class<?>[] entityTypes, int maxSize, @Nullable Duration expireAfterWrite) {
+            this.entityTypes = entityTypes;
+            this.expireAfterWriteNanos = expireAfterWrite != null && !expireAfterWrite.isNegative() && !expireAfterWrite.isZero() ?
+                    expireAfterWrite.toNanos() : -1;
+            this.entries = new LinkedHashMap<ArgumentsKey, Entry>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ArgumentsKey, Entry> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+
+        boolean readsFrom(Class<?> entityType) {
+            for (Class<?> type : entityTypes) {
+                if (type.isAssignableFrom(entityType)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        synchronized Object get(ArgumentsKey key) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt != 0 && System.nanoTime() - entry.expiresAt >= 0) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.value;
+        }
+
+        synchronized void put(ArgumentsKey key, Object value, long expectedGeneration) {
+            // results read while the region was invalidated may already be stale
+            if (generation == expectedGeneration) {
+                long expiresAt = expireAfterWriteNanos > 0 ? System.nanoTime() + expireAfterWriteNanos : 0;
+                entries.put(key, new Entry(value, expiresAt));
+            }
+        }
+
+        synchronized void invalidate() {
+            generation++;
+            entries.clear();
+        }
+    }
+
+    /**
+     * A cached result.
+     */
+    private static final class Entry {
+        final Object value;
+        final long expiresAt;
+
+        Entry(Object value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * The argument values of a query method invocation.
+     */
+    private static final class ArgumentsKey {
+        final Object[] arguments;
+        final int hashCode;
+
+        ArgumentsKey(Object[] arguments) {
+            this.arguments = arguments.clone();
+            this.hashCode = Arrays.deepHashCode(this.arguments);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ArgumentsKey && Arrays.deepEquals(arguments, ((ArgumentsKey) o).arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.cache;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Interface for repository operations that support caching the results of methods annotated with
+ * {@link io.micronaut.data.annotation.CacheableQuery}.
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+public interface QueryResultCacheCapable {
+
+    /**
+     * @return The query result cache, or {@code null} if query results cannot be cached
+     */
+    @Nullable
+    QueryResultCache getQueryResultCache();
+}
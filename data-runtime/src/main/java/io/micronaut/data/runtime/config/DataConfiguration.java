@@ -39,6 +39,7 @@ public class DataConfiguration implements DataSettings {
         public static final String DEFAULT_SORT_PARAMETER = "sort";
         public static final String DEFAULT_SIZE_PARAMETER = "size";
         public static final String DEFAULT_PAGE_PARAMETER = "page";
+        public static final String DEFAULT_CURSOR_PARAMETER = "cursor";
         public static final String PREFIX = "pageable";
         private int maxPageSize = DEFAULT_MAX_PAGE_SIZE;
         private Integer defaultPageSize = null; // When is not specified the maxPageSize should be used
@@ -46,7 +47,27 @@ public class DataConfiguration implements DataSettings {
         private String sortParameterName = DEFAULT_SORT_PARAMETER;
         private String sizeParameterName = DEFAULT_SIZE_PARAMETER;
         private String pageParameterName = DEFAULT_PAGE_PARAMETER;
+        private String cursorParameterName = DEFAULT_CURSOR_PARAMETER;
         private Pattern sortDelimiter = Pattern.compile(",");
+        private boolean parallelCount = false;
+
+        /**
+         * @return Whether the count query of a page is executed concurrently with the query for its content.
+         * @since 1.0.1
+         */
+        public boolean isParallelCount() {
+            return parallelCount;
+        }
+
+        /**
+         * Sets whether the count query of a page is executed concurrently with the query for its content, on a
+         * separate connection. Only applies when no transaction is active. Defaults to {@code false}.
+         *
+         * @param parallelCount Whether to count in parallel
+         */
+        public void setParallelCount(boolean parallelCount) {
+            this.parallelCount = parallelCount;
+        }
 
         /**
          * @return Whether sort ignores case.
@@ -158,5 +179,24 @@ public class DataConfiguration implements DataSettings {
                 this.pageParameterName = pageParameterName;
             }
         }
+
+        /**
+         * @return The default cursor parameter name
+         * @since 1.0.1
+         */
+        public String getCursorParameterName() {
+            return cursorParameterName;
+        }
+
+        /**
+         * Sets the name of the parameter holding the cursor values of a {@link io.micronaut.data.model.CursoredPageable}.
+         * One value is expected for each sort property.
+         * @param cursorParameterName The cursor parameter name
+         */
+        public void setCursorParameterName(String cursorParameterName) {
+            if (StringUtils.isNotEmpty(cursorParameterName)) {
+                this.cursorParameterName = cursorParameterName;
+            }
+        }
     }
 }
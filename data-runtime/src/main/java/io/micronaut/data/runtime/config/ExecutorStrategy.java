@@ -0,0 +1,37 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.config;
+
+/**
+ * Enum describing which threads execute the blocking operations of asynchronous and reactive repositories.
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+public enum ExecutorStrategy {
+    /**
+     * Use the shared I/O executor.
+     */
+    IO,
+    /**
+     * Use a dedicated pool with a fixed number of threads.
+     */
+    BOUNDED,
+    /**
+     * Start a new virtual thread for each operation. Falls back to {@link #IO} if the JVM does not support virtual threads.
+     */
+    VIRTUAL
+}
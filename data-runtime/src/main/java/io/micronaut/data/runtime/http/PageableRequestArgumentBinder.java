@@ -18,15 +18,19 @@ package io.micronaut.data.runtime.http;
 import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.convert.ArgumentConversionContext;
 import io.micronaut.core.type.Argument;
+import io.micronaut.data.model.CursoredPageable;
 import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.Sort;
 import io.micronaut.data.runtime.config.DataConfiguration;
 import io.micronaut.http.HttpParameters;
 import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpStatus;
 import io.micronaut.http.bind.binders.RequestArgumentBinder;
 import io.micronaut.http.bind.binders.TypedRequestArgumentBinder;
+import io.micronaut.http.exceptions.HttpStatusException;
 
 import javax.inject.Singleton;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
@@ -96,6 +100,18 @@ public class PageableRequestArgumentBinder implements TypedRequestArgumentBinder
             sort = Sort.of(orders);
         }
 
+        String cursorParameterName = configuration.getCursorParameterName();
+        if (parameters.contains(cursorParameterName)) {
+            List<Object> cursor = new ArrayList<>(parameters.getAll(cursorParameterName));
+            int orders = sort != null ? sort.getOrderBy().size() : 0;
+            if (cursor.size() != orders) {
+                throw new HttpStatusException(HttpStatus.BAD_REQUEST,
+                        "The cursor must have a value for each of the " + orders + " sort properties, but has " + cursor.size());
+            }
+            CursoredPageable cursoredPageable = CursoredPageable.from(size < 1 ? defaultSize : size, cursor, sort);
+            return () -> Optional.of(cursoredPageable);
+        }
+
         if (size < 1) {
             if (page == 0 && configuredMaxSize < 1 && sort == null) {
                 pageable = Pageable.UNPAGED;
@@ -44,6 +44,8 @@ import io.micronaut.data.model.query.JoinPath;
 import io.micronaut.data.model.query.builder.sql.SqlQueryBuilder;
 import io.micronaut.data.model.runtime.*;
 import io.micronaut.data.operations.RepositoryOperations;
+import io.micronaut.data.runtime.cache.QueryResultCache;
+import io.micronaut.data.runtime.cache.QueryResultCacheCapable;
 import io.micronaut.inject.ExecutableMethod;
 
 import javax.annotation.Nonnull;
@@ -52,6 +54,7 @@ import java.time.OffsetDateTime;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.stream.Collectors;
 
@@ -69,6 +72,7 @@ public abstract class AbstractQueryInterceptor<T, R> implements DataInterceptor<
     private static final String PREDATOR_ANN_NAME = DataMethod.class.getName();
     private static final int[] EMPTY_INT_ARRAY = new int[0];
     protected final RepositoryOperations operations;
+    private final @Nullable QueryResultCache queryResultCache;
     private final ConcurrentMap<Class, Class> lastUpdatedTypes = new ConcurrentHashMap<>(10);
     private final ConcurrentMap<RepositoryMethodKey, StoredQuery> findQueries = new ConcurrentHashMap<>(50);
     private final ConcurrentMap<RepositoryMethodKey, StoredQuery> countQueries = new ConcurrentHashMap<>(50);
@@ -80,6 +84,29 @@ public abstract class AbstractQueryInterceptor<T, R> implements DataInterceptor<
     protected AbstractQueryInterceptor(@NonNull RepositoryOperations operations) {
         ArgumentUtils.requireNonNull("operations", operations);
         this.operations = operations;
+        this.queryResultCache = operations instanceof QueryResultCacheCapable ?
+                ((QueryResultCacheCapable) operations).getQueryResultCache() : null;
+    }
+
+    /**
+     * Executes a query, returning the cached result instead if the method is annotated with {@link CacheableQuery}
+     * and the operations support caching query results.
+     *
+     * @param methodKey The method key
+     * @param preparedQuery The prepared query
+     * @param query Executes the query
+     * @param <V> The result type
+     * @return The result
+     * @since 1.0.1
+     */
+    protected final <V> V executeCacheable(
+            @NonNull RepositoryMethodKey methodKey,
+            @NonNull PreparedQuery<?, ?> preparedQuery,
+            @NonNull Supplier<V> query) {
+        if (queryResultCache != null && preparedQuery.hasAnnotation(CacheableQuery.class)) {
+            return queryResultCache.get(methodKey, preparedQuery, query);
+        }
+        return query.get();
     }
 
     /**
@@ -48,7 +48,7 @@ public class DefaultCountInterceptor<T> extends AbstractQueryInterceptor<T, Numb
         long result;
         if (context.hasAnnotation(Query.class)) {
             PreparedQuery<?, Long> preparedQuery = prepareQuery(methodKey, context, Long.class);
-            Iterable<Long> iterable = operations.findAll(preparedQuery);
+            Iterable<Long> iterable = executeCacheable(methodKey, preparedQuery, () -> operations.findAll(preparedQuery));
             Iterator<Long> i = iterable.iterator();
             result = i.hasNext() ? i.next() : 0;
         } else {
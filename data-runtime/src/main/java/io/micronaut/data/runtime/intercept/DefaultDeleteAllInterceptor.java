@@ -22,6 +22,7 @@ import io.micronaut.core.type.Argument;
 import io.micronaut.data.annotation.Query;
 import io.micronaut.data.intercept.DeleteAllInterceptor;
 import io.micronaut.data.intercept.RepositoryMethodKey;
+import io.micronaut.data.intercept.annotation.DataMethod;
 import io.micronaut.data.model.Embedded;
 import io.micronaut.data.model.runtime.BatchOperation;
 import io.micronaut.data.model.runtime.RuntimePersistentProperty;
@@ -56,19 +57,27 @@ public class DefaultDeleteAllInterceptor<T> extends AbstractQueryInterceptor<T,
             if (isBatch) {
                 final RuntimePersistentProperty<?> identity = operations.getEntity(preparedQuery.getRootEntity()).getIdentity();
                 if (identity instanceof Embedded) {
+                    // composite identifiers cannot be expanded into a single IN expression
                     Iterable iterable = (Iterable) parameterValues[0];
-                    int deleteCount = 0;
-                    final BeanProperty idProp = identity.getProperty();
-                    for (Object o : iterable) {
-                        final Object idValue = idProp.get(o);
-                        if (idValue == null) {
-                            throw new IllegalStateException("Cannot delete an entity with null ID: " + o);
+                    if (context.isTrue(Query.class, DataMethod.META_MEMBER_RAW_QUERY)) {
+                        // an explicit query is executed as written for each ID
+                        int deleteCount = 0;
+                        final BeanProperty idProp = identity.getProperty();
+                        for (Object o : iterable) {
+                            final Object idValue = idProp.get(o);
+                            if (idValue == null) {
+                                throw new IllegalStateException("Cannot delete an entity with null ID: " + o);
+                            }
+                            preparedQuery.getParameterArray()[0] = idValue;
+                            operations.executeDelete(preparedQuery);
+                            deleteCount++;
                         }
-                        preparedQuery.getParameterArray()[0] = idValue;
-                        operations.executeDelete(preparedQuery);
-                        deleteCount++;
+                        return convertIfNecessary(resultType, deleteCount);
                     }
-                    return convertIfNecessary(resultType, deleteCount);
+                    // the generated query deletes by ID, which the operations can execute as a batch
+                    BatchOperation<?> batchOperation = getBatchOperation(context, preparedQuery.getRootEntity(), iterable);
+                    Number deleted = operations.deleteAll(batchOperation).orElse(0);
+                    return convertIfNecessary(resultType, deleted);
                 } else {
                     Number result = operations.executeDelete(preparedQuery).orElse(0);
                     return convertIfNecessary(resultType, result);
@@ -45,6 +45,6 @@ public class DefaultExistsByInterceptor<T> extends AbstractQueryInterceptor<T, B
         Class idType = context.classValue(DataMethod.class, DataMethod.META_MEMBER_ID_TYPE)
                 .orElseGet(() -> getRequiredRootEntity(context));
         PreparedQuery<?, ?> preparedQuery = prepareQuery(methodKey, context, idType);
-        return operations.exists(preparedQuery);
+        return executeCacheable(methodKey, preparedQuery, () -> operations.exists(preparedQuery));
     }
 }
@@ -49,7 +49,7 @@ public class DefaultFindAllInterceptor<T, R> extends AbstractQueryInterceptor<T,
         Class<Iterable<R>> rt = context.getReturnType().getType();
         if (context.hasAnnotation(Query.class)) {
             PreparedQuery<?, ?> preparedQuery = prepareQuery(methodKey, context);
-            Iterable<?> iterable = operations.findAll(preparedQuery);
+            Iterable<?> iterable = executeCacheable(methodKey, preparedQuery, () -> operations.findAll(preparedQuery));
             if (rt.isInstance(iterable)) {
                 return (Iterable<R>) iterable;
             } else {
@@ -44,7 +44,7 @@ public class DefaultFindOneInterceptor<T> extends AbstractQueryInterceptor<T, Ob
     @Override
     public Object intercept(RepositoryMethodKey methodKey, MethodInvocationContext<T, Object> context) {
         PreparedQuery<?, ?> preparedQuery = prepareQuery(methodKey, context, null);
-        Object result = operations.findOne(preparedQuery);
+        Object result = executeCacheable(methodKey, preparedQuery, () -> operations.findOne(preparedQuery));
 
         if (result != null) {
             ReturnType<Object> returnType = context.getReturnType();
@@ -44,7 +44,7 @@ public class DefaultFindOptionalInterceptor<T> extends AbstractQueryInterceptor<
     @Override
     public Optional<Object> intercept(RepositoryMethodKey methodKey, MethodInvocationContext<T, Optional<Object>> context) {
         PreparedQuery<?, ?> preparedQuery = prepareQuery(methodKey, context);
-        Object result = operations.findOne(preparedQuery);
+        Object result = executeCacheable(methodKey, preparedQuery, () -> operations.findOne(preparedQuery));
         return Optional.ofNullable(result);
     }
 }
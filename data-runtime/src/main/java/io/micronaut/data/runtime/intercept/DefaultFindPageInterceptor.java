@@ -18,7 +18,6 @@ package io.micronaut.data.runtime.intercept;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import io.micronaut.aop.MethodInvocationContext;
 import io.micronaut.core.convert.ConversionService;
-import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.data.annotation.Query;
 import io.micronaut.data.intercept.FindPageInterceptor;
 import io.micronaut.data.intercept.RepositoryMethodKey;
@@ -26,8 +25,6 @@ import io.micronaut.data.model.Page;
 import io.micronaut.data.operations.RepositoryOperations;
 import io.micronaut.data.model.runtime.PreparedQuery;
 
-import java.util.List;
-
 /**
  * Default implementation of {@link FindPageInterceptor}.
  *
@@ -50,14 +47,10 @@ public class DefaultFindPageInterceptor<T, R> extends AbstractQueryInterceptor<T
     public R intercept(RepositoryMethodKey methodKey, MethodInvocationContext<T, R> context) {
         Class<R> returnType = context.getReturnType().getType();
         if (context.hasAnnotation(Query.class)) {
-            PreparedQuery<?, ?> preparedQuery = prepareQuery(methodKey, context);
+            PreparedQuery<?, Object> preparedQuery = (PreparedQuery<?, Object>) prepareQuery(methodKey, context);
             PreparedQuery<?, Number> countQuery = prepareCountQuery(methodKey, context);
 
-            Iterable<?> iterable = operations.findAll(preparedQuery);
-            List<R> resultList = (List<R>) CollectionUtils.iterableToList(iterable);
-            Number n = operations.findOne(countQuery);
-            Long result = n != null ? n.longValue() : 0;
-            Page<R> page = Page.of(resultList, getPageable(context), result);
+            Page<Object> page = operations.findPage(preparedQuery, countQuery, getPageable(context));
             if (returnType.isInstance(page)) {
                 return (R) page;
             } else {
@@ -18,6 +18,7 @@ package io.micronaut.data.runtime.mapper;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import io.micronaut.core.convert.exceptions.ConversionErrorException;
+import io.micronaut.core.reflect.exception.InstantiationException;
 import io.micronaut.core.util.ArgumentUtils;
 import io.micronaut.data.exceptions.DataAccessException;
 import io.micronaut.data.model.DataType;
@@ -28,6 +29,7 @@ import io.micronaut.data.model.runtime.RuntimePersistentProperty;
 /**
  * A {@link BeanIntrospectionMapper} that reads the result using the specified
  * {@link PersistentEntity} and {@link ResultReader} and using the {@link #map(Object, Class)} allows mapping a result to a introspected Data Transfer Object (DTO).
+ * If a {@link ResultMaterializer} is present for the DTO type it is used instead of the introspection.
  *
  * @param <T> The entity type
  * @param <S> The source type.
@@ -52,6 +54,16 @@ public class DTOMapper<T, S, R> implements BeanIntrospectionMapper<S, R> {
         this.resultReader = resultReader;
     }
 
+    @NonNull
+    @Override
+    public R map(@NonNull S object, @NonNull Class<R> type) throws InstantiationException {
+        ResultMaterializer<R> materializer = ResultMaterializers.find(type);
+        if (materializer != null) {
+            return materializer.materialize(object, resultReader);
+        }
+        return BeanIntrospectionMapper.super.map(object, type);
+    }
+
     @Nullable
     @Override
     public Object read(@NonNull S object, @NonNull String name) throws ConversionErrorException {
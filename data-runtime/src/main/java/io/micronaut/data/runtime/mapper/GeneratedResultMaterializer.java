@@ -0,0 +1,309 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.mapper;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.data.exceptions.DataAccessException;
+import io.micronaut.data.model.DataType;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Super class of the {@link ResultMaterializer} implementations generated at compilation time. Materializers are only
+ * generated for entities without associations, embedded properties and JSON properties. The generated code invokes
+ * the constructor and setters of the entity and reads every column by its index, which is resolved once per result
+ * with {@link #resolveIndexes(Object, IndexedResultReader)}. Columns whose data type matches the type of the property
+ * are read with the typed read methods of {@link ResultReader}, other columns with
+ * {@link #read(Object, ResultReader, int, DataType, Class)}, which converts the values the same way as the
+ * introspection based mapping.
+ *
+ * @param <T> The entity type
+ * @author agent
+ * @since 1.0.1
+ */
+@Internal
+public abstract class GeneratedResultMaterializer<T> implements ResultMaterializer<T> {
+
+    private final Class<T> type;
+    private final String[] columns;
+    private final int[] positions;
+
+    /**
+     * Default constructor.
+     *
+     * @param type The entity type
+     * @param columns The names of the columns read, in the order of their indexes
+     */
+    protected GeneratedResultMaterializer(@NonNull Class<T> type, @NonNull String... columns) {
+        this.type = type;
+        this.columns = columns;
+        this.positions = new int[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            positions[i] = i + 1;
+        }
+    }
+
+    @NonNull
+    @Override
+    public final Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Resolves the indexes of the columns read by this materializer within the given result.
+     *
+     * @param resultSet The result set
+     * @param resultReader The result reader
+     * @param <RS> The result set type
+     * @return The column indexes to pass to {@link #materialize(Object, ResultReader, int[])}
+     * @throws DataAccessException If the result lacks a column
+     */
+    @NonNull
+    public final <RS> int[] resolveIndexes(@NonNull RS resultSet, @NonNull IndexedResultReader<RS> resultReader) {
+        int[] indexes = new int[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            indexes[i] = resultReader.indexOf(resultSet, columns[i]);
+        }
+        return indexes;
+    }
+
+    @Nullable
+    @Override
+    public final <RS> T materialize(@NonNull RS resultSet, @NonNull ResultReader<RS, String> resultReader) {
+        if (resultReader instanceof IndexedResultReader) {
+            IndexedResultReader<RS> indexedReader = (IndexedResultReader<RS>) resultReader;
+            return materialize(resultSet, indexedReader.getIndexedReader(), resolveIndexes(resultSet, indexedReader));
+        }
+        return materialize(resultSet, new ColumnNameReader<>(resultReader, columns), positions);
+    }
+
+    /**
+     * Materialize an instance from the current row, reading the columns by index.
+     *
+     * @param resultSet The result set, positioned at the row to read
+     * @param resultReader The result reader
+     * @param indexes The column indexes resolved with {@link #resolveIndexes(Object, IndexedResultReader)}
+     * @param <RS> The result set type
+     * @return The instance or {@code null} if the row has no identifier
+     * @throws DataAccessException If the row cannot be read
+     */
+    @Nullable
+    public abstract <RS> T materialize(@NonNull RS resultSet, @NonNull ResultReader<RS, Integer> resultReader, @NonNull int[] indexes);
+
+    /**
+     * Reads a column and converts the value to the type of the property.
+     *
+     * @param resultSet The result set
+     * @param resultReader The result reader
+     * @param index The column index
+     * @param dataType The data type of the column
+     * @param propertyType The property type, boxed if primitive
+     * @param <RS> The result set type
+     * @return The value, can be null
+     */
+    protected final @Nullable <RS> Object read(
+            @NonNull RS resultSet,
+            @NonNull ResultReader<RS, Integer> resultReader,
+            int index,
+            @NonNull DataType dataType,
+            @NonNull Class<?> propertyType) {
+        Object value = resultReader.readDynamic(resultSet, index, dataType);
+        if (value == null || propertyType.isInstance(value)) {
+            return value;
+        }
+        return resultReader.convertRequired(value, propertyType);
+    }
+
+    /**
+     * Reads a column for a constructor argument that cannot be null.
+     *
+     * @param resultSet The result set
+     * @param resultReader The result reader
+     * @param index The column index
+     * @param dataType The data type of the column
+     * @param propertyType The property type, boxed if primitive
+     * @param property The property name
+     * @param <RS> The result set type
+     * @return The value
+     * @throws DataAccessException If the value is null
+     */
+    protected final @NonNull <RS> Object readRequired(
+            @NonNull RS resultSet,
+            @NonNull ResultReader<RS, Integer> resultReader,
+            int index,
+            @NonNull DataType dataType,
+            @NonNull Class<?> propertyType,
+            @NonNull String property) {
+        return requireValue(read(resultSet, resultReader, index, dataType, propertyType), property);
+    }
+
+    /**
+     * Checks a value read for a constructor argument that cannot be null.
+     *
+     * @param value The value
+     * @param property The property name
+     * @return The value
+     * @throws DataAccessException If the value is null
+     */
+    protected final @NonNull Object requireValue(@Nullable Object value, @NonNull String property) {
+        if (value == null) {
+            throw new DataAccessException("Null value read for non-null constructor argument [" + property + "] of type: " + type.getName());
+        }
+        return value;
+    }
+
+    /**
+     * Reads the columns by name for result readers that cannot resolve column indexes, where the index of a column
+     * is its position within the columns of the materializer.
+     *
+     * @param <RS> The result set type
+     */
+    private static final class ColumnNameReader<RS> implements ResultReader<RS, Integer> {
+        private final ResultReader<RS, String> resultReader;
+        private final String[] columns;
+
+        ColumnNameReader(ResultReader<RS, String> resultReader, String[] columns) {
+            this.resultReader = resultReader;
+            this.columns = columns;
+        }
+
+        @Override
+        public <V> V convertRequired(Object value, Class<V> type) {
+            return resultReader.convertRequired(value, type);
+        }
+
+        @Nullable
+        @Override
+        public <V> V getRequiredValue(RS resultSet, Integer index, Class<V> type) throws DataAccessException {
+            return resultReader.getRequiredValue(resultSet, columns[index - 1], type);
+        }
+
+        @Override
+        public boolean next(RS resultSet) {
+            return resultReader.next(resultSet);
+        }
+
+        @Nullable
+        @Override
+        public Object readDynamic(@NonNull RS resultSet, @NonNull Integer index, @NonNull DataType dataType) {
+            return resultReader.readDynamic(resultSet, columns[index - 1], dataType);
+        }
+
+        @Override
+        public long readLong(RS resultSet, Integer index) {
+            return resultReader.readLong(resultSet, columns[index - 1]);
+        }
+
+        @Override
+        public char readChar(RS resultSet, Integer index) {
+            return resultReader.readChar(resultSet, columns[index - 1]);
+        }
+
+        @Override
+        public Date readDate(RS resultSet, Integer index) {
+            return resultReader.readDate(resultSet, columns[index - 1]);
+        }
+
+        @Override
+        public Date readTimestamp(RS resultSet, Integer index) {
+            return resultReader.readTimestamp(resultSet, columns[index - 1]);
+        }
+
+        @Nullable
+        @Override
+        public String readString(RS resultSet, Integer index) {
+            return resultReader.readString(resultSet, columns[index - 1]);
+        }
+
+        @Override
+        public int readInt(RS resultSet, Integer index) {
+            return resultReader.readInt(resultSet, columns[index - 1]);
+        }
+
+        @Override
+        public boolean readBoolean(RS resultSet, Integer index) {
+            return resultReader.readBoolean(resultSet, columns[index - 1]);
+        }
+
+        @Override
+        public float readFloat(RS resultSet, Integer index) {
+            return resultReader.readFloat(resultSet, columns[index - 1]);
+        }
+
+        @Override
+        public byte readByte(RS resultSet, Integer index) {
+            return resultReader.readByte(resultSet, columns[index - 1]);
+        }
+
+        @Override
+        public short readShort(RS resultSet, Integer index) {
+            return resultReader.readShort(resultSet, columns[index - 1]);
+        }
+
+        @Override
+        public double readDouble(RS resultSet, Integer index) {
+            return resultReader.readDouble(resultSet, columns[index - 1]);
+        }
+
+        @Override
+        public BigDecimal readBigDecimal(RS resultSet, Integer index) {
+            return resultReader.readBigDecimal(resultSet, columns[index - 1]);
+        }
+
+        @Override
+        public byte[] readBytes(RS resultSet, Integer index) {
+            return resultReader.readBytes(resultSet, columns[index - 1]);
+        }
+
+        @Nullable
+        @Override
+        public LocalDate readLocalDate(RS resultSet, Integer index) {
+            return resultReader.readLocalDate(resultSet, columns[index - 1]);
+        }
+
+        @Nullable
+        @Override
+        public LocalDateTime readLocalDateTime(RS resultSet, Integer index) {
+            return resultReader.readLocalDateTime(resultSet, columns[index - 1]);
+        }
+
+        @Nullable
+        @Override
+        public Instant readInstant(RS resultSet, Integer index) {
+            return resultReader.readInstant(resultSet, columns[index - 1]);
+        }
+
+        @Nullable
+        @Override
+        public OffsetDateTime readOffsetDateTime(RS resultSet, Integer index) {
+            return resultReader.readOffsetDateTime(resultSet, columns[index - 1]);
+        }
+
+        @Nullable
+        @Override
+        public UUID readUUID(RS resultSet, Integer index) {
+            return resultReader.readUUID(resultSet, columns[index - 1]);
+        }
+    }
+}
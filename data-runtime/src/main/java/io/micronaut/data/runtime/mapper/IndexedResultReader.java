@@ -0,0 +1,45 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.mapper;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.micronaut.data.exceptions.DataAccessException;
+
+/**
+ * A {@link ResultReader} that reads columns by name but can also resolve the index of a column. Mappers that read many
+ * rows can resolve each column once per result and read the values through {@link #getIndexedReader()} thereafter.
+ *
+ * @param <RS> The result set type
+ * @author agent
+ * @since 1.0.1
+ */
+public interface IndexedResultReader<RS> extends ResultReader<RS, String> {
+
+    /**
+     * Resolves the index of the column with the given name.
+     *
+     * @param resultSet The result set
+     * @param name The column name
+     * @return The index of the column, which is always greater than zero
+     * @throws DataAccessException if the result has no such column
+     */
+    int indexOf(@NonNull RS resultSet, @NonNull String name) throws DataAccessException;
+
+    /**
+     * @return The reader that reads the values of a column by the index returned from {@link #indexOf(Object, String)}
+     */
+    @NonNull ResultReader<RS, Integer> getIndexedReader();
+}
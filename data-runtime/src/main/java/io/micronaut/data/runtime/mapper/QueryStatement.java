@@ -22,7 +22,12 @@ import io.micronaut.data.exceptions.DataAccessException;
 import io.micronaut.data.model.DataType;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.Date;
+import java.util.UUID;
 
 /**
  * An abstract interface over prepared statements.
@@ -179,6 +184,26 @@ public interface QueryStatement<PS, IDX> {
                         throw new DataAccessException("Cannot set null value");
                     }
                 }
+            case LOCAL_DATE:
+                LocalDate localDate = TemporalValues.toLocalDate(value);
+                return setLocalDate(statement, index, localDate != null ? localDate : convertRequired(value, LocalDate.class));
+            case LOCAL_DATE_TIME:
+                LocalDateTime localDateTime = TemporalValues.toLocalDateTime(value);
+                return setLocalDateTime(statement, index, localDateTime != null ? localDateTime : convertRequired(value, LocalDateTime.class));
+            case INSTANT:
+                Instant instant = TemporalValues.toInstant(value);
+                return setInstant(statement, index, instant != null ? instant : convertRequired(value, Instant.class));
+            case OFFSET_DATE_TIME:
+                OffsetDateTime offsetDateTime = TemporalValues.toOffsetDateTime(value);
+                return setOffsetDateTime(statement, index, offsetDateTime != null ? offsetDateTime : convertRequired(value, OffsetDateTime.class));
+            case UUID:
+                if (value instanceof UUID) {
+                    return setUUID(statement, index, (UUID) value);
+                } else if (value instanceof CharSequence) {
+                    return setUUID(statement, index, UUID.fromString(value.toString()));
+                } else {
+                    return setUUID(statement, index, convertRequired(value, UUID.class));
+                }
             case OBJECT:
             default:
                 return setValue(statement, index, value);
@@ -362,4 +387,69 @@ public interface QueryStatement<PS, IDX> {
     QueryStatement<PS, IDX> setBytes(PS statement, IDX name, byte[] bytes) {
         return setValue(statement, name, bytes);
     }
+
+    /**
+     * Write a {@link LocalDate} value for the given name.
+     * @param statement The statement
+     * @param name The name (such as the column name)
+     * @param date The date
+     * @return This writer
+     * @since 1.0.1
+     */
+    default @NonNull
+    QueryStatement<PS, IDX> setLocalDate(PS statement, IDX name, @Nullable LocalDate date) {
+        return setValue(statement, name, date);
+    }
+
+    /**
+     * Write a {@link LocalDateTime} value for the given name.
+     * @param statement The statement
+     * @param name The name (such as the column name)
+     * @param dateTime The date time
+     * @return This writer
+     * @since 1.0.1
+     */
+    default @NonNull
+    QueryStatement<PS, IDX> setLocalDateTime(PS statement, IDX name, @Nullable LocalDateTime dateTime) {
+        return setValue(statement, name, dateTime);
+    }
+
+    /**
+     * Write an {@link Instant} value for the given name.
+     * @param statement The statement
+     * @param name The name (such as the column name)
+     * @param instant The instant
+     * @return This writer
+     * @since 1.0.1
+     */
+    default @NonNull
+    QueryStatement<PS, IDX> setInstant(PS statement, IDX name, @Nullable Instant instant) {
+        return setValue(statement, name, instant);
+    }
+
+    /**
+     * Write an {@link OffsetDateTime} value for the given name.
+     * @param statement The statement
+     * @param name The name (such as the column name)
+     * @param dateTime The date time
+     * @return This writer
+     * @since 1.0.1
+     */
+    default @NonNull
+    QueryStatement<PS, IDX> setOffsetDateTime(PS statement, IDX name, @Nullable OffsetDateTime dateTime) {
+        return setValue(statement, name, dateTime);
+    }
+
+    /**
+     * Write a {@link UUID} value for the given name. By default UUIDs are written as strings.
+     * @param statement The statement
+     * @param name The name (such as the column name)
+     * @param uuid The UUID
+     * @return This writer
+     * @since 1.0.1
+     */
+    default @NonNull
+    QueryStatement<PS, IDX> setUUID(PS statement, IDX name, @Nullable UUID uuid) {
+        return setString(statement, name, uuid != null ? uuid.toString() : null);
+    }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.mapper;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.micronaut.data.exceptions.DataAccessException;
+
+/**
+ * A materializer that reads the current row of a result straight into an entity or DTO instance. Materializers are an
+ * alternative to the introspection based mapping: implementations invoke the constructor and setters of the type directly
+ * and use the typed read methods of {@link ResultReader}, avoiding the argument arrays and boxing of
+ * {@link io.micronaut.core.beans.BeanIntrospection#instantiate(Object...)}.
+ *
+ * <p>Materializers are registered with {@link java.util.ServiceLoader} under
+ * {@code META-INF/services/io.micronaut.data.runtime.mapper.ResultMaterializer} and are used by the SQL mappers whenever
+ * one is present for the result type. Columns are read by their persisted name without a prefix, hence materializers are
+ * not used for results that include join fetches nor for entities with associations, embedded properties or JSON
+ * properties. The annotation processor generates a {@link GeneratedResultMaterializer} for every other entity.</p>
+ *
+ * @param <T> The result type
+ * @author agent
+ * @since 1.0.1
+ * @see ResultMaterializers
+ */
+public interface ResultMaterializer<T> {
+
+    /**
+     * @return The type this materializer creates
+     */
+    @NonNull Class<T> getType();
+
+    /**
+     * Materialize an instance from the current row.
+     *
+     * @param resultSet The result set, positioned at the row to read
+     * @param resultReader The result reader
+     * @param <RS> The result set type
+     * @return The instance or {@code null} if the row doesn't represent an instance
+     * @throws DataAccessException If the row cannot be read
+     */
+    @Nullable <RS> T materialize(@NonNull RS resultSet, @NonNull ResultReader<RS, String> resultReader) throws DataAccessException;
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.mapper;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.micronaut.core.io.service.ServiceDefinition;
+import io.micronaut.core.io.service.SoftServiceLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Registry of the {@link ResultMaterializer} instances available on the classpath. The materializers are loaded once
+ * and looked up by result type. If a materializer is both generated and written by hand for a type, the latter is used.
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+public final class ResultMaterializers {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ResultMaterializers.class);
+
+    private ResultMaterializers() {
+    }
+
+    /**
+     * Find the materializer for the given type.
+     *
+     * @param type The result type
+     * @param <T> The result type
+     * @return The materializer or {@code null} if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public static @Nullable <T> ResultMaterializer<T> find(@NonNull Class<T> type) {
+        return (ResultMaterializer<T>) Registry.MATERIALIZERS.get(type);
+    }
+
+    /**
+     * Holder that defers loading the materializers until they are first required.
+     */
+    private static final class Registry {
+        static final Map<Class<?>, ResultMaterializer<?>> MATERIALIZERS = load();
+
+        private static Map<Class<?>, ResultMaterializer<?>> load() {
+            SoftServiceLoader<ResultMaterializer> loader = SoftServiceLoader.load(
+                    ResultMaterializer.class,
+                    ResultMaterializer.class.getClassLoader()
+            );
+            Map<Class<?>, ResultMaterializer<?>> materializers = new HashMap<>();
+            for (ServiceDefinition<ResultMaterializer> definition : loader) {
+                if (definition.isPresent()) {
+                    try {
+                        ResultMaterializer<?> materializer = definition.load();
+                        // materializers written by hand take precedence over the generated ones
+                        if (!(materializer instanceof GeneratedResultMaterializer) || !materializers.containsKey(materializer.getType())) {
+                            materializers.put(materializer.getType(), materializer);
+                        }
+                    } catch (Exception e) {
+                        if (LOG.isWarnEnabled()) {
+                            LOG.warn("Could not load result materializer [" + definition.getName() + "]: " + e.getMessage(), e);
+                        }
+                    }
+                }
+            }
+            return materializers.isEmpty() ? Collections.emptyMap() : materializers;
+        }
+    }
+}
@@ -22,7 +22,12 @@ import io.micronaut.data.exceptions.DataAccessException;
 import io.micronaut.data.model.DataType;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.Date;
+import java.util.UUID;
 
 /**
  * A result reader is a type that is capable of reading data from the given result set type.
@@ -128,6 +133,16 @@ public interface ResultReader<RS, IDX> {
                 return readBytes(resultSet, index);
             case BIGDECIMAL:
                 return readBigDecimal(resultSet, index);
+            case LOCAL_DATE:
+                return readLocalDate(resultSet, index);
+            case LOCAL_DATE_TIME:
+                return readLocalDateTime(resultSet, index);
+            case INSTANT:
+                return readInstant(resultSet, index);
+            case OFFSET_DATE_TIME:
+                return readOffsetDateTime(resultSet, index);
+            case UUID:
+                return readUUID(resultSet, index);
             case OBJECT:
             default:
                 return getRequiredValue(resultSet, index, Object.class);
@@ -264,4 +279,59 @@ public interface ResultReader<RS, IDX> {
     default byte[] readBytes(RS resultSet, IDX name) {
         return getRequiredValue(resultSet, name, byte[].class);
     }
+
+    /**
+     * Read a {@link LocalDate} value for the given name.
+     * @param resultSet The result set
+     * @param name The name (such as the column name)
+     * @return The date
+     * @since 1.0.1
+     */
+    default @Nullable LocalDate readLocalDate(RS resultSet, IDX name) {
+        return getRequiredValue(resultSet, name, LocalDate.class);
+    }
+
+    /**
+     * Read a {@link LocalDateTime} value for the given name.
+     * @param resultSet The result set
+     * @param name The name (such as the column name)
+     * @return The date time
+     * @since 1.0.1
+     */
+    default @Nullable LocalDateTime readLocalDateTime(RS resultSet, IDX name) {
+        return getRequiredValue(resultSet, name, LocalDateTime.class);
+    }
+
+    /**
+     * Read an {@link Instant} value for the given name.
+     * @param resultSet The result set
+     * @param name The name (such as the column name)
+     * @return The instant
+     * @since 1.0.1
+     */
+    default @Nullable Instant readInstant(RS resultSet, IDX name) {
+        return getRequiredValue(resultSet, name, Instant.class);
+    }
+
+    /**
+     * Read an {@link OffsetDateTime} value for the given name.
+     * @param resultSet The result set
+     * @param name The name (such as the column name)
+     * @return The date time
+     * @since 1.0.1
+     */
+    default @Nullable OffsetDateTime readOffsetDateTime(RS resultSet, IDX name) {
+        return getRequiredValue(resultSet, name, OffsetDateTime.class);
+    }
+
+    /**
+     * Read a {@link UUID} value for the given name.
+     * @param resultSet The result set
+     * @param name The name (such as the column name)
+     * @return The UUID
+     * @since 1.0.1
+     */
+    default @Nullable UUID readUUID(RS resultSet, IDX name) {
+        return getRequiredValue(resultSet, name, UUID.class);
+    }
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.mapper;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Date;
+
+/**
+ * Converts between the date and time types commonly bound to statements without going through the
+ * {@link io.micronaut.core.convert.ConversionService}. Local dates and times are in the default time zone, as with
+ * {@link java.sql.Timestamp}.
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+final class TemporalValues {
+
+    private TemporalValues() {
+    }
+
+    /**
+     * @param value The value
+     * @return The value as an instant, or null if the value is not a supported date or time
+     */
+    static @Nullable Instant toInstant(@Nullable Object value) {
+        if (value instanceof Instant) {
+            return (Instant) value;
+        } else if (value instanceof OffsetDateTime) {
+            return ((OffsetDateTime) value).toInstant();
+        } else if (value instanceof ZonedDateTime) {
+            return ((ZonedDateTime) value).toInstant();
+        } else if (value instanceof LocalDateTime) {
+            return ((LocalDateTime) value).atZone(ZoneId.systemDefault()).toInstant();
+        } else if (value instanceof Date) {
+            // java.sql.Date does not support toInstant()
+            return Instant.ofEpochMilli(((Date) value).getTime());
+        }
+        return null;
+    }
+
+    /**
+     * @param value The value
+     * @return The value as a local date time, or null if the value is not a supported date or time
+     */
+    static @Nullable LocalDateTime toLocalDateTime(@Nullable Object value) {
+        if (value instanceof LocalDateTime) {
+            return (LocalDateTime) value;
+        }
+        Instant instant = toInstant(value);
+        return instant != null ? LocalDateTime.ofInstant(instant, ZoneId.systemDefault()) : null;
+    }
+
+    /**
+     * @param value The value
+     * @return The value as a local date, or null if the value is not a supported date or time
+     */
+    static @Nullable LocalDate toLocalDate(@Nullable Object value) {
+        if (value instanceof LocalDate) {
+            return (LocalDate) value;
+        }
+        LocalDateTime localDateTime = toLocalDateTime(value);
+        return localDateTime != null ? localDateTime.toLocalDate() : null;
+    }
+
+    /**
+     * @param value The value
+     * @return The value as an offset date time, or null if the value is not a supported date or time
+     */
+    static @Nullable OffsetDateTime toOffsetDateTime(@Nullable Object value) {
+        if (value instanceof OffsetDateTime) {
+            return (OffsetDateTime) value;
+        }
+        Instant instant = toInstant(value);
+        return instant != null ? OffsetDateTime.ofInstant(instant, ZoneId.systemDefault()) : null;
+    }
+}
@@ -26,6 +26,7 @@ import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.ArgumentUtils;
 import io.micronaut.core.util.ArrayUtils;
 import io.micronaut.core.util.CollectionUtils;
+import io.micronaut.core.util.StringUtils;
 import io.micronaut.data.annotation.MappedProperty;
 import io.micronaut.data.annotation.Relation;
 import io.micronaut.data.exceptions.DataAccessException;
@@ -33,6 +34,10 @@ import io.micronaut.data.model.*;
 import io.micronaut.data.model.query.JoinPath;
 import io.micronaut.data.model.runtime.RuntimePersistentEntity;
 import io.micronaut.data.model.runtime.RuntimePersistentProperty;
+import io.micronaut.data.runtime.mapper.GeneratedResultMaterializer;
+import io.micronaut.data.runtime.mapper.IndexedResultReader;
+import io.micronaut.data.runtime.mapper.ResultMaterializer;
+import io.micronaut.data.runtime.mapper.ResultMaterializers;
 import io.micronaut.data.runtime.mapper.ResultReader;
 import io.micronaut.http.codec.MediaTypeCodec;
 
@@ -40,7 +45,10 @@ import java.util.*;
 
 /**
  * A {@link io.micronaut.data.runtime.mapper.TypeMapper} that can take a {@link RuntimePersistentEntity} and a {@link ResultReader} and materialize an instance using
- * using column naming conventions mapped by the entity.
+ * using column naming conventions mapped by the entity. If a {@link ResultMaterializer} is present for the entity, the
+ * result includes no join fetches and the entity has no associations, embedded properties or JSON properties, the
+ * materializer is used instead. The column indexes of a generated materializer are resolved once per result set, like
+ * the indexes of the mapping plan.
  *
  * @param <RS> The result set type
  * @param <R> The result type
@@ -53,7 +61,13 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
     private final Map<String, JoinPath> joinPaths;
     private final String startingPrefix;
     private final MediaTypeCodec jsonCodec;
+    private final ResultMaterializer<R> materializer;
+    private final GeneratedResultMaterializer<R> generatedMaterializer;
+    private final IndexedResultReader<RS> indexedReader;
     private boolean callNext = true;
+    private MappingPlan plan;
+    private int[] materializerIndexes;
+    private RS planResultSet;
 
     /**
      * Default constructor.
@@ -115,6 +129,7 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
         this.entity = entity;
         this.jsonCodec = jsonCodec;
         this.resultReader = resultReader;
+        this.indexedReader = resultReader instanceof IndexedResultReader ? (IndexedResultReader<RS>) resultReader : null;
         if (CollectionUtils.isNotEmpty(joinPaths)) {
             this.joinPaths = new HashMap<>(joinPaths.size());
             for (JoinPath joinPath : joinPaths) {
@@ -124,6 +139,16 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
             this.joinPaths = Collections.emptyMap();
         }
         this.startingPrefix = startingPrefix;
+        if (startingPrefix == null && this.joinPaths.isEmpty() && isMaterializable(entity)) {
+            this.materializer = ResultMaterializers.find(entity.getIntrospection().getBeanType());
+        } else {
+            this.materializer = null;
+        }
+        if (indexedReader != null && materializer instanceof GeneratedResultMaterializer) {
+            this.generatedMaterializer = (GeneratedResultMaterializer<R>) materializer;
+        } else {
+            this.generatedMaterializer = null;
+        }
     }
 
     /**
@@ -143,7 +168,27 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
     @NonNull
     @Override
     public R map(@NonNull RS object, @NonNull Class<R> type) throws DataAccessException {
-        return readEntity(startingPrefix, null, object, entity, false, null, null, null);
+        GeneratedResultMaterializer<R> generatedMaterializer = this.generatedMaterializer;
+        if (generatedMaterializer != null) {
+            int[] indexes = this.materializerIndexes;
+            if (indexes == null || object != planResultSet) {
+                indexes = generatedMaterializer.resolveIndexes(object, indexedReader);
+                this.materializerIndexes = indexes;
+                this.planResultSet = object;
+            }
+            return generatedMaterializer.materialize(object, indexedReader.getIndexedReader(), indexes);
+        }
+        if (materializer != null) {
+            return materializer.materialize(object, resultReader);
+        }
+        MappingPlan plan = this.plan;
+        if (plan == null || (indexedReader != null && object != planResultSet)) {
+            // the column indexes of a plan are only valid for the result set they were resolved for
+            plan = new MappingPlan(entity, startingPrefix, "", false, null);
+            this.plan = plan;
+            this.planResultSet = object;
+        }
+        return (R) readEntity(plan, object, null, null);
     }
 
     @Nullable
@@ -176,46 +221,48 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
         }
     }
 
-    private R readEntity(
-            String prefix,
-            String path,
+    /**
+     * Materializers read the columns of the entity alone, without resolving associations or decoding JSON.
+     *
+     * @param entity The entity
+     * @return Whether a materializer can read the entity
+     */
+    private static boolean isMaterializable(RuntimePersistentEntity<?> entity) {
+        if (entity.getIdentity() instanceof Association || !entity.getAssociations().isEmpty()) {
+            return false;
+        }
+        for (RuntimePersistentProperty<?> property : entity.getPersistentProperties()) {
+            if (property instanceof Association || property.getDataType() == DataType.JSON) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Object readEntity(
+            MappingPlan plan,
             RS rs,
-            RuntimePersistentEntity<R> persistentEntity,
-            boolean isEmbedded,
-            @Nullable Association association,
             @Nullable Object parent,
             @Nullable Object resolveId) {
-        BeanIntrospection<R> introspection = persistentEntity.getIntrospection();
-        RuntimePersistentProperty<R>[] constructorArguments = persistentEntity.getConstructorArguments();
+        RuntimePersistentEntity<Object> persistentEntity = plan.entity;
+        BeanIntrospection<Object> introspection = persistentEntity.getIntrospection();
+        RuntimePersistentProperty<Object>[] constructorArguments = plan.constructorArguments;
+        Association association = plan.association;
         try {
-            R entity;
+            Object entity;
             Object id = resolveId;
-            RuntimePersistentProperty<R> identity = persistentEntity.getIdentity();
-            boolean hasPrefix = prefix != null;
-            boolean hasPath = path != null;
+            RuntimePersistentProperty<Object> identity = plan.identity;
             final boolean isAssociation = association != null;
-            final boolean nullableEmbedded = association instanceof Embedded && association.isOptional();
+            final boolean nullableEmbedded = plan.nullableEmbedded;
             if (id == null && identity != null) {
                 if (identity instanceof Embedded) {
-                    PersistentEntity embeddedEntity = ((Embedded) identity).getAssociatedEntity();
                     id = readEntity(
-                            identity.getPersistedName() + "_",
-                             (hasPath ? path : "") + identity.getName() + '.',
-                             rs,
-                            (RuntimePersistentEntity<R>) embeddedEntity,
-                            true,
-                            null,
+                            plan.embeddedIdentity(),
+                            rs,
                             null,
                             null);
                 } else {
-                    String columnName = resolveColumnName(
-                            identity,
-                            prefix,
-                            isEmbedded,
-                            hasPrefix
-                    );
-
-                    id = resultReader.readDynamic(rs, columnName, DataType.OBJECT);
+                    id = readColumn(rs, plan.identityColumn, plan.identityIndex, 0, DataType.OBJECT);
                     if (id == null) {
                         return null;
                     }
@@ -228,7 +275,7 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
                 int len = constructorArguments.length;
                 Object[] args = new Object[len];
                 for (int i = 0; i < len; i++) {
-                    RuntimePersistentProperty<R> prop = constructorArguments[i];
+                    RuntimePersistentProperty<Object> prop = constructorArguments[i];
                     if (prop != null) {
                         if (prop instanceof Association) {
                             final Association constructorAssociation = (Association) prop;
@@ -245,27 +292,22 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
                             } else {
                                 Object resolvedId = null;
                                 if (!constructorAssociation.isForeignKey() && !(constructorAssociation instanceof Embedded)) {
-                                    String columnName = resolveColumnName(
-                                            prop,
-                                            prefix,
-                                            isEmbedded,
-                                            hasPrefix
-                                    );
-                                    resolvedId = resultReader.readDynamic(
+                                    resolvedId = readColumn(
                                             rs,
-                                            columnName,
+                                            plan.constructorColumns[i],
+                                            plan.constructorIndexes,
+                                            i,
                                             prop.getDataType()
                                     );
                                 }
                                 if (kind.isSingleEnded()) {
 
                                     associated = readAssociation(
+                                            plan,
                                             parent,
-                                            hasPrefix ? prefix : "",
-                                            (hasPath ? path : ""), rs,
+                                            rs,
                                             constructorAssociation,
-                                            resolvedId,
-                                            hasPrefix
+                                            resolvedId
                                     );
                                     args[i] = associated;
                                 }
@@ -276,15 +318,11 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
                             if (resolveId != null && identity != null && identity.equals(prop)) {
                                 v = resolveId;
                             } else {
-                                String columnName = resolveColumnName(
-                                        prop,
-                                        prefix,
-                                        isEmbedded,
-                                        hasPrefix
-                                );
-                                v = resultReader.readDynamic(
+                                v = readColumn(
                                         rs,
-                                        columnName,
+                                        plan.constructorColumns[i],
+                                        plan.constructorIndexes,
+                                        i,
                                         prop.getDataType()
                                 );
                                 if (v == null) {
@@ -317,19 +355,20 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
             }
 
             if (identity != null && id != null) {
-                BeanProperty<R, Object> idProperty = (BeanProperty<R, Object>) identity.getProperty();
+                BeanProperty<Object, Object> idProperty = (BeanProperty<Object, Object>) identity.getProperty();
                 if (!idProperty.isReadOnly()) {
                     id = convertAndSet(entity, identity, idProperty, id, identity.getDataType());
                 }
             }
             Map<Association, List> toManyJoins = null;
-            for (PersistentProperty persistentProperty : persistentEntity.getPersistentProperties()) {
-                RuntimePersistentProperty rpp = (RuntimePersistentProperty) persistentProperty;
-                if (persistentProperty.isReadOnly()) {
+            final RuntimePersistentProperty<Object>[] properties = plan.properties;
+            for (int i = 0; i < properties.length; i++) {
+                RuntimePersistentProperty<Object> rpp = properties[i];
+                if (rpp.isReadOnly()) {
                     continue;
-                } else if (persistentProperty.isConstructorArgument()) {
-                    if (persistentProperty instanceof Association) {
-                        Association a = (Association) persistentProperty;
+                } else if (rpp.isConstructorArgument()) {
+                    if (rpp instanceof Association) {
+                        Association a = (Association) rpp;
                         final Relation.Kind kind = a.getKind();
                         if (kind.isSingleEnded()) {
                             continue;
@@ -339,48 +378,37 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
                     }
                 }
                 BeanProperty property = rpp.getProperty();
-                if (persistentProperty instanceof Association) {
-                    Association entityAssociation = (Association) persistentProperty;
+                if (rpp instanceof Association) {
+                    Association entityAssociation = (Association) rpp;
                     if (!entityAssociation.isForeignKey()) {
 
-                        Object resolvedId;
                         if (!(entityAssociation instanceof Embedded)) {
-
-                            String columnName = resolveColumnName(
-                                    (RuntimePersistentProperty<R>) persistentProperty,
-                                    prefix,
-                                    isEmbedded,
-                                    hasPrefix
-                            );
-                            resolvedId = resultReader.readDynamic(
+                            Object resolvedId = readColumn(
                                     rs,
-                                    columnName,
-                                    persistentProperty.getDataType()
+                                    plan.columns[i],
+                                    plan.columnIndexes,
+                                    i,
+                                    rpp.getDataType()
                             );
                             if (resolvedId != null) {
                                 Object associated = readAssociation(
+                                        plan,
                                         entity,
-                                        prefix,
-                                        (hasPath ? path : ""),
                                         rs,
                                         entityAssociation,
-                                        resolvedId,
-                                        hasPrefix
+                                        resolvedId
                                 );
                                 if (associated != null) {
                                     property.set(entity, associated);
                                 }
                             }
                         } else {
-                            resolvedId = null;
                             Object associated = readAssociation(
+                                    plan,
                                     entity,
-                                    prefix,
-                                    (hasPath ? path : ""),
                                     rs,
                                     entityAssociation,
-                                    null,
-                                    hasPrefix
+                                    null
                             );
                             if (associated != null) {
                                 property.set(entity, associated);
@@ -389,16 +417,15 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
 
                     } else {
                         Relation.Kind kind = entityAssociation.getKind();
-                        boolean hasJoin = joinPaths.containsKey((hasPath ? path : "") + entityAssociation.getName());
+                        boolean hasJoin = plan.association(entityAssociation).joined;
                         if (hasJoin) {
                             if (kind == Relation.Kind.ONE_TO_ONE && entityAssociation.isForeignKey()) {
                                 Object associated = readAssociation(
+                                        plan,
                                         entity,
-                                        prefix, (hasPath ? path : ""),
                                         rs,
                                         entityAssociation,
-                                        null,
-                                        hasPrefix
+                                        null
                                 );
                                 if (associated != null) {
                                     property.set(entity, associated);
@@ -412,16 +439,12 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
                         }
                     }
                 } else {
-                    String columnName = resolveColumnName(
-                            (RuntimePersistentProperty<R>) persistentProperty,
-                            prefix,
-                            isEmbedded,
-                            hasPrefix
-                    );
-                    final DataType dataType = persistentProperty.getDataType();
-                    Object v = resultReader.readDynamic(
+                    final DataType dataType = rpp.getDataType();
+                    Object v = readColumn(
                             rs,
-                            columnName,
+                            plan.columns[i],
+                            plan.columnIndexes,
+                            i,
                             dataType
                     );
 
@@ -438,12 +461,11 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
                     while (currentId != null && currentId.equals(id)) {
                         for (Map.Entry<Association, List> entry : toManyJoins.entrySet()) {
                             Object associated = readAssociation(
+                                    plan,
                                     entity,
-                                    hasPrefix ? prefix : "", (hasPath ? path : ""),
                                     rs,
                                     entry.getKey(),
-                                    null,
-                                    hasPrefix
+                                    null
                             );
                             if (associated != null) {
                                 entry.getValue().add(associated);
@@ -471,7 +493,32 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
         }
     }
 
-    private String resolveColumnName(RuntimePersistentProperty<R> identity, String prefix, boolean isEmbedded, boolean hasPrefix) {
+    /**
+     * Reads the value of a column of a mapping plan. If the result reader can resolve column indexes, the index of the
+     * column is resolved when the column is first read and the value is read by index thereafter.
+     *
+     * @param rs The result set
+     * @param column The column name
+     * @param indexes The resolved column indexes, where zero denotes an unresolved index
+     * @param i The position of the column within the indexes
+     * @param dataType The data type
+     * @return The value
+     */
+    private Object readColumn(RS rs, String column, int[] indexes, int i, DataType dataType) {
+        IndexedResultReader<RS> indexedReader = this.indexedReader;
+        if (indexedReader == null) {
+            return resultReader.readDynamic(rs, column, dataType);
+        }
+        int index = indexes[i];
+        if (index == 0) {
+            // resolved lazily since not every column of a plan is part of the result
+            index = indexedReader.indexOf(rs, column);
+            indexes[i] = index;
+        }
+        return indexedReader.getIndexedReader().readDynamic(rs, index, dataType);
+    }
+
+    private String resolveColumnName(RuntimePersistentProperty<?> identity, String prefix, boolean isEmbedded, boolean hasPrefix) {
         String persistedName = identity.getPersistedName();
         String columnName;
         if (hasPrefix) {
@@ -492,7 +539,7 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
      * @param resultSet The result set
      * @return The ID
      */
-    Object nextId(@NonNull RuntimePersistentProperty<R> identity, @NonNull RS resultSet) {
+    Object nextId(@NonNull RuntimePersistentProperty<?> identity, @NonNull RS resultSet) {
         Object id = resultReader.readNextDynamic(resultSet, identity.getPersistedName(), identity.getDataType());
         if (id != null) {
             final Class<?> isType = identity.getType();
@@ -504,7 +551,7 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
     }
 
     private Object convertAndSet(
-            R entity,
+            Object entity,
             RuntimePersistentProperty rpp,
             BeanProperty property,
             Object v,
@@ -528,42 +575,26 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
 
     @Nullable
     private Object readAssociation(
+            MappingPlan plan,
             Object parent,
-            String prefix,
-            String path,
             RS resultSet,
             @NonNull Association association,
-            @Nullable Object resolvedId,
-            boolean hasPrefix) {
-        RuntimePersistentEntity associatedEntity = (RuntimePersistentEntity) association.getAssociatedEntity();
+            @Nullable Object resolvedId) {
+        AssociationPlan associationPlan = plan.association(association);
         Object associated = null;
-        String associationName = association.getName();
         if (association instanceof Embedded) {
             associated = readEntity(
-                    association.getPersistedName() + "_",
-                    path + associationName + '.',
+                    associationPlan.target,
                     resultSet,
-                    associatedEntity,
-                    true,
-                    association,
                     null,
                     null);
         } else {
-            String persistedName = association.getPersistedName();
+            RuntimePersistentEntity associatedEntity = (RuntimePersistentEntity) association.getAssociatedEntity();
             RuntimePersistentProperty identity = associatedEntity.getIdentity();
-            String joinPath = path + associationName;
-            if (joinPaths.containsKey(joinPath)) {
-                JoinPath jp = joinPaths.get(joinPath);
-                String newPrefix = jp.getAlias().orElseGet(() ->
-                        !hasPrefix ? association.getAliasName() : prefix + association.getAliasName()
-                );
+            if (associationPlan.joined) {
                 associated = readEntity(
-                        newPrefix,
-                        path + associationName + '.',
+                        associationPlan.target,
                         resultSet,
-                        associatedEntity,
-                        false,
-                        association,
                         parent,
                         resolvedId
                 );
@@ -574,11 +605,11 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
                 if (constructorArgs.length == 0) {
                     associated = associatedIntrospection.instantiate();
                     if (identity != null) {
-                        String columnToRead = hasPrefix ? prefix + persistedName : persistedName;
-
-                        Object v = resultReader.readDynamic(
+                        Object v = readColumn(
                                 resultSet,
-                                columnToRead,
+                                associationPlan.column,
+                                associationPlan.columnIndex,
+                                0,
                                 identity.getDataType()
                         );
                         BeanWrapper.getWrapper(associated).setProperty(
@@ -590,7 +621,7 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
                     if (constructorArgs.length == 1 && identity != null) {
                         Argument arg = constructorArgs[0];
                         if (arg.getName().equals(identity.getName()) && arg.getType() == identity.getType()) {
-                            Object v = resultReader.readDynamic(resultSet, hasPrefix ? prefix + persistedName : persistedName, identity.getDataType());
+                            Object v = readColumn(resultSet, associationPlan.column, associationPlan.columnIndex, 0, identity.getDataType());
                             associated = associatedIntrospection.instantiate(resultReader.convertRequired(v, identity.getType()));
                         }
                     }
@@ -599,4 +630,138 @@ public final class SqlResultEntityTypeMapper<RS, R> implements SqlTypeMapper<RS,
         }
         return associated;
     }
+
+    /**
+     * The mapping plan for an entity at a given position within the tree of the mapped entity, joins and embedded
+     * types. The plan is computed when the first row is read and holds the resolved column names so that
+     * subsequent rows are read without computing them again. If the result reader is an {@link IndexedResultReader},
+     * the plan also holds the index of each column within the current result set.
+     */
+    private final class MappingPlan {
+        final RuntimePersistentEntity<Object> entity;
+        final String prefix;
+        final String path;
+        final boolean hasPrefix;
+        final boolean isEmbedded;
+        final Association association;
+        final boolean nullableEmbedded;
+        final RuntimePersistentProperty<Object> identity;
+        final String identityColumn;
+        final int[] identityIndex = new int[1];
+        final RuntimePersistentProperty<Object>[] constructorArguments;
+        final String[] constructorColumns;
+        final int[] constructorIndexes;
+        final RuntimePersistentProperty<Object>[] properties;
+        final String[] columns;
+        final int[] columnIndexes;
+        final Map<Association, AssociationPlan> associations = new HashMap<>(5);
+        MappingPlan embeddedIdentity;
+
+        MappingPlan(
+                RuntimePersistentEntity<?> entity,
+                @Nullable String prefix,
+                String path,
+                boolean isEmbedded,
+                @Nullable Association association) {
+            this.entity = (RuntimePersistentEntity<Object>) entity;
+            this.prefix = prefix;
+            this.path = path;
+            this.hasPrefix = prefix != null;
+            this.isEmbedded = isEmbedded;
+            this.association = association;
+            this.nullableEmbedded = association instanceof Embedded && association.isOptional();
+            this.identity = this.entity.getIdentity();
+            this.identityColumn = identity != null && !(identity instanceof Embedded) ? resolveColumnName(identity) : null;
+            this.constructorArguments = this.entity.getConstructorArguments();
+            if (ArrayUtils.isNotEmpty(constructorArguments)) {
+                this.constructorColumns = new String[constructorArguments.length];
+                for (int i = 0; i < constructorArguments.length; i++) {
+                    RuntimePersistentProperty<Object> prop = constructorArguments[i];
+                    if (prop != null) {
+                        constructorColumns[i] = resolveColumnName(prop);
+                    }
+                }
+            } else {
+                this.constructorColumns = StringUtils.EMPTY_STRING_ARRAY;
+            }
+            this.constructorIndexes = new int[constructorColumns.length];
+            Collection<RuntimePersistentProperty<Object>> persistentProperties = this.entity.getPersistentProperties();
+            this.properties = persistentProperties.toArray(new RuntimePersistentProperty[0]);
+            this.columns = new String[properties.length];
+            for (int i = 0; i < properties.length; i++) {
+                columns[i] = resolveColumnName(properties[i]);
+            }
+            this.columnIndexes = new int[columns.length];
+        }
+
+        private String resolveColumnName(RuntimePersistentProperty<?> property) {
+            return SqlResultEntityTypeMapper.this.resolveColumnName(property, prefix, isEmbedded, hasPrefix);
+        }
+
+        MappingPlan embeddedIdentity() {
+            MappingPlan plan = this.embeddedIdentity;
+            if (plan == null) {
+                plan = new MappingPlan(
+                        (RuntimePersistentEntity<?>) ((Embedded) identity).getAssociatedEntity(),
+                        identity.getPersistedName() + "_",
+                        path + identity.getName() + '.',
+                        true,
+                        null
+                );
+                this.embeddedIdentity = plan;
+            }
+            return plan;
+        }
+
+        AssociationPlan association(Association association) {
+            AssociationPlan plan = associations.get(association);
+            if (plan == null) {
+                plan = new AssociationPlan(this, association);
+                associations.put(association, plan);
+            }
+            return plan;
+        }
+    }
+
+    /**
+     * The mapping plan for an association of an entity.
+     */
+    private final class AssociationPlan {
+        final boolean joined;
+        final String column;
+        final int[] columnIndex = new int[1];
+        final MappingPlan target;
+
+        AssociationPlan(MappingPlan owner, Association association) {
+            String associationName = association.getName();
+            RuntimePersistentEntity<?> associatedEntity = (RuntimePersistentEntity<?>) association.getAssociatedEntity();
+            String joinPath = owner.path + associationName;
+            JoinPath jp = joinPaths.get(joinPath);
+            this.joined = jp != null;
+            String persistedName = association.getPersistedName();
+            this.column = owner.hasPrefix ? owner.prefix + persistedName : persistedName;
+            if (association instanceof Embedded) {
+                this.target = new MappingPlan(
+                        associatedEntity,
+                        persistedName + "_",
+                        joinPath + '.',
+                        true,
+                        association
+                );
+            } else if (joined) {
+                String newPrefix = jp.getAlias().orElseGet(() ->
+                        !owner.hasPrefix ? association.getAliasName() : owner.prefix + association.getAliasName()
+                );
+                this.target = new MappingPlan(
+                        associatedEntity,
+                        newPrefix,
+                        joinPath + '.',
+                        false,
+                        association
+                );
+            } else {
+                this.target = null;
+            }
+        }
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.metrics;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics recorded for a single repository method. All timings are in nanoseconds.
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+public final class OperationMetrics {
+
+    private final Class<?> repositoryType;
+    private final String method;
+    private final Histogram prepareTimes = new Histogram();
+    private final Histogram executeTimes = new Histogram();
+    private final Histogram mappingTimes = new Histogram();
+    private final Histogram batchSizes = new Histogram();
+    private final LongAdder rowsMapped = new LongAdder();
+
+    /**
+     * Default constructor.
+     *
+     * @param repositoryType The repository type
+     * @param method The method name
+     */
+    OperationMetrics(@NonNull Class<?> repositoryType, @NonNull String method) {
+        this.repositoryType = repositoryType;
+        this.method = method;
+    }
+
+    /**
+     * @return The repository type
+     */
+    public @NonNull Class<?> getRepositoryType() {
+        return repositoryType;
+    }
+
+    /**
+     * @return The name of the repository method
+     */
+    public @NonNull String getMethod() {
+        return method;
+    }
+
+    /**
+     * @return The time taken to prepare statements and bind their parameters
+     */
+    public @NonNull Histogram getPrepareTimes() {
+        return prepareTimes;
+    }
+
+    /**
+     * @return The time taken to execute statements, including batches
+     */
+    public @NonNull Histogram getExecuteTimes() {
+        return executeTimes;
+    }
+
+    /**
+     * @return The time taken to read and map results
+     */
+    public @NonNull Histogram getMappingTimes() {
+        return mappingTimes;
+    }
+
+    /**
+     * @return The number of statements per executed batch
+     */
+    public @NonNull Histogram getBatchSizes() {
+        return batchSizes;
+    }
+
+    /**
+     * @return The total number of rows mapped
+     */
+    public long getRowsMapped() {
+        return rowsMapped.sum();
+    }
+
+    /**
+     * Records the given number of mapped rows.
+     *
+     * @param rows The rows
+     */
+    void addRowsMapped(long rows) {
+        rowsMapped.add(rows);
+    }
+
+    @Override
+    public String toString() {
+        return repositoryType.getSimpleName() + "." + method;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.metrics;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Receives the timings of the statements executed by a repository operations implementation. Each callback identifies
+ * the repository method through its declaring repository type and name, so that implementations can aggregate the
+ * timings without building keys for every invocation.
+ *
+ * <p>Implementations are called on the hot path and should do as little work as possible, in particular they should
+ * neither block nor throw. Timings are only taken when an instrumentation bean is present.</p>
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+public interface RepositoryInstrumentation {
+
+    /**
+     * Called once a statement has been prepared and its parameters bound.
+     *
+     * @param repositoryType The repository type
+     * @param method The name of the repository method
+     * @param nanos The time taken, in nanoseconds
+     */
+    default void statementPrepared(@NonNull Class<?> repositoryType, @NonNull String method, long nanos) {
+        // no-op
+    }
+
+    /**
+     * Called once a statement has been executed, excluding the time taken to read the results.
+     *
+     * @param repositoryType The repository type
+     * @param method The name of the repository method
+     * @param nanos The time taken, in nanoseconds
+     */
+    default void statementExecuted(@NonNull Class<?> repositoryType, @NonNull String method, long nanos) {
+        // no-op
+    }
+
+    /**
+     * Called once the results of a query have been read.
+     *
+     * @param repositoryType The repository type
+     * @param method The name of the repository method
+     * @param rows The number of rows mapped
+     * @param nanos The time spent reading and mapping the rows, in nanoseconds
+     */
+    default void resultsMapped(@NonNull Class<?> repositoryType, @NonNull String method, long rows, long nanos) {
+        // no-op
+    }
+
+    /**
+     * Called once a batch of statements has been executed.
+     *
+     * @param repositoryType The repository type
+     * @param method The name of the repository method
+     * @param size The number of statements in the batch
+     * @param nanos The time taken, in nanoseconds
+     */
+    default void batchExecuted(@NonNull Class<?> repositoryType, @NonNull String method, int size, long nanos) {
+        // no-op
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.metrics;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.data.runtime.config.DataSettings;
+import io.micronaut.transaction.support.TransactionInstrumentation;
+import io.micronaut.transaction.support.TransactionSynchronization;
+
+import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Default instrumentation that records the timings of repository operations and transactions in
+ * {@link Histogram histograms}. Enabled by setting {@code micronaut.data.metrics.enabled} to {@code true}.
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+@Singleton
+@Requires(property = RepositoryMetrics.ENABLED, value = StringUtils.TRUE)
+public class RepositoryMetrics implements RepositoryInstrumentation, TransactionInstrumentation {
+
+    /**
+     * The property that enables the metrics.
+     */
+    public static final String ENABLED = DataSettings.PREFIX + ".metrics.enabled";
+
+    private final Map<Class<?>, Map<String, OperationMetrics>> operations = new ConcurrentHashMap<>(10);
+    private final Histogram connectionAcquisitionTimes = new Histogram();
+    private final Histogram transactionTimes = new Histogram();
+    private final LongAdder rollbacks = new LongAdder();
+
+    @Override
+    public void statementPrepared(@NonNull Class<?> repositoryType, @NonNull String method, long nanos) {
+        getOperation(repositoryType, method).getPrepareTimes().record(nanos);
+    }
+
+    @Override
+    public void statementExecuted(@NonNull Class<?> repositoryType, @NonNull String method, long nanos) {
+        getOperation(repositoryType, method).getExecuteTimes().record(nanos);
+    }
+
+    @Override
+    public void resultsMapped(@NonNull Class<?> repositoryType, @NonNull String method, long rows, long nanos) {
+        OperationMetrics operation = getOperation(repositoryType, method);
+        operation.getMappingTimes().record(nanos);
+        operation.addRowsMapped(rows);
+    }
+
+    @Override
+    public void batchExecuted(@NonNull Class<?> repositoryType, @NonNull String method, int size, long nanos) {
+        OperationMetrics operation = getOperation(repositoryType, method);
+        operation.getExecuteTimes().record(nanos);
+        operation.getBatchSizes().record(size);
+    }
+
+    @Override
+    public void connectionAcquired(long nanos) {
+        connectionAcquisitionTimes.record(nanos);
+    }
+
+    @Override
+    public void transactionCompleted(@NonNull TransactionSynchronization.Status status, long nanos) {
+        transactionTimes.record(nanos);
+        if (status != TransactionSynchronization.Status.COMMITTED) {
+            rollbacks.increment();
+        }
+    }
+
+    /**
+     * @return The metrics of every repository method executed so far
+     */
+    public @NonNull List<OperationMetrics> getOperations() {
+        List<OperationMetrics> result = new ArrayList<>();
+        for (Map<String, OperationMetrics> methods : operations.values()) {
+            result.addAll(methods.values());
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Returns the metrics of a repository method.
+     *
+     * @param repositoryType The repository type
+     * @param method The method name
+     * @return The metrics
+     */
+    public @NonNull OperationMetrics getOperation(@NonNull Class<?> repositoryType, @NonNull String method) {
+        Map<String, OperationMetrics> methods = operations.get(repositoryType);
+        if (methods == null) {
+            methods = operations.computeIfAbsent(repositoryType, type -> new ConcurrentHashMap<>(10));
+        }
+        OperationMetrics operation = methods.get(method);
+        if (operation == null) {
+            operation = methods.computeIfAbsent(method, name -> new OperationMetrics(repositoryType, name));
+        }
+        return operation;
+    }
+
+    /**
+     * @return The time taken to acquire the connections of new transactions, in nanoseconds
+     */
+    public @NonNull Histogram getConnectionAcquisitionTimes() {
+        return connectionAcquisitionTimes;
+    }
+
+    /**
+     * @return The duration of completed transactions, in nanoseconds
+     */
+    public @NonNull Histogram getTransactionTimes() {
+        return transactionTimes;
+    }
+
+    /**
+     * @return The number of transactions that did not commit
+     */
+    public long getRollbackCount() {
+        return rollbacks.sum();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.util.ArgumentUtils;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An {@link Executor} that runs at most a given number of tasks at the same time on a target executor. Further tasks are
+ * queued without blocking the calling thread and are submitted once a running task completes. This allows matching the
+ * concurrency of asynchronous operations to the size of the connection pool.
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+@Internal
+public final class ConcurrencyLimitedExecutor implements Executor {
+
+    private final Executor executor;
+    private final int maxConcurrency;
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger running = new AtomicInteger();
+
+    /**
+     * Default constructor.
+     *
+     * @param executor       The target executor
+     * @param maxConcurrency The maximum number of tasks running at the same time
+     */
+    public ConcurrencyLimitedExecutor(@NonNull Executor executor, int maxConcurrency) {
+        ArgumentUtils.requireNonNull("executor", executor);
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("Max concurrency must be greater than 0");
+        }
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * @return The maximum number of tasks running at the same time
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * @return The number of tasks waiting for a running task to complete
+     */
+    public int getQueuedTasks() {
+        return queue.size();
+    }
+
+    @Override
+    public void execute(@NonNull Runnable command) {
+        ArgumentUtils.requireNonNull("command", command);
+        queue.offer(command);
+        drain();
+    }
+
+    private void drain() {
+        while (!queue.isEmpty()) {
+            int n = running.get();
+            if (n >= maxConcurrency) {
+                // a running task submits the next one once it completes
+                return;
+            }
+            if (running.compareAndSet(n, n + 1)) {
+                Runnable task = queue.poll();
+                if (task == null) {
+                    running.decrementAndGet();
+                    continue;
+                }
+                try {
+                    executor.execute(() -> {
+                        try {
+                            task.run();
+                        } finally {
+                            running.decrementAndGet();
+                            drain();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    running.decrementAndGet();
+                    throw e;
+                }
+            }
+        }
+    }
+}
@@ -51,7 +51,8 @@ public class ExecutorAsyncOperations implements AsyncRepositoryOperations {
         ArgumentUtils.requireNonNull("operations", operations);
         ArgumentUtils.requireNonNull("executor", executor);
         this.datastore = operations;
-        this.executor = executor;
+        // parallel counts of the pages read by the operations must not wait for the executor they occupy
+        this.executor = ParallelCount.asyncExecutor(executor);
     }
 
     @Override
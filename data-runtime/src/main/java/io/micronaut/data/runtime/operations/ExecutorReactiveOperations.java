@@ -22,11 +22,17 @@ import io.micronaut.data.model.runtime.*;
 import io.micronaut.data.operations.RepositoryOperations;
 import io.micronaut.data.operations.reactive.ReactiveRepositoryOperations;
 import io.micronaut.data.model.Page;
+import io.reactivex.Emitter;
 import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
 import org.reactivestreams.Publisher;
 
 import java.io.Serializable;
+import java.util.Iterator;
+import java.util.concurrent.Callable;
 import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 /**
  * An implementation of {@link ReactiveRepositoryOperations} that delegates to a blocking operations and specified {@link Executor}.
@@ -41,6 +47,7 @@ import java.util.concurrent.Executor;
 public class ExecutorReactiveOperations implements ReactiveRepositoryOperations {
 
     private final ExecutorAsyncOperations asyncOperations;
+    private final Scheduler scheduler;
 
     /**
      * Default constructor.
@@ -60,6 +67,7 @@ public class ExecutorReactiveOperations implements ReactiveRepositoryOperations
     public ExecutorReactiveOperations(@NonNull ExecutorAsyncOperations asyncOperations) {
         ArgumentUtils.requireNonNull("asyncOperations", asyncOperations);
         this.asyncOperations = asyncOperations;
+        this.scheduler = Schedulers.from(asyncOperations.getExecutor());
     }
 
     @NonNull
@@ -172,4 +180,55 @@ public class ExecutorReactiveOperations implements ReactiveRepositoryOperations
                 asyncOperations.deleteAll(operation)
         );
     }
+
+    /**
+     * Creates a publisher that emits the results of a blocking stream as they are requested. The stream is opened upon
+     * subscription and each result is only read once it is demanded by the subscriber. The stream is closed once
+     * it is exhausted, fails or the subscription is cancelled, so implementations should release any resources held by the
+     * stream (such as an open cursor) in {@link Stream#onClose(Runnable)}.
+     *
+     * <p>The stream is read on the executor of the asynchronous operations. The tasks of a subscription run one after
+     * another, though not necessarily on the same thread.</p>
+     *
+     * @param streamSupplier Opens the stream of results
+     * @param <R> The result type
+     * @return The publisher
+     * @since 1.0.1
+     */
+    @NonNull
+    protected <R> Publisher<R> fromStream(@NonNull Callable<Stream<R>> streamSupplier) {
+        return Flowable.generate(
+                () -> new StreamCursor<>(streamSupplier.call()),
+                (StreamCursor<R> cursor, Emitter<R> emitter) -> {
+                    if (cursor.iterator.hasNext()) {
+                        emitter.onNext(cursor.iterator.next());
+                    } else {
+                        emitter.onComplete();
+                    }
+                },
+                StreamCursor::close
+        )
+                .subscribeOn(scheduler)
+                // the stream is also closed on the executor when the subscription is cancelled
+                .unsubscribeOn(scheduler);
+    }
+
+    /**
+     * The state of a stream being emitted.
+     *
+     * @param <R> The result type
+     */
+    private static final class StreamCursor<R> {
+        final Stream<R> stream;
+        final Iterator<R> iterator;
+
+        StreamCursor(Stream<R> stream) {
+            this.stream = stream;
+            this.iterator = stream.iterator();
+        }
+
+        void close() {
+            stream.close();
+        }
+    }
 }
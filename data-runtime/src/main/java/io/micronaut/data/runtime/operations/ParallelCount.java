@@ -0,0 +1,144 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.data.exceptions.DataAccessException;
+import io.micronaut.data.model.Page;
+import io.micronaut.data.model.Pageable;
+import io.micronaut.transaction.SynchronousTransactionManager;
+import io.micronaut.transaction.TransactionOperations;
+import io.micronaut.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Reads a page while the total number of results is counted on another thread, which is used by the operations
+ * when parallel counting is enabled with {@code micronaut.data.pageable.parallel-count}.
+ *
+ * <p>Pages read by a task of an executor returned by {@link #asyncExecutor(Executor)} are counted on the same thread
+ * instead. The count would otherwise be queued on the executor that the waiting task occupies, which never completes
+ * once every thread, or the maximum concurrency, of the executor is taken by such tasks.</p>
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+@Internal
+public final class ParallelCount {
+
+    private static final ThreadLocal<Boolean> ASYNC_OPERATION = new ThreadLocal<>();
+
+    private ParallelCount() {
+    }
+
+    /**
+     * Wraps the executor of asynchronous operations so that pages read by its tasks are counted on the same thread.
+     *
+     * @param executor The executor
+     * @return The wrapped executor
+     */
+    @NonNull
+    public static Executor asyncExecutor(@NonNull Executor executor) {
+        return command -> executor.execute(() -> {
+            if (ASYNC_OPERATION.get() != null) {
+                // executed inline by a task of the executor
+                command.run();
+                return;
+            }
+            ASYNC_OPERATION.set(Boolean.TRUE);
+            try {
+                command.run();
+            } finally {
+                ASYNC_OPERATION.remove();
+            }
+        });
+    }
+
+    /**
+     * Whether a transaction is active or the transaction boundaries are unknown. The count query can then not be
+     * executed on another thread since it would not take part in the transaction.
+     *
+     * @param transactionOperations The transaction operations
+     * @param resource The resource the transaction manager binds, such as the data source or session factory
+     * @return True if a transaction may be active
+     */
+    public static boolean isTransactionActive(@NonNull TransactionOperations<?> transactionOperations, @NonNull Object resource) {
+        return !(transactionOperations instanceof SynchronousTransactionManager) ||
+                TransactionSynchronizationManager.isSynchronizationActive() ||
+                TransactionSynchronizationManager.hasResource(resource);
+    }
+
+    /**
+     * Reads a page, counting the total number of results on the given executor at the same time. The count is
+     * cancelled if the total can be resolved from the page itself or reading the page fails. Within a task of an
+     * asynchronous operation the count is executed after the page on the current thread.
+     *
+     * @param pageable The pageable
+     * @param results Reads the results of the page
+     * @param count Counts the total number of results
+     * @param executor The executor to count on
+     * @param <R> The result type
+     * @return The page
+     */
+    @NonNull
+    public static <R> Page<R> findPage(
+            @NonNull Pageable pageable,
+            @NonNull Supplier<List<R>> results,
+            @NonNull Supplier<Number> count,
+            @NonNull Executor executor) {
+        if (ASYNC_OPERATION.get() != null) {
+            List<R> resultList = results.get();
+            long total = pageable.resolveTotalSize(resultList.size());
+            if (total < 0) {
+                Number n = count.get();
+                total = n != null ? n.longValue() : 0;
+            }
+            return Page.of(resultList, pageable, total);
+        }
+        CompletableFuture<Number> total = CompletableFuture.supplyAsync(count, executor);
+        List<R> resultList;
+        try {
+            resultList = results.get();
+        } catch (RuntimeException e) {
+            total.cancel(false);
+            throw e;
+        }
+        return Page.of(resultList, pageable, resolveTotal(pageable, resultList.size(), total));
+    }
+
+    private static long resolveTotal(Pageable pageable, int numberOfElements, CompletableFuture<Number> count) {
+        long total = pageable.resolveTotalSize(numberOfElements);
+        if (total >= 0) {
+            count.cancel(false);
+            return total;
+        }
+        try {
+            Number n = count.join();
+            return n != null ? n.longValue() : 0;
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new DataAccessException("Error executing count query: " + cause.getMessage(), cause);
+        }
+    }
+}
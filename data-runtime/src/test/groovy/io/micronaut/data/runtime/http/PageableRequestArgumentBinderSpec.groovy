@@ -16,10 +16,13 @@
 package io.micronaut.data.runtime.http
 
 import io.micronaut.core.convert.ConversionContext
+import io.micronaut.data.model.CursoredPageable
 import io.micronaut.data.model.Pageable
 import io.micronaut.data.model.Sort
 import io.micronaut.data.runtime.config.DataConfiguration
 import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.exceptions.HttpStatusException
 import spock.lang.Specification
 import spock.lang.Unroll
 
@@ -68,6 +71,48 @@ class PageableRequestArgumentBinderSpec extends Specification {
         ['name,DESC', 'age'] | Sort.of([Sort.Order.desc("name"), Sort.Order.asc("age")])
     }
 
+    void 'test bind cursor'() {
+        given:
+        PageableRequestArgumentBinder binder = new PageableRequestArgumentBinder(new DataConfiguration.PageableConfiguration())
+        def get = HttpRequest.GET('/')
+        get.parameters.add("size", "20")
+        get.parameters.add("sort", ['name', 'id'])
+        get.parameters.add("cursor", ['Fred', '10'])
+
+        Pageable p = binder.bind(ConversionContext.of(Pageable), get).get()
+
+        expect:
+        p instanceof CursoredPageable
+        p.cursor == ['Fred', '10']
+        p.size == 20
+        p.offset == 0
+        p.orderBy == [Sort.Order.asc("name"), Sort.Order.asc("id")]
+    }
+
+    @Unroll
+    void 'test bind cursor #cursor with sort #sort is rejected'() {
+        given:
+        PageableRequestArgumentBinder binder = new PageableRequestArgumentBinder(new DataConfiguration.PageableConfiguration())
+        def get = HttpRequest.GET('/')
+        if (sort) {
+            get.parameters.add("sort", sort)
+        }
+        get.parameters.add("cursor", cursor)
+
+        when:
+        binder.bind(ConversionContext.of(Pageable), get)
+
+        then:
+        def e = thrown(HttpStatusException)
+        e.status == HttpStatus.BAD_REQUEST
+
+        where:
+        sort           | cursor
+        null           | ['Fred']
+        ['name']       | ['Fred', '10']
+        ['name', 'id'] | ['Fred']
+    }
+
     @Unroll
     void 'test bind size #size and page #page with custom configuration'() {
         given:
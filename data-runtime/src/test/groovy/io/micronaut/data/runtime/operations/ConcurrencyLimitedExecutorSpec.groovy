@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.data.runtime.operations
+
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class ConcurrencyLimitedExecutorSpec extends Specification {
+
+    ExecutorService executorService = Executors.newCachedThreadPool()
+
+    def cleanup() {
+        executorService.shutdown()
+    }
+
+    void "test the number of running tasks is limited"() {
+        given:
+        def executor = new ConcurrencyLimitedExecutor(executorService, 2)
+        def running = new AtomicInteger()
+        def maxRunning = new AtomicInteger()
+        def release = new CountDownLatch(1)
+        def done = new CountDownLatch(10)
+
+        when:"more tasks are submitted than can run concurrently"
+        10.times {
+            executor.execute {
+                int n = running.incrementAndGet()
+                maxRunning.accumulateAndGet(n, { a, b -> Math.max(a, b) })
+                release.await()
+                running.decrementAndGet()
+                done.countDown()
+            }
+        }
+
+        then:"the remaining tasks are queued"
+        new PollingConditions(timeout: 10).eventually { assert running.get() == 2 }
+        executor.queuedTasks == 8
+
+        when:"the running tasks complete"
+        release.countDown()
+
+        then:"the queued tasks are executed"
+        done.await(10, TimeUnit.SECONDS)
+        maxRunning.get() == 2
+        executor.queuedTasks == 0
+    }
+
+    void "test the max concurrency must be positive"() {
+        when:
+        new ConcurrencyLimitedExecutor(executorService, 0)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+}
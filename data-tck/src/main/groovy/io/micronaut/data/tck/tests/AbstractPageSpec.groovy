@@ -15,6 +15,7 @@
  */
 package io.micronaut.data.tck.tests
 
+import io.micronaut.data.model.CursoredPageable
 import io.micronaut.data.model.Page
 import io.micronaut.data.model.Pageable
 import io.micronaut.data.model.Slice
@@ -161,4 +162,49 @@ abstract class AbstractPageSpec extends Specification {
         page.nextPageable().number == 2
 
     }
+
+    void "test cursored pageable"() {
+        given:
+        def sort = Sort.of([Sort.Order.asc("name"), Sort.Order.asc("id")])
+
+        when:"People are sliced through with a cursor"
+        List<String> names = []
+        Slice<Person> slice = personRepository.queryByNameLike("A%", CursoredPageable.from(7, sort))
+        while (!slice.isEmpty()) {
+            names.addAll(slice.content*.name)
+            slice = personRepository.queryByNameLike("A%", slice.nextPageable())
+        }
+
+        then:"every person is returned once and in order"
+        names.size() == 50
+        names.unique(false).size() == 50
+        names == names.sort(false)
+
+        when:"All the people are paged with a cursor"
+        Page<Person> page = personRepository.findAll(CursoredPageable.from(10, sort))
+        Page<Person> nextPage = personRepository.findAll(page.nextPageable())
+
+        then:"the next page follows the first"
+        page.content.size() == 10
+        page.totalSize == 1300
+        nextPage.content.size() == 10
+        nextPage.content[0].name > page.content[9].name
+        nextPage.totalSize == 1300
+    }
+
+    void "test pageable total of the last page"() {
+        when:"The last page is retrieved"
+        Page<Person> page = personRepository.findByNameLike("A%", Pageable.from(7, 7))
+
+        then:"the total is correct"
+        page.content.size() == 1
+        page.totalSize == 50
+
+        when:"A page past the last page is retrieved"
+        page = personRepository.findByNameLike("A%", Pageable.from(10, 7))
+
+        then:"the total is correct"
+        page.content.isEmpty()
+        page.totalSize == 50
+    }
 }
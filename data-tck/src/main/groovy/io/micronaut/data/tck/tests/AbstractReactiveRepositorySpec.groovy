@@ -68,6 +68,23 @@ abstract class AbstractReactiveRepositorySpec extends Specification {
         personRepository.list(Pageable.from(0, 1)).toList().blockingGet().size() == 1
     }
 
+    void "test find all emits results on demand"() {
+        when:"only the first result is requested"
+        def subscriber = personRepository.findAll().test(1)
+        subscriber.awaitCount(1)
+
+        then:"only one result is emitted"
+        subscriber.assertValueCount(1)
+        subscriber.assertNotComplete()
+
+        when:"the subscription is cancelled"
+        subscriber.cancel()
+
+        then:"the results can be read again"
+        personRepository.findAll().take(2).toList().blockingGet().size() == 2
+        personRepository.findAll().toList().blockingGet().size() == 5
+    }
+
     void "test delete by id"() {
         when:"an entity is retrieved"
         def person = personRepository.findByName("Frank").blockingGet()
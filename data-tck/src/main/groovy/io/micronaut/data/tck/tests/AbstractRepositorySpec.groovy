@@ -197,6 +197,15 @@ abstract class AbstractRepositorySpec extends Specification {
         then:
         personRepository.findByName("Jack") == null
         personRepository.findByName("Jeffrey").age == 30
+
+        when:"Several entities are updated"
+        def jeffrey = personRepository.findByName("Jeffrey")
+        jeffrey.setAge(31)
+        def updatedPeople = personRepository.updateAll([jeffrey])
+
+        then:
+        updatedPeople.size() == 1
+        personRepository.findByName("Jeffrey").age == 31
     }
 
     void "test delete all"() {
@@ -13,6 +13,8 @@ import io.micronaut.inject.qualifiers.Qualifiers;
 import io.micronaut.transaction.SynchronousTransactionManager;
 import io.micronaut.transaction.TransactionDefinition;
 import io.micronaut.transaction.TransactionStatus;
+import io.micronaut.transaction.support.DefaultTransactionStatus;
+import io.micronaut.transaction.support.TransactionSynchronizationManager;
 import io.micronaut.transaction.exceptions.NoTransactionException;
 import io.micronaut.transaction.exceptions.TransactionSystemException;
 import io.micronaut.transaction.annotation.TransactionalAdvice;
@@ -22,6 +24,9 @@ import org.slf4j.LoggerFactory;
 import javax.inject.Singleton;
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -80,7 +85,10 @@ public class TransactionalInterceptor implements MethodInterceptor<Object, Objec
                     beanLocator.getBean(SynchronousTransactionManager.class, qualifier != null ? Qualifiers.byName(qualifier) : null);
             final TransactionAttribute transactionAttribute = resolveTransactionDefinition(executableMethod);
 
-            return new TransactionInvocation(transactionManager, transactionAttribute);
+            Class<?> returnType = executableMethod.getReturnType().getType();
+            boolean completionStage = CompletionStage.class.isAssignableFrom(returnType) &&
+                    returnType.isAssignableFrom(CompletableFuture.class);
+            return new TransactionInvocation(transactionManager, transactionAttribute, completionStage);
         });
         final TransactionAttribute definition = transactionInvocation.definition;
         final SynchronousTransactionManager transactionManager = transactionInvocation.transactionManager;
@@ -88,6 +96,11 @@ public class TransactionalInterceptor implements MethodInterceptor<Object, Objec
                 transactionManager,
                 definition,
                 definition.getName());
+        final boolean asynchronous = transactionInvocation.completionStage && isCompletableOnAnotherThread(transactionInfo);
+        if (asynchronous) {
+            // only work of a transaction that outlives the method takes part in it on other threads
+            TransactionSynchronizationManager.setCurrentTransactionAsynchronous(true);
+        }
         Object retVal;
         try {
             retVal = context.proceed();
@@ -97,10 +110,67 @@ public class TransactionalInterceptor implements MethodInterceptor<Object, Objec
         } finally {
             cleanupTransactionInfo(transactionInfo);
         }
+        if (asynchronous && retVal instanceof CompletionStage) {
+            //noinspection unchecked
+            return completeTransactionOnCompletion(transactionInfo, (CompletionStage<Object>) retVal);
+        }
         commitTransactionAfterReturning(transactionInfo);
         return retVal;
     }
 
+    /**
+     * Whether the transaction can be completed on another thread, which is the case for a new transaction that
+     * neither suspended another transaction nor joined existing synchronization.
+     * @param txInfo information about the current transaction
+     * @return True if the transaction can be completed on another thread
+     */
+    private boolean isCompletableOnAnotherThread(TransactionInfo txInfo) {
+        TransactionStatus status = txInfo.getTransactionStatus();
+        if (status instanceof DefaultTransactionStatus) {
+            DefaultTransactionStatus<?> defaultStatus = (DefaultTransactionStatus<?>) status;
+            return defaultStatus.isNewTransaction() &&
+                    defaultStatus.isNewSynchronization() &&
+                    defaultStatus.getSuspendedResources() == null;
+        }
+        return false;
+    }
+
+    /**
+     * Completes the transaction once the given stage completes, instead of when the method returns. The transaction
+     * state is detached from the current thread, and work submitted with a
+     * {@link io.micronaut.transaction.support.TransactionPropagatingExecutor} before the stage completes takes part
+     * in the transaction.
+     * @param txInfo information about the current transaction
+     * @param stage The stage returned by the method
+     * @return A future that completes once the transaction is completed
+     */
+    private CompletableFuture<Object> completeTransactionOnCompletion(TransactionInfo txInfo, CompletionStage<Object> stage) {
+        TransactionSynchronizationManager.TransactionSynchronizationState state = TransactionSynchronizationManager.setState(null);
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        stage.whenComplete((value, error) -> {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            TransactionSynchronizationManager.TransactionSynchronizationState previous = TransactionSynchronizationManager.setState(state);
+            try {
+                if (cause == null) {
+                    commitTransactionAfterReturning(txInfo);
+                } else {
+                    completeTransactionAfterThrowing(txInfo, cause);
+                }
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+                return;
+            } finally {
+                TransactionSynchronizationManager.setState(previous);
+            }
+            if (cause == null) {
+                result.complete(value);
+            } else {
+                result.completeExceptionally(cause);
+            }
+        });
+        return result;
+    }
+
     @Nullable
     private static TransactionInfo currentTransactionInfo() throws NoTransactionException {
         return TRANSACTION_INFO_HOLDER.get();
@@ -268,10 +338,12 @@ public class TransactionalInterceptor implements MethodInterceptor<Object, Objec
     private final class TransactionInvocation {
         final SynchronousTransactionManager transactionManager;
         final TransactionAttribute definition;
+        final boolean completionStage;
 
-        TransactionInvocation(SynchronousTransactionManager transactionManager, TransactionAttribute definition) {
+        TransactionInvocation(SynchronousTransactionManager transactionManager, TransactionAttribute definition, boolean completionStage) {
             this.transactionManager = transactionManager;
             this.definition = definition;
+            this.completionStage = completionStage;
         }
     }
 
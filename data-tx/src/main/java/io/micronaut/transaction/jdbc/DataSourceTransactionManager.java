@@ -31,6 +31,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.Duration;
 import java.util.Objects;
+import javax.inject.Inject;
 import javax.sql.DataSource;
 
 
@@ -106,6 +107,18 @@ public class DataSourceTransactionManager extends AbstractSynchronousTransaction
         this.dataSource = dataSource;
     }
 
+    /**
+     * Create a new DataSourceTransactionManager instance.
+     * @param dataSource the JDBC DataSource to manage transactions for
+     * @param transactionInstrumentation the instrumentation that receives the timings, if any
+     * @since 1.0.1
+     */
+    @Inject
+    public DataSourceTransactionManager(@NonNull DataSource dataSource, @Nullable TransactionInstrumentation transactionInstrumentation) {
+        this(dataSource);
+        setTransactionInstrumentation(transactionInstrumentation);
+    }
+
     /**
      * @return Return the JDBC DataSource that this instance manages transactions for.
      */
@@ -184,7 +197,13 @@ public class DataSourceTransactionManager extends AbstractSynchronousTransaction
         try {
             if (!txObject.hasConnectionHolder() ||
                     txObject.getConnectionHolder().isSynchronizedWithTransaction()) {
-                Connection newCon = dataSource.getConnection();
+                TransactionInstrumentation instrumentation = getTransactionInstrumentation();
+                boolean instrumented = instrumentation != TransactionInstrumentation.NOOP;
+                long start = instrumented ? System.nanoTime() : 0L;
+                Connection newCon = obtainConnection(definition);
+                if (instrumented) {
+                    instrumentation.connectionAcquired(System.nanoTime() - start);
+                }
                 if (logger.isDebugEnabled()) {
                     logger.debug("Acquired Connection [" + newCon + "] for JDBC transaction");
                 }
@@ -230,6 +249,22 @@ public class DataSourceTransactionManager extends AbstractSynchronousTransaction
         }
     }
 
+    /**
+     * Obtain a new connection for a transaction. If the data source is a {@link ReadReplicaRoutingDataSource}, the
+     * connection of a read-only transaction is obtained from a read replica.
+     *
+     * @param definition The transaction definition
+     * @return The connection
+     * @throws SQLException If no connection could be obtained
+     * @since 1.0.1
+     */
+    protected Connection obtainConnection(TransactionDefinition definition) throws SQLException {
+        if (dataSource instanceof ReadReplicaRoutingDataSource) {
+            return ((ReadReplicaRoutingDataSource) dataSource).getConnection(definition.isReadOnly());
+        }
+        return dataSource.getConnection();
+    }
+
     @Override
     protected Object doSuspend(Object transaction) {
         DataSourceTransactionObject txObject = (DataSourceTransactionObject) transaction;
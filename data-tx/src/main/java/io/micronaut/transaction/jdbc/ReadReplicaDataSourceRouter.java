@@ -0,0 +1,77 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.transaction.jdbc;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.event.BeanCreatedEvent;
+import io.micronaut.context.event.BeanCreatedEventListener;
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.util.ArrayUtils;
+import io.micronaut.inject.qualifiers.Qualifiers;
+
+import javax.inject.Singleton;
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Wraps each data source that declares read replicas with {@code datasources.[name].read-replicas} in a
+ * {@link ReadReplicaRoutingDataSource}. The replicas are referenced by the names of other configured data sources and
+ * are selected as configured with {@code datasources.[name].replica-selection}.
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+@Internal
+@Singleton
+class ReadReplicaDataSourceRouter implements BeanCreatedEventListener<DataSource> {
+
+    private static final String PREFIX = "datasources.";
+
+    private final ApplicationContext applicationContext;
+
+    /**
+     * Default constructor.
+     * @param applicationContext The application context
+     */
+    ReadReplicaDataSourceRouter(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public DataSource onCreated(BeanCreatedEvent<DataSource> event) {
+        DataSource dataSource = event.getBean();
+        if (dataSource instanceof ReadReplicaRoutingDataSource) {
+            return dataSource;
+        }
+        String name = event.getBeanIdentifier().getName();
+        String[] replicaNames = applicationContext.getProperty(PREFIX + name + ".read-replicas", String[].class).orElse(null);
+        if (ArrayUtils.isEmpty(replicaNames)) {
+            return dataSource;
+        }
+        List<DataSource> replicas = new ArrayList<>(replicaNames.length);
+        for (String replicaName : replicaNames) {
+            if (!replicaName.equals(name)) {
+                replicas.add(applicationContext.getBean(DataSource.class, Qualifiers.byName(replicaName)));
+            }
+        }
+        ReadReplicaRoutingDataSource.Selection selection = applicationContext.getProperty(
+                PREFIX + name + ".replica-selection",
+                ReadReplicaRoutingDataSource.Selection.class
+        ).orElse(ReadReplicaRoutingDataSource.Selection.ROUND_ROBIN);
+        return new ReadReplicaRoutingDataSource(dataSource, replicas, selection);
+    }
+}
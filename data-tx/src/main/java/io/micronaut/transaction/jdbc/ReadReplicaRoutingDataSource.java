@@ -0,0 +1,229 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.transaction.jdbc;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.micronaut.transaction.support.TransactionSynchronizationManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+
+/**
+ * A {@link DataSource} that routes the connections of read-only transactions to one or more read replicas and all
+ * other connections to the primary data source.
+ *
+ * <p>Connections for new transactions are obtained by the {@link DataSourceTransactionManager} through
+ * {@link #getConnection(boolean)} with the read-only flag of the transaction definition. Connections obtained outside
+ * of a transaction manager through {@link #getConnection()} are routed to a replica only if the current
+ * transaction synchronization is read-only and no actual transaction is active. Operations that participate in an
+ * existing read-write transaction always use the connection of that transaction, and hence the primary.</p>
+ *
+ * <p>If a replica fails to provide a connection, the primary is used instead.</p>
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+public class ReadReplicaRoutingDataSource extends DelegatingDataSource {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReadReplicaRoutingDataSource.class);
+
+    private final List<Replica> replicas;
+    private final Selection selection;
+    private final AtomicInteger counter = new AtomicInteger();
+
+    /**
+     * Default constructor.
+     * @param primary The primary data source
+     * @param replicas The read replicas
+     * @param selection How to select the replica for a read-only connection
+     */
+    public ReadReplicaRoutingDataSource(
+            @NonNull DataSource primary,
+            @NonNull List<DataSource> replicas,
+            @NonNull Selection selection) {
+        super(primary);
+        Objects.requireNonNull(replicas, "Replicas cannot be null");
+        Objects.requireNonNull(selection, "Selection cannot be null");
+        List<Replica> list = new ArrayList<>(replicas.size());
+        for (DataSource replica : replicas) {
+            list.add(new Replica(replica));
+        }
+        this.replicas = Collections.unmodifiableList(list);
+        this.selection = selection;
+    }
+
+    /**
+     * @return The read replicas
+     */
+    @NonNull
+    public List<DataSource> getReplicas() {
+        List<DataSource> dataSources = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas) {
+            dataSources.add(replica.dataSource);
+        }
+        return dataSources;
+    }
+
+    /**
+     * @return How the replica for a read-only connection is selected
+     */
+    @NonNull
+    public Selection getSelection() {
+        return selection;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        boolean readOnly = TransactionSynchronizationManager.isSynchronizationActive() &&
+                !TransactionSynchronizationManager.isActualTransactionActive() &&
+                TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        return getConnection(readOnly);
+    }
+
+    /**
+     * Obtain a connection for the given access mode.
+     * @param readOnly Whether the connection is used for read-only access
+     * @return A connection from a replica if {@code readOnly} is true and replicas are configured, otherwise from the primary
+     * @throws SQLException If no connection could be obtained
+     */
+    public Connection getConnection(boolean readOnly) throws SQLException {
+        if (readOnly && !replicas.isEmpty()) {
+            Replica replica = selectReplica();
+            try {
+                if (isTrackingActive()) {
+                    return replica.getTrackedConnection();
+                }
+                return replica.dataSource.getConnection();
+            } catch (SQLException e) {
+                if (LOG.isWarnEnabled()) {
+                    LOG.warn("Could not obtain read-only connection from replica, falling back to primary: " + e.getMessage(), e);
+                }
+            }
+        }
+        return getTargetDataSource().getConnection();
+    }
+
+    /**
+     * @return Whether the connections in use have to be counted, which is only the case if there is more than one replica to choose from
+     */
+    private boolean isTrackingActive() {
+        return selection == Selection.LEAST_ACTIVE && replicas.size() > 1;
+    }
+
+    private Replica selectReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(counter.getAndIncrement(), size);
+        if (!isTrackingActive()) {
+            return replicas.get(start);
+        }
+        Replica selected = replicas.get(start);
+        int least = selected.active.get();
+        for (int i = 1; i < size && least > 0; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            int active = replica.active.get();
+            if (active < least) {
+                selected = replica;
+                least = active;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * How the replica for a read-only connection is selected.
+     */
+    public enum Selection {
+        /**
+         * Cycle through the replicas.
+         */
+        ROUND_ROBIN,
+        /**
+         * Select the replica with the fewest connections currently in use, cycling through the replicas on a tie.
+         */
+        LEAST_ACTIVE
+    }
+
+    /**
+     * A replica and the number of its connections currently in use, which is only counted for {@link Selection#LEAST_ACTIVE}.
+     */
+    private static final class Replica {
+        final DataSource dataSource;
+        final AtomicInteger active = new AtomicInteger();
+
+        Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        Connection getTrackedConnection() throws SQLException {
+            Connection connection = dataSource.getConnection();
+            active.incrementAndGet();
+            return (Connection) Proxy.newProxyInstance(
+                    ReadReplicaRoutingDataSource.class.getClassLoader(),
+                    new Class[]{Connection.class},
+                    new ReplicaConnectionHandler(connection, active)
+            );
+        }
+    }
+
+    /**
+     * Invocation handler that tracks when a replica connection is closed.
+     */
+    private static final class ReplicaConnectionHandler implements InvocationHandler {
+        private final Connection target;
+        private final AtomicInteger active;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        ReplicaConnectionHandler(Connection target, AtomicInteger active) {
+            this.target = target;
+            this.active = active;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "close":
+                    if (closed.compareAndSet(false, true)) {
+                        active.decrementAndGet();
+                    }
+                    break;
+                default:
+                    // fall through to the target
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
@@ -127,6 +127,8 @@ public abstract class AbstractSynchronousTransactionManager<T> implements Synchr
 
     private boolean rollbackOnCommitFailure = false;
 
+    private transient TransactionInstrumentation transactionInstrumentation = TransactionInstrumentation.NOOP;
+
     @Override
     public <R> R execute(@NonNull TransactionDefinition definition, @NonNull TransactionCallback<T, R> callback) {
         Objects.requireNonNull(definition, "Definition should not be null");
@@ -381,6 +383,24 @@ public abstract class AbstractSynchronousTransactionManager<T> implements Synchr
         return this.rollbackOnCommitFailure;
     }
 
+    /**
+     * Set the instrumentation that receives the duration of the transactions started by this
+     * transaction manager. Defaults to {@link TransactionInstrumentation#NOOP}.
+     * @param transactionInstrumentation The instrumentation, or {@code null} to disable it
+     * @since 1.0.1
+     */
+    public final void setTransactionInstrumentation(@Nullable TransactionInstrumentation transactionInstrumentation) {
+        this.transactionInstrumentation = transactionInstrumentation != null ? transactionInstrumentation : TransactionInstrumentation.NOOP;
+    }
+
+    /**
+     * @return The instrumentation that receives the timings of this transaction manager
+     * @since 1.0.1
+     */
+    public final @NonNull TransactionInstrumentation getTransactionInstrumentation() {
+        return this.transactionInstrumentation;
+    }
+
 
     //---------------------------------------------------------------------
     // Implementation of PlatformTransactionManager
@@ -674,8 +694,10 @@ public abstract class AbstractSynchronousTransactionManager<T> implements Synchr
                 TransactionSynchronizationManager.setCurrentTransactionIsolationLevel(null);
                 boolean wasActive = TransactionSynchronizationManager.isActualTransactionActive();
                 TransactionSynchronizationManager.setActualTransactionActive(false);
+                boolean asynchronous = TransactionSynchronizationManager.isCurrentTransactionAsynchronous();
+                TransactionSynchronizationManager.setCurrentTransactionAsynchronous(false);
                 return new SuspendedResourcesHolder(
-                        suspendedResources, suspendedSynchronizations, name, readOnly, isolationLevel, wasActive);
+                        suspendedResources, suspendedSynchronizations, name, readOnly, isolationLevel, wasActive, asynchronous);
             } catch (RuntimeException | Error ex) {
                 // doSuspend failed - original transaction is still active...
                 doResumeSynchronization(suspendedSynchronizations);
@@ -716,6 +738,7 @@ public abstract class AbstractSynchronousTransactionManager<T> implements Synchr
                 TransactionSynchronizationManager.setCurrentTransactionIsolationLevel(resourcesHolder.isolationLevel);
                 TransactionSynchronizationManager.setCurrentTransactionReadOnly(resourcesHolder.readOnly);
                 TransactionSynchronizationManager.setCurrentTransactionName(resourcesHolder.name);
+                TransactionSynchronizationManager.setCurrentTransactionAsynchronous(resourcesHolder.asynchronous);
                 doResumeSynchronization(suspendedSynchronizations);
             }
         }
@@ -1026,6 +1049,9 @@ public abstract class AbstractSynchronousTransactionManager<T> implements Synchr
      * @param completionStatus completion status according to TransactionSynchronization constants
      */
     private void triggerAfterCompletion(DefaultTransactionStatus status, TransactionSynchronization.Status completionStatus) {
+        if (status.isNewTransaction() && transactionInstrumentation != TransactionInstrumentation.NOOP) {
+            transactionInstrumentation.transactionCompleted(completionStatus, System.nanoTime() - status.getStartTime());
+        }
         if (status.isNewSynchronization()) {
             List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
             TransactionSynchronizationManager.clearSynchronization();
@@ -1338,6 +1364,7 @@ public abstract class AbstractSynchronousTransactionManager<T> implements Synchr
 
         // Initialize transient fields.
         this.logger = LoggerFactory.getLogger(getClass());
+        this.transactionInstrumentation = TransactionInstrumentation.NOOP;
     }
 
     /**
@@ -1383,13 +1410,16 @@ public abstract class AbstractSynchronousTransactionManager<T> implements Synchr
 
         private boolean wasActive;
 
+        private boolean asynchronous;
+
         private SuspendedResourcesHolder(Object suspendedResources) {
             this.suspendedResources = suspendedResources;
         }
 
         private SuspendedResourcesHolder(
                 @Nullable Object suspendedResources, List<TransactionSynchronization> suspendedSynchronizations,
-                @Nullable String name, boolean readOnly, @Nullable TransactionDefinition.Isolation isolationLevel, boolean wasActive) {
+                @Nullable String name, boolean readOnly, @Nullable TransactionDefinition.Isolation isolationLevel, boolean wasActive,
+                boolean asynchronous) {
 
             this.suspendedResources = suspendedResources;
             this.suspendedSynchronizations = suspendedSynchronizations;
@@ -1397,6 +1427,7 @@ public abstract class AbstractSynchronousTransactionManager<T> implements Synchr
             this.readOnly = readOnly;
             this.isolationLevel = isolationLevel;
             this.wasActive = wasActive;
+            this.asynchronous = asynchronous;
         }
     }
 
@@ -68,6 +68,8 @@ public class DefaultTransactionStatus<T> extends AbstractTransactionStatus<T> {
 
     private final Supplier<T> connectionSupplier;
 
+    private final long startTime = System.nanoTime();
+
     /**
      * Create a new {@code DefaultTransactionStatus} instance.
      * @param transaction underlying transaction object that can hold state
@@ -139,6 +141,17 @@ public class DefaultTransactionStatus<T> extends AbstractTransactionStatus<T> {
         return this.newSynchronization;
     }
 
+    /**
+     * Return the value of {@link System#nanoTime()} when this status was created,
+     * which for a new transaction is the time it was started.
+     *
+     * @return The start time in nanoseconds
+     * @since 1.0.1
+     */
+    public long getStartTime() {
+        return this.startTime;
+    }
+
     /**
      * Return if this transaction is defined as read-only transaction.
      *
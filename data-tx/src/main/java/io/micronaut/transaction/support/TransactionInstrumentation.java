@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.transaction.support;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Receives timings from a {@link AbstractSynchronousTransactionManager}. Implementations are called on the hot path
+ * and should therefore do as little work as possible, in particular they should neither block nor throw.
+ *
+ * @author agent
+ * @since 1.0.1
+ */
+public interface TransactionInstrumentation {
+
+    /**
+     * Instrumentation that ignores all timings.
+     */
+    TransactionInstrumentation NOOP = new TransactionInstrumentation() { };
+
+    /**
+     * Called when a connection has been obtained from the underlying resource to begin a transaction.
+     *
+     * @param nanos The time it took to acquire the connection, in nanoseconds
+     */
+    default void connectionAcquired(long nanos) {
+        // no-op
+    }
+
+    /**
+     * Called when a transaction that was started by the transaction manager completes.
+     *
+     * @param status The completion status
+     * @param nanos The time from the start of the transaction to its completion, in nanoseconds
+     */
+    default void transactionCompleted(@NonNull TransactionSynchronization.Status status, long nanos) {
+        // no-op
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017-2019 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.transaction.support;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * An {@link Executor} that runs each task with the transaction state of the thread that submitted it, if that thread
+ * runs a transaction that is completed asynchronously. That is the case for a {@code Transactional} method returning
+ * a {@link java.util.concurrent.CompletionStage}, whose transaction is completed once the returned stage completes.
+ * Work submitted within such a transaction therefore takes part in it, using the same connection, and tasks that are
+ * submitted by such work in turn propagate the transaction further. Tasks submitted within a transaction that is
+ * completed on the submitting thread run without transaction state, since they could otherwise use the connection
+ * concurrently with the submitting thread or outlive the transaction.
+ *
+ * <p>Tasks sharing a transaction should be executed one after another, for example as a chain of
+ * {@link java.util.concurrent.CompletionStage} callbacks, since the resources of a transaction such as a JDBC
+ * connection are generally not safe for concurrent use.</p>
+ *
+ * @author agent
+ * @since 1.0.1
+ * @see TransactionSynchronizationManager#getState()
+ * @see TransactionSynchronizationManager#isCurrentTransactionAsynchronous()
+ */
+public class TransactionPropagatingExecutor implements Executor {
+
+    private final Executor executor;
+
+    /**
+     * Default constructor.
+     * @param executor The target executor
+     */
+    public TransactionPropagatingExecutor(@NonNull Executor executor) {
+        Objects.requireNonNull(executor, "Executor cannot be null");
+        this.executor = executor;
+    }
+
+    /**
+     * @return The target executor
+     */
+    @NonNull
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    @Override
+    public void execute(@NonNull Runnable command) {
+        TransactionSynchronizationManager.TransactionSynchronizationState state = TransactionSynchronizationManager.getState();
+        if (state == null || !state.isActualTransactionActive() || !state.isAsynchronous()) {
+            executor.execute(command);
+        } else {
+            executor.execute(() -> {
+                TransactionSynchronizationManager.TransactionSynchronizationState previous = TransactionSynchronizationManager.setState(state);
+                try {
+                    command.run();
+                } finally {
+                    TransactionSynchronizationManager.setState(previous);
+                }
+            });
+        }
+    }
+}
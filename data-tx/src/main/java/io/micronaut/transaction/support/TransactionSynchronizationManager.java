@@ -118,6 +118,15 @@ public abstract class TransactionSynchronizationManager {
                 }
             };
 
+    @SuppressWarnings("unchecked")
+    private static final ThreadLocal<Boolean> CURRENT_TRANSACTION_ASYNCHRONOUS =
+            new ThreadLocal() {
+                @Override
+                public String toString() {
+                    return "Current transaction asynchronous completion";
+                }
+            };
+
 
     //-------------------------------------------------------------------------
     // Management of transaction-associated resource handles
@@ -483,6 +492,29 @@ public abstract class TransactionSynchronizationManager {
         return (ACTUAL_TRANSACTION_ACTIVE.get() != null);
     }
 
+    /**
+     * Expose whether the current transaction is completed asynchronously, once a
+     * {@link java.util.concurrent.CompletionStage} completes rather than on the current thread.
+     * Called by the transaction interceptor on transaction begin; reset on cleanup.
+     * @param asynchronous {@code true} to mark the current transaction as completed asynchronously;
+     * {@code false} to reset that marker
+     * @see TransactionPropagatingExecutor
+     * @since 1.0.1
+     */
+    public static void setCurrentTransactionAsynchronous(boolean asynchronous) {
+        CURRENT_TRANSACTION_ASYNCHRONOUS.set(asynchronous ? Boolean.TRUE : null);
+    }
+
+    /**
+     * Return whether the current transaction is completed asynchronously, in which case work submitted to a
+     * {@link TransactionPropagatingExecutor} takes part in the transaction.
+     * @return Whether the current transaction is completed asynchronously
+     * @since 1.0.1
+     */
+    public static boolean isCurrentTransactionAsynchronous() {
+        return (CURRENT_TRANSACTION_ASYNCHRONOUS.get() != null);
+    }
+
 
     /**
      * Clear the entire transaction synchronization state for the current thread:
@@ -499,6 +531,122 @@ public abstract class TransactionSynchronizationManager {
         CURRENT_TRANSACTION_READ_ONLY.remove();
         CURRENT_TRANSACTION_ISOLATION_LEVEL.remove();
         ACTUAL_TRANSACTION_ACTIVE.remove();
+        CURRENT_TRANSACTION_ASYNCHRONOUS.remove();
     }
 
+
+    //-------------------------------------------------------------------------
+    // Propagation of the transaction state to other threads
+    //-------------------------------------------------------------------------
+
+    /**
+     * Capture the bound resources and the transaction synchronization state of the current thread, so that
+     * the work of the current transaction can continue on another thread with {@link #setState(TransactionSynchronizationState)}.
+     * The captured state holds a copy of the registered synchronizations, hence synchronizations registered on
+     * another thread after the state is applied there are not invoked when the transaction completes.
+     * @return The captured state or {@code null} if no resources are bound and synchronization is not active
+     * @since 1.0.1
+     */
+    @Nullable
+    public static TransactionSynchronizationState getState() {
+        Map<Object, Object> resources = RESOURCES.get();
+        Set<TransactionSynchronization> synchs = SYNCHRONIZATIONS.get();
+        if ((resources == null || resources.isEmpty()) && synchs == null) {
+            return null;
+        }
+        return new TransactionSynchronizationState(
+                resources != null ? new HashMap<>(resources) : Collections.emptyMap(),
+                synchs != null ? new LinkedHashSet<>(synchs) : null,
+                CURRENT_TRANSACTION_NAME.get(),
+                CURRENT_TRANSACTION_READ_ONLY.get(),
+                CURRENT_TRANSACTION_ISOLATION_LEVEL.get(),
+                ACTUAL_TRANSACTION_ACTIVE.get(),
+                CURRENT_TRANSACTION_ASYNCHRONOUS.get()
+        );
+    }
+
+    /**
+     * Replace the bound resources and the transaction synchronization state of the current thread.
+     * @param state The state to apply, or {@code null} to clear the state of the current thread
+     * @return The previous state of the current thread, to be restored once the work with the given state is done
+     * @since 1.0.1
+     */
+    @Nullable
+    public static TransactionSynchronizationState setState(@Nullable TransactionSynchronizationState state) {
+        TransactionSynchronizationState previous = getState();
+        RESOURCES.remove();
+        clear();
+        if (state != null) {
+            if (!state.resources.isEmpty()) {
+                RESOURCES.set(new HashMap<>(state.resources));
+            }
+            if (state.synchronizations != null) {
+                // each thread gets its own copy, since a state may be applied to several threads
+                SYNCHRONIZATIONS.set(new LinkedHashSet<>(state.synchronizations));
+            }
+            CURRENT_TRANSACTION_NAME.set(state.name);
+            CURRENT_TRANSACTION_READ_ONLY.set(state.readOnly);
+            CURRENT_TRANSACTION_ISOLATION_LEVEL.set(state.isolationLevel);
+            ACTUAL_TRANSACTION_ACTIVE.set(state.actualTransactionActive);
+            CURRENT_TRANSACTION_ASYNCHRONOUS.set(state.asynchronous);
+        }
+        return previous;
+    }
+
+    /**
+     * The resources and transaction synchronization state of a thread.
+     *
+     * @since 1.0.1
+     * @see #getState()
+     * @see #setState(TransactionSynchronizationState)
+     */
+    public static final class TransactionSynchronizationState {
+        private final Map<Object, Object> resources;
+        private final @Nullable Set<TransactionSynchronization> synchronizations;
+        private final @Nullable String name;
+        private final @Nullable Boolean readOnly;
+        private final @Nullable TransactionDefinition.Isolation isolationLevel;
+        private final @Nullable Boolean actualTransactionActive;
+        private final @Nullable Boolean asynchronous;
+
+        private TransactionSynchronizationState(
+                Map<Object, Object> resources,
+                @Nullable Set<TransactionSynchronization> synchronizations,
+                @Nullable String name,
+                @Nullable Boolean readOnly,
+                @Nullable TransactionDefinition.Isolation isolationLevel,
+                @Nullable Boolean actualTransactionActive,
+                @Nullable Boolean asynchronous) {
+            this.resources = resources;
+            this.synchronizations = synchronizations;
+            this.name = name;
+            this.readOnly = readOnly;
+            this.isolationLevel = isolationLevel;
+            this.actualTransactionActive = actualTransactionActive;
+            this.asynchronous = asynchronous;
+        }
+
+        /**
+         * @return Whether an actual transaction is active
+         */
+        public boolean isActualTransactionActive() {
+            return actualTransactionActive != null;
+        }
+
+        /**
+         * @return Whether the transaction is completed asynchronously
+         * @see TransactionSynchronizationManager#isCurrentTransactionAsynchronous()
+         */
+        public boolean isAsynchronous() {
+            return asynchronous != null;
+        }
+
+        /**
+         * @param key The resource key
+         * @return Whether a resource is bound for the given key
+         */
+        public boolean hasResource(Object key) {
+            return resources.containsKey(key);
+        }
+    }
 }
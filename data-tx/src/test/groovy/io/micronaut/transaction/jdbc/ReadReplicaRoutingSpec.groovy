@@ -0,0 +1,103 @@
+package io.micronaut.transaction.jdbc
+
+import io.micronaut.context.annotation.Property
+import io.micronaut.test.annotation.MicronautTest
+import io.micronaut.transaction.SynchronousTransactionManager
+import spock.lang.Specification
+
+import javax.inject.Inject
+import javax.inject.Named
+import javax.sql.DataSource
+import java.sql.Connection
+
+@MicronautTest(transactional = false)
+@Property(name = "datasources.default.name", value = "mydb")
+@Property(name = "datasources.default.read-replicas", value = "replica")
+@Property(name = "datasources.replica.name", value = "replicadb")
+class ReadReplicaRoutingSpec extends Specification {
+
+    @Inject
+    @Named("default")
+    DataSource dataSource
+
+    @Inject
+    @Named("default")
+    SynchronousTransactionManager<Connection> transactionManager
+
+    void "test the data source is wrapped with a routing data source"() {
+        expect:
+        dataSource instanceof ReadReplicaRoutingDataSource
+        ((ReadReplicaRoutingDataSource) dataSource).replicas.size() == 1
+    }
+
+    void "test read-only transactions are routed to the replica"() {
+        expect:"read-only transactions to use the replica"
+        transactionManager.executeRead { status -> status.connection.metaData.URL }.contains("replicadb")
+
+        and:"read-write transactions to use the primary"
+        transactionManager.executeWrite { status -> status.connection.metaData.URL }.contains("mydb")
+    }
+
+    void "test reads within a write transaction use the primary"() {
+        when:
+        String url = transactionManager.executeWrite {
+            transactionManager.executeRead { status -> status.connection.metaData.URL }
+        }
+
+        then:
+        url.contains("mydb")
+    }
+
+    void "test replicas are selected by their active connections"() {
+        given:
+        DataSource replica1 = Mock(DataSource)
+        DataSource replica2 = Mock(DataSource)
+        Connection connection1 = Mock(Connection)
+        Connection connection2 = Mock(Connection)
+        def routing = new ReadReplicaRoutingDataSource(
+                dataSource,
+                [replica1, replica2],
+                ReadReplicaRoutingDataSource.Selection.LEAST_ACTIVE
+        )
+
+        when:"two connections are open at the same time"
+        routing.getConnection(true)
+        Connection second = routing.getConnection(true)
+
+        then:"they are obtained from different replicas"
+        1 * replica1.getConnection() >> connection1
+        1 * replica2.getConnection() >> connection2
+
+        when:"the second is closed and another is obtained"
+        second.close()
+        routing.getConnection(true)
+
+        then:"the replica without active connections is selected"
+        1 * connection2.close()
+        1 * replica2.getConnection() >> connection2
+        0 * replica1.getConnection()
+    }
+
+    void "test replica connections are returned as is for round robin selection"() {
+        given:
+        DataSource replica1 = Mock(DataSource)
+        DataSource replica2 = Mock(DataSource)
+        Connection connection1 = Mock(Connection)
+        Connection connection2 = Mock(Connection)
+        def routing = new ReadReplicaRoutingDataSource(
+                dataSource,
+                [replica1, replica2],
+                ReadReplicaRoutingDataSource.Selection.ROUND_ROBIN
+        )
+
+        when:
+        Connection first = routing.getConnection(true)
+        Connection second = routing.getConnection(true)
+
+        then:"the connections of the replicas are not wrapped"
+        1 * replica1.getConnection() >> connection1
+        1 * replica2.getConnection() >> connection2
+        first.is(connection1)
+        second.is(connection2)
+    }
+}